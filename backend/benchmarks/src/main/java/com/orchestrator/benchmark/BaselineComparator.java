@@ -0,0 +1,101 @@
+package com.orchestrator.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (-rf json) and exits with status 1 if
+ * any benchmark regressed by more than the threshold. Throughput scores must
+ * not drop; time-per-op scores must not rise. A benchmark without a baseline
+ * entry fails too, and so does a baselined one that produced no result: JMH
+ * skips a benchmark whose setup throws and writes nothing for it.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.orchestrator.benchmark.BaselineComparator baseline.json current.json [thresholdPercent]
+ * </pre>
+ */
+public final class BaselineComparator {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        int regressions = 0;
+        int unmatched = 0;
+        for (Map.Entry<String, Result> entry : new TreeMap<>(current).entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                unmatched++;
+                System.out.printf("NEW        %-70s %12.3f %s (not in the baseline)%n", entry.getKey(), now.score, now.unit);
+                continue;
+            }
+            // Positive change = worse, whichever direction the mode counts in
+            double change = (now.score - before.score) / before.score * 100;
+            if (now.higherIsBetter) {
+                change = -change;
+            }
+            boolean regressed = change > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-10s %-70s %12.3f -> %12.3f %s (%+.1f%%)%n",
+                regressed ? "REGRESSED" : "ok", entry.getKey(), before.score, now.score, now.unit, change);
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                unmatched++;
+                System.out.printf("MISSING    %s (no result)%n", missing);
+            }
+        }
+
+        System.out.printf("%d benchmarks, %d regressed beyond %.1f%%, %d new or missing%n",
+            current.size(), regressions, threshold, unmatched);
+        if (regressions > 0 || unmatched > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                key.append(key.indexOf("{") < 0 ? " {" : ", ")
+                    .append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            if (key.indexOf("{") >= 0) {
+                key.append('}');
+            }
+            JsonNode metric = run.path("primaryMetric");
+            results.put(key.toString(), new Result(
+                metric.path("score").asDouble(),
+                metric.path("scoreUnit").asText(),
+                "thrpt".equals(run.path("mode").asText())));
+        }
+        return results;
+    }
+
+    private record Result(double score, String unit, boolean higherIsBetter) {
+    }
+}
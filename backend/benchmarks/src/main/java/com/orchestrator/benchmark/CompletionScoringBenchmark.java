@@ -0,0 +1,80 @@
+package com.orchestrator.benchmark;
+
+import com.orchestrator.cluster.InProcessClusterEventBus;
+import com.orchestrator.dto.EmployeeRosterItem;
+import com.orchestrator.dto.LeaderboardEntry;
+import com.orchestrator.dto.RosterQuery;
+import com.orchestrator.entity.UserStatus;
+import com.orchestrator.repository.UserRepository;
+import com.orchestrator.service.EmployeeRosterService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process side of recordTaskCompletion. The counter and score arithmetic
+ * runs as one UPDATE in the database, so what remains on the JVM is
+ * re-scoring the employee's leaderboard entry and re-ranking it, plus
+ * reading the top of the board.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompletionScoringBenchmark {
+
+    @Param({"100", "10000"})
+    int employees;
+
+    private InProcessClusterEventBus clusterEventBus;
+    private EmployeeRosterService rosterService;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        Random seed = new Random(42);
+        List<EmployeeRosterItem> roster = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            int completed = seed.nextInt(500);
+            roster.add(new EmployeeRosterItem((long) i, "employee" + i, "Employee " + i, i + "@example.com",
+                UserStatus.ACTIVE, completed + seed.nextInt(50), completed, seed.nextInt(20), 0,
+                5 + seed.nextDouble() * 60));
+        }
+
+        // The board is loaded with one ordered, limited query; same order as LeaderboardEntry.RANKING
+        List<EmployeeRosterItem> board = roster.stream()
+            .sorted(Comparator.comparing(LeaderboardEntry::from, LeaderboardEntry.RANKING))
+            .toList();
+        UserRepository userRepository = Stubs.of(UserRepository.class, Map.of(
+            "findRoster", args -> ((RosterQuery) args[0]).getPage() == 0 ? roster : List.of(),
+            "findRosterItem", args -> Optional.empty(),
+            "findLeaderboard", args -> board.subList(0, Math.min(board.size(), (Integer) args[0]))));
+        clusterEventBus = new InProcessClusterEventBus("benchmark", 20, 256);
+        rosterService = new EmployeeRosterService(userRepository, clusterEventBus, 100);
+        rosterService.rebuildLeaderboard();
+        random = new Random(7);
+    }
+
+    @TearDown
+    public void tearDown() {
+        clusterEventBus.shutdown();
+    }
+
+    @Benchmark
+    public void recordTaskFinished() {
+        rosterService.recordTaskFinished((long) random.nextInt(employees), random.nextInt(10) > 0, 1 + random.nextInt(90));
+    }
+
+    @Benchmark
+    public List<LeaderboardEntry> topTen() {
+        return rosterService.getLeaderboard(10);
+    }
+}
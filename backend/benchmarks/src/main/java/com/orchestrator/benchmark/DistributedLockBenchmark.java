@@ -0,0 +1,97 @@
+package com.orchestrator.benchmark;
+
+import com.orchestrator.lock.DistributedLockService;
+import com.orchestrator.lock.RedisLockService;
+import com.orchestrator.lock.StripedLockService;
+import com.orchestrator.lock.TaskLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.redisson.Redisson;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Acquire/release round trip through DistributedLockService, one task and a
+ * batch. The local backend is the node-local stripes alone; the stub backend
+ * adds the Redis service's calls against an in-memory RedissonClient; the
+ * redis backend adds the real network round trips and needs
+ * -Dbenchmark.redis.address=redis://host:6379.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DistributedLockBenchmark {
+
+    @Param({"local", "stub"})
+    String backend;
+
+    @Param({"16"})
+    int batchSize;
+
+    private RedissonClient redissonClient;
+    private DistributedLockService lockService;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        if ("local".equals(backend)) {
+            lockService = new StripedLockService(new SimpleMeterRegistry(), 1024);
+            return;
+        }
+        if ("redis".equals(backend)) {
+            Config config = new Config();
+            config.useSingleServer()
+                .setAddress(System.getProperty("benchmark.redis.address", "redis://localhost:6379"));
+            redissonClient = Redisson.create(config);
+        } else {
+            RLock lock = Stubs.of(RLock.class, Map.of(
+                "tryLock", args -> true,
+                "unlock", args -> null));
+            AtomicLong fence = new AtomicLong();
+            RAtomicLong counter = Stubs.of(RAtomicLong.class, Map.of(
+                "compareAndSet", args -> fence.compareAndSet((Long) args[0], (Long) args[1]),
+                "addAndGet", args -> fence.addAndGet((Long) args[0])));
+            redissonClient = Stubs.of(RedissonClient.class, Map.of(
+                "getLock", args -> lock,
+                "getAtomicLong", args -> counter,
+                "shutdown", args -> null));
+        }
+        lockService = new RedisLockService(redissonClient, new SimpleMeterRegistry(), 1024);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (redissonClient != null) {
+            redissonClient.shutdown();
+        }
+    }
+
+    @Benchmark
+    public TaskLock acquireAndRelease() {
+        // A fresh key per call, as every task locks its own id
+        TaskLock lock = lockService.acquireLock("bench-" + sequence.incrementAndGet());
+        lockService.releaseLock(lock);
+        return lock;
+    }
+
+    @Benchmark
+    public List<TaskLock> acquireAndReleaseBatch() {
+        String[] taskIds = new String[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            taskIds[i] = "bench-" + sequence.incrementAndGet();
+        }
+        List<TaskLock> locks = lockService.acquireLocks(List.of(taskIds));
+        lockService.releaseLocks(locks);
+        return locks;
+    }
+}
@@ -0,0 +1,97 @@
+package com.orchestrator.benchmark;
+
+import com.orchestrator.cluster.InProcessClusterEventBus;
+import com.orchestrator.entity.EmployeeStats;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import com.orchestrator.repository.EmployeeStatsRepository;
+import com.orchestrator.service.EmployeePresenceService;
+import com.orchestrator.service.EmployeeStatsService;
+import com.orchestrator.service.TaskAssignmentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskAssignmentService.findBestEmployeeForTask over a stubbed idle list:
+ * presence filtering plus the experienced-first rule for high priorities.
+ * The repository answer is pre-built, so only the in-memory selection is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IdleEmployeeSelectionBenchmark {
+
+    @Param({"50", "1000"})
+    int idleEmployees;
+
+    private InProcessClusterEventBus clusterEventBus;
+    private TaskAssignmentService assignmentService;
+    private Task highPriorityTask;
+    private Task normalPriorityTask;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<EmployeeStats> idle = new ArrayList<>(idleEmployees);
+        for (int i = 0; i < idleEmployees; i++) {
+            User employee = new User();
+            employee.setId((long) i);
+            employee.setUsername("employee" + i);
+            employee.setRole(UserRole.EMPLOYEE);
+            EmployeeStats stats = new EmployeeStats();
+            stats.setEmployee(employee);
+            stats.setTotalTasksAssigned(random.nextInt(20));
+            stats.setTotalTasksCompleted(random.nextInt(3)); // Some have never completed a task
+            stats.setCurrentActiveTask(0);
+            stats.setPriorityScore(stats.getTotalTasksAssigned() - stats.getTotalTasksCompleted());
+            idle.add(stats);
+        }
+        idle.sort(Comparator.comparing(EmployeeStats::getPriorityScore)
+            .thenComparing(EmployeeStats::getTotalTasksAssigned));
+
+        EmployeeStatsRepository statsRepository = Stubs.of(EmployeeStatsRepository.class,
+            Map.of("findIdleEmployeesForFairDistribution", args -> idle));
+        EmployeeStatsService statsService = new EmployeeStatsService(statsRepository, null, null);
+
+        // Half of the idle employees hold a live session
+        clusterEventBus = new InProcessClusterEventBus("benchmark", 20, 256);
+        EmployeePresenceService presenceService = new EmployeePresenceService(clusterEventBus, 60_000, true);
+        for (int i = 0; i < idleEmployees; i += 2) {
+            presenceService.sessionConnected("session-" + i, (long) i);
+        }
+
+        assignmentService = new TaskAssignmentService(null, null, statsService, null, null,
+            presenceService, null, null, null, null, null, null, new SimpleMeterRegistry());
+
+        highPriorityTask = new Task();
+        highPriorityTask.setPriority(1);
+        normalPriorityTask = new Task();
+        normalPriorityTask.setPriority(3);
+    }
+
+    @TearDown
+    public void tearDown() {
+        clusterEventBus.shutdown();
+    }
+
+    @Benchmark
+    public User highPriority() {
+        return assignmentService.findBestEmployeeForTask(highPriorityTask);
+    }
+
+    @Benchmark
+    public User normalPriority() {
+        return assignmentService.findBestEmployeeForTask(normalPriorityTask);
+    }
+}
@@ -0,0 +1,80 @@
+package com.orchestrator.benchmark;
+
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordering of the pending queue as findPendingTasksByPriority returns it:
+ * priority (1 = highest), then oldest first. Compares a full sort, draining a
+ * heap, and picking only the head, which is all getNextTaskForEmployee needs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PendingQueueOrderingBenchmark {
+
+    static final Comparator<Task> PENDING_ORDER =
+        Comparator.comparing(Task::getPriority).thenComparing(Task::getCreatedAt);
+
+    @Param({"100", "10000"})
+    int pending;
+
+    private List<Task> tasks;
+
+    @Setup
+    public void seed() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        tasks = new ArrayList<>(pending);
+        for (int i = 0; i < pending; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTaskId("task-" + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(1 + random.nextInt(5));
+            task.setCreatedAt(base.plusSeconds(random.nextInt(86_400)));
+            tasks.add(task);
+        }
+    }
+
+    @Benchmark
+    public List<Task> sortAll() {
+        List<Task> ordered = new ArrayList<>(tasks);
+        ordered.sort(PENDING_ORDER);
+        return ordered;
+    }
+
+    @Benchmark
+    public void drainHeap(Blackhole blackhole) {
+        PriorityQueue<Task> queue = new PriorityQueue<>(PENDING_ORDER);
+        queue.addAll(tasks);
+        Task next;
+        while ((next = queue.poll()) != null) {
+            blackhole.consume(next);
+        }
+    }
+
+    @Benchmark
+    public Task headOnly() {
+        Task best = null;
+        for (Task task : tasks) {
+            if (best == null || PENDING_ORDER.compare(task, best) < 0) {
+                best = task;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,146 @@
+package com.orchestrator.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task list paging: the keyset predicate TaskRepositoryImpl.findPage uses
+ * against LIMIT/OFFSET, on an in-memory H2 table in MySQL mode. The cursor
+ * for the deep page points at the same rows the OFFSET query skips to, so
+ * both return the same page. Absolute numbers are H2's; the gap between the
+ * two strategies is what carries over to MySQL.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskPageBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final String KEYSET_FIRST =
+        "SELECT id, task_id, name, status, priority, created_at FROM tasks"
+            + " ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String KEYSET_NEXT =
+        "SELECT id, task_id, name, status, priority, created_at FROM tasks"
+            + " WHERE created_at < ? OR (created_at = ? AND id < ?)"
+            + " ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String KEYSET_NEXT_BY_STATUS =
+        "SELECT id, task_id, name, status, priority, created_at FROM tasks"
+            + " WHERE status = ? AND (created_at < ? OR (created_at = ? AND id < ?))"
+            + " ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String OFFSET_PAGE =
+        "SELECT id, task_id, name, status, priority, created_at FROM tasks"
+            + " ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
+
+    @Param({"2000000"})
+    int rows;
+
+    private Connection connection;
+    private PreparedStatement keysetFirst;
+    private PreparedStatement keysetNext;
+    private PreparedStatement keysetNextByStatus;
+    private PreparedStatement offsetPage;
+    private int deepOffset;
+    private Timestamp deepCursorCreatedAt;
+    private long deepCursorId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS tasks");
+            statement.execute("CREATE TABLE tasks ("
+                + " id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,"
+                + " task_id VARCHAR(255) NOT NULL,"
+                + " name VARCHAR(255),"
+                + " status VARCHAR(16),"
+                + " priority INTEGER,"
+                + " created_at TIMESTAMP(6))");
+            // Several tasks share each second, so the id tie-breaker matters
+            statement.execute("INSERT INTO tasks (task_id, name, status, priority, created_at)"
+                + " SELECT 'task-' || x, 'Task ' || x,"
+                + " CASEWHEN(MOD(x, 10) = 0, 'RUNNING', CASEWHEN(MOD(x, 10) = 1, 'PENDING', 'COMPLETED')),"
+                + " 1 + MOD(x * 7, 5),"
+                + " DATEADD('SECOND', x / 4, TIMESTAMP '2025-01-01 00:00:00')"
+                + " FROM SYSTEM_RANGE(1, " + rows + ")");
+            statement.execute("CREATE INDEX idx_tasks_created_id ON tasks (created_at, id)");
+            statement.execute("CREATE INDEX idx_tasks_status_created_id ON tasks (status, created_at, id)");
+        }
+
+        keysetFirst = connection.prepareStatement(KEYSET_FIRST);
+        keysetNext = connection.prepareStatement(KEYSET_NEXT);
+        keysetNextByStatus = connection.prepareStatement(KEYSET_NEXT_BY_STATUS);
+        offsetPage = connection.prepareStatement(OFFSET_PAGE);
+
+        // Cursor = last row of the page before the one at 90% depth
+        deepOffset = (int) (rows * 0.9) / PAGE_SIZE * PAGE_SIZE;
+        offsetPage.setInt(1, 1);
+        offsetPage.setInt(2, deepOffset - 1);
+        try (ResultSet rs = offsetPage.executeQuery()) {
+            rs.next();
+            deepCursorId = rs.getLong("id");
+            deepCursorCreatedAt = rs.getTimestamp("created_at");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE tasks");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long keysetFirstPage() throws SQLException {
+        keysetFirst.setInt(1, PAGE_SIZE + 1);
+        return drain(keysetFirst);
+    }
+
+    @Benchmark
+    public long keysetDeepPage() throws SQLException {
+        keysetNext.setTimestamp(1, deepCursorCreatedAt);
+        keysetNext.setTimestamp(2, deepCursorCreatedAt);
+        keysetNext.setLong(3, deepCursorId);
+        keysetNext.setInt(4, PAGE_SIZE + 1);
+        return drain(keysetNext);
+    }
+
+    @Benchmark
+    public long keysetDeepPageByStatus() throws SQLException {
+        keysetNextByStatus.setString(1, "RUNNING");
+        keysetNextByStatus.setTimestamp(2, deepCursorCreatedAt);
+        keysetNextByStatus.setTimestamp(3, deepCursorCreatedAt);
+        keysetNextByStatus.setLong(4, deepCursorId);
+        keysetNextByStatus.setInt(5, PAGE_SIZE + 1);
+        return drain(keysetNextByStatus);
+    }
+
+    @Benchmark
+    public long offsetDeepPage() throws SQLException {
+        offsetPage.setInt(1, PAGE_SIZE + 1);
+        offsetPage.setInt(2, deepOffset);
+        return drain(offsetPage);
+    }
+
+    private static long drain(PreparedStatement statement) throws SQLException {
+        long checksum = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                checksum += rs.getLong(1);
+            }
+        }
+        return checksum;
+    }
+}
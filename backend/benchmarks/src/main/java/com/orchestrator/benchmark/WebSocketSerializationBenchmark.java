@@ -0,0 +1,108 @@
+package com.orchestrator.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orchestrator.dto.TaskAssignmentMessage;
+import com.orchestrator.dto.TaskSummaryMessage;
+import com.orchestrator.dto.WebSocketMessage;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.TaskStatus;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import com.orchestrator.websocket.PayloadFormat;
+import com.orchestrator.websocket.WebSocketPayloadCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding one STOMP frame body. The entity baseline is what the services
+ * published before frames carried flat messages; the codec cases are what
+ * goes on the wire now, in both payload formats. Run with -prof gc to see
+ * bytes allocated per frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WebSocketSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private WebSocketPayloadCodec codec;
+    private Task task;
+    private String timestamp;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        codec = new WebSocketPayloadCodec(objectMapper);
+
+        User admin = new User();
+        admin.setId(1L);
+        admin.setUsername("admin");
+        admin.setFullName("Admin User");
+        admin.setEmail("admin@example.com");
+        admin.setRole(UserRole.ADMIN);
+        User employee = new User();
+        employee.setId(42L);
+        employee.setUsername("employee42");
+        employee.setFullName("Employee Forty-Two");
+        employee.setEmail("employee42@example.com");
+        employee.setRole(UserRole.EMPLOYEE);
+
+        LocalDateTime created = LocalDateTime.of(2026, 1, 1, 9, 0);
+        task = new Task();
+        task.setId(1000L);
+        task.setTaskId("5f0c2a8e-2b1d-4f55-9a63-0c1e7d6b2a10");
+        task.setName("Reconcile invoices");
+        task.setDescription("Match the March supplier invoices against received goods");
+        task.setStatus(TaskStatus.RUNNING);
+        task.setPriority(2);
+        task.setProgress(40);
+        task.setCreatedBy(admin);
+        task.setAssignedTo(employee);
+        task.setWorkerId("employee-42");
+        task.setRetryCount(0);
+        task.setCreatedAt(created);
+        task.setUpdatedAt(created.plusMinutes(5));
+        task.setStartTime(created.plusMinutes(1));
+        timestamp = created.plusMinutes(5).toString();
+    }
+
+    @Benchmark
+    public byte[] entityBaseline() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new WebSocketMessage("TASK_UPDATE", task, null, timestamp));
+    }
+
+    @Benchmark
+    public byte[] summaryJson() {
+        return codec.encode(summary(), PayloadFormat.JSON);
+    }
+
+    @Benchmark
+    public byte[] summaryCompact() {
+        return codec.encode(summary(), PayloadFormat.COMPACT);
+    }
+
+    @Benchmark
+    public byte[] assignmentJson() {
+        return codec.encode(assignment(), PayloadFormat.JSON);
+    }
+
+    @Benchmark
+    public byte[] assignmentCompact() {
+        return codec.encode(assignment(), PayloadFormat.COMPACT);
+    }
+
+    private WebSocketMessage summary() {
+        return new WebSocketMessage("TASK_UPDATE", TaskSummaryMessage.fromTask(task), null, timestamp);
+    }
+
+    private WebSocketMessage assignment() {
+        return new WebSocketMessage("TASK_ASSIGNED", TaskAssignmentMessage.fromTask(task), 42L, timestamp);
+    }
+}
@@ -0,0 +1,81 @@
+package com.orchestrator.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Blocking JSON calls against the REST API, timed per endpoint. The endpoint
+ * name is the path template, so every task id lands in the same histogram.
+ */
+public class ApiClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Duration timeout;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public ApiClient(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(timeout)
+            .build();
+    }
+
+    /**
+     * POST a JSON body; returns the parsed response, or null after a non-2xx
+     * status or an I/O failure (both count as errors for the endpoint)
+     */
+    public JsonNode post(String endpoint, String path, Long userId, Object body) throws InterruptedException {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, EndpointStats::new);
+        long start = System.nanoTime();
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            if (userId != null) {
+                request.header("User-Id", userId.toString());
+            }
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            if (response.statusCode() / 100 != 2) {
+                endpointStats.recordError(response.statusCode() + " " + new String(response.body(), StandardCharsets.UTF_8));
+                return null;
+            }
+            endpointStats.recordNanos(elapsed);
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            endpointStats.recordError(e.toString());
+            return null;
+        }
+    }
+
+    public void resetStats() {
+        stats.values().forEach(EndpointStats::reset);
+    }
+
+    public List<EndpointStats.Snapshot> snapshot() {
+        List<EndpointStats.Snapshot> snapshots = new ArrayList<>();
+        for (EndpointStats endpointStats : stats.values()) {
+            snapshots.add(endpointStats.snapshot());
+        }
+        return snapshots;
+    }
+}
@@ -0,0 +1,50 @@
+package com.orchestrator.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * End-to-end assignment delay: from the moment an admin sends the create
+ * request to the moment an employee holds the task. Either side may report
+ * first (an employee can pick a task up before the admin has read the create
+ * response), so each entry waits for its other half.
+ */
+public class AssignmentClock {
+
+    private final EndpointStats delay = new EndpointStats("assignment delay (create sent -> employee holds task)");
+    private final Map<String, long[]> open = new ConcurrentHashMap<>(); // taskId -> {createSentAt, heldAt}
+
+    public void created(String taskId, long sentAtNanos) {
+        open.compute(taskId, (id, times) -> {
+            if (times == null) {
+                return new long[] {sentAtNanos, 0};
+            }
+            delay.recordNanos(times[1] - sentAtNanos);
+            return null;
+        });
+    }
+
+    public void held(String taskId, long heldAtNanos) {
+        open.compute(taskId, (id, times) -> {
+            if (times == null) {
+                return new long[] {0, heldAtNanos};
+            }
+            if (times[0] == 0) {
+                return times; // Already held; get-next returned the active task again
+            }
+            delay.recordNanos(heldAtNanos - times[0]);
+            return null;
+        });
+    }
+
+    /**
+     * Tasks created but not yet picked up by any employee
+     */
+    public long getBacklog() {
+        return open.values().stream().filter(times -> times[0] != 0).count();
+    }
+
+    public EndpointStats getDelay() {
+        return delay;
+    }
+}
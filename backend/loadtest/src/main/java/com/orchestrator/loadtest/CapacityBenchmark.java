@@ -0,0 +1,210 @@
+package com.orchestrator.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.orchestrator.TaskOrchestratorApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency capacity of get-next and complete per execution mode. Boots the
+ * application in this JVM once for each of capacity.modes: platform request
+ * threads, then spring.threads.virtual.enabled. At each of capacity.concurrency
+ * it runs that many employees that create a task, take the next one with
+ * get-next and complete it, with no think time. Tomcat keeps its defaults, so
+ * platform mode serves at most server.tomcat.threads.max (200) requests at once.
+ */
+public class CapacityBenchmark {
+
+    private static final String CREATE = "POST /api/admin/tasks";
+    private static final String GET_NEXT = "POST /api/employee/tasks/get-next";
+    private static final String COMPLETE = "POST /api/employee/tasks/{taskId}/complete";
+    private static final long ERROR_BACKOFF_MS = 100;
+    private static final long SAMPLE_INTERVAL_MS = 250;
+
+    public static void main(String[] args) throws Exception {
+        Scenario scenario = Scenario.load();
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String mode : scenario.getCapacityModes()) {
+            boolean virtual = "virtual".equals(mode);
+            if (virtual && Runtime.version().feature() < 21) {
+                System.out.printf("Skipping virtual mode: it needs Java 21, this is Java %d%n",
+                    Runtime.version().feature());
+                continue;
+            }
+            // A command-line argument, because application.yaml sets the flag and outranks default properties
+            String[] arguments = Arrays.copyOf(args, args.length + 1);
+            arguments[args.length] = "--spring.threads.virtual.enabled=" + virtual;
+            ConfigurableApplicationContext application = new SpringApplicationBuilder(TaskOrchestratorApplication.class)
+                .profiles("embedded", "loadtest")
+                .run(arguments);
+            try {
+                if (application.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false) != virtual) {
+                    throw new IllegalStateException("spring.threads.virtual.enabled is overridden; cannot measure " + mode);
+                }
+                String baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+                results.addAll(measure(scenario, mode, baseUrl));
+            } finally {
+                application.close();
+            }
+        }
+
+        print(System.out, results);
+        if (!scenario.getCapacityReportJson().isBlank()) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("generatedAt", Instant.now().toString());
+            report.put("scenario", scenario.asMap());
+            report.put("java", Runtime.version().toString());
+            report.put("results", results);
+            File json = new File(scenario.getCapacityReportJson());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json, report);
+            System.out.println("Report written to " + json.getAbsolutePath());
+        }
+        System.exit(0);
+    }
+
+    private static List<Map<String, Object>> measure(Scenario scenario, String mode, String baseUrl) throws Exception {
+        ApiClient api = new ApiClient(baseUrl, Duration.ofMillis(scenario.getHttpTimeoutMs()));
+        ExecutorService users = Threads.perUserExecutor();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        List<Map<String, Object>> results = new ArrayList<>();
+        try {
+            String prefix = "cap" + Long.toString(System.currentTimeMillis(), 36);
+            Long admin = LoadTestMain.register(users, api, prefix + "-admin-", "ADMIN", 1).get(0);
+            List<Long> employees = LoadTestMain.register(users, api, prefix + "-employee-", "EMPLOYEE",
+                Collections.max(scenario.getCapacityConcurrency()));
+
+            for (int concurrency : scenario.getCapacityConcurrency()) {
+                AtomicBoolean stopped = new AtomicBoolean();
+                LongAdder cycles = new LongAdder();
+                List<Future<?>> loops = new ArrayList<>(concurrency);
+                for (int i = 0; i < concurrency; i++) {
+                    Long employee = employees.get(i);
+                    loops.add(users.submit(() -> {
+                        cycle(api, admin, employee, stopped, cycles);
+                        return null;
+                    }));
+                }
+
+                Thread.sleep(TimeUnit.SECONDS.toMillis(scenario.getCapacityWarmupSeconds()));
+                api.resetStats();
+                cycles.reset();
+                long start = System.nanoTime();
+                long end = start + TimeUnit.SECONDS.toNanos(scenario.getCapacityDurationSeconds());
+                int peakRequestThreads = 0;
+                while (System.nanoTime() < end) {
+                    peakRequestThreads = Math.max(peakRequestThreads, requestThreads(threads));
+                    Thread.sleep(SAMPLE_INTERVAL_MS);
+                }
+                List<EndpointStats.Snapshot> endpoints = api.snapshot();
+                double seconds = (System.nanoTime() - start) / 1e9;
+                long completed = cycles.sum();
+
+                // Let every employee finish its cycle so the next level starts with nobody holding a task
+                stopped.set(true);
+                for (Future<?> loop : loops) {
+                    loop.get();
+                }
+
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("mode", mode);
+                result.put("concurrency", concurrency);
+                result.put("cyclesPerSecond", completed / seconds);
+                result.put("peakRequestThreads", peakRequestThreads);
+                List<Map<String, Object>> rows = new ArrayList<>();
+                for (EndpointStats.Snapshot endpoint : endpoints) {
+                    if (endpoint.count() > 0 || endpoint.errors() > 0) { // Registration ran before the window
+                        rows.add(LoadTestReport.row(endpoint, seconds));
+                    }
+                }
+                rows.sort((a, b) -> ((String) a.get("name")).compareTo((String) b.get("name")));
+                result.put("endpoints", rows);
+                results.add(result);
+                System.out.printf("%s, %d employees: %.1f cycles/s%n", mode, concurrency, completed / seconds);
+            }
+        } finally {
+            users.shutdownNow();
+            users.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        return results;
+    }
+
+    /**
+     * One employee: create a task, take the next one, complete it. A task once
+     * held is always completed, even after stop, so nothing stays assigned.
+     */
+    private static void cycle(ApiClient api, Long admin, Long employee, AtomicBoolean stopped, LongAdder cycles)
+            throws InterruptedException {
+        int sequence = 0;
+        while (!stopped.get()) {
+            api.post(CREATE, "/api/admin/tasks", admin, Map.of(
+                "name", "Capacity task " + employee + "-" + (++sequence),
+                "description", "Created by the capacity benchmark",
+                "priority", 3));
+            JsonNode task = api.post(GET_NEXT, "/api/employee/tasks/get-next", employee, null);
+            if (task == null) {
+                Thread.sleep(ERROR_BACKOFF_MS);
+                continue;
+            }
+            if (!task.hasNonNull("taskId")) {
+                continue; // Every pending task was taken by someone else first
+            }
+            String path = "/api/employee/tasks/" + task.get("taskId").asText() + "/complete";
+            if (api.post(COMPLETE, path, employee, Map.of("message", "Done")) != null) {
+                cycles.increment();
+            }
+        }
+    }
+
+    /**
+     * Tomcat worker threads alive right now. Virtual request threads are not
+     * platform threads, so the MXBean does not list them and they count as zero.
+     */
+    private static int requestThreads(ThreadMXBean threads) {
+        int count = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && info.getThreadName().startsWith("http-nio-") && info.getThreadName().contains("-exec-")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(PrintStream out, List<Map<String, Object>> results) {
+        out.printf("%n%-8s %11s %10s %22s%n", "mode", "employees", "cycles/s", "peak request threads");
+        for (Map<String, Object> result : results) {
+            out.printf("%-8s %11d %10.1f %22d%n", result.get("mode"), result.get("concurrency"),
+                result.get("cyclesPerSecond"), result.get("peakRequestThreads"));
+        }
+        for (Map<String, Object> result : results) {
+            out.printf("%n%s, %d employees%n", result.get("mode"), result.get("concurrency"));
+            out.printf("%-60s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (Map<String, Object> row : (List<Map<String, Object>>) result.get("endpoints")) {
+                LoadTestReport.printRow(out, row);
+            }
+        }
+        out.println();
+    }
+}
@@ -0,0 +1,69 @@
+package com.orchestrator.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and error count for one endpoint (or one derived measurement such
+ * as assignment delay). Latencies are recorded in microseconds.
+ */
+public class EndpointStats {
+
+    private static final long MAX_TRACKABLE_US = TimeUnit.MINUTES.toMicros(10);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_TRACKABLE_US, 3);
+    private final LongAdder errors = new LongAdder();
+    private volatile String lastError;
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void recordNanos(long nanos) {
+        recorder.recordValue(Math.min(Math.max(nanos / 1000, 0), MAX_TRACKABLE_US));
+    }
+
+    public void recordError(String description) {
+        errors.increment();
+        lastError = description;
+    }
+
+    /**
+     * Drop everything recorded so far; called when the warm-up ends
+     */
+    public void reset() {
+        recorder.reset();
+        errors.reset();
+        lastError = null;
+    }
+
+    /**
+     * Everything recorded since the last reset or snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(name, recorder.getIntervalHistogram(), errors.sumThenReset(), lastError);
+    }
+
+    public record Snapshot(String name, Histogram histogram, long errors, String lastError) {
+
+        public long count() {
+            return histogram.getTotalCount();
+        }
+
+        public double percentileMs(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double maxMs() {
+            return histogram.getMaxValue() / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.orchestrator.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.orchestrator.TaskOrchestratorApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs one load scenario end to end: boot (or locate) the application,
+ * register the simulated users, ramp them up, discard the warm-up, measure,
+ * and report. See scenario.properties for the knobs.
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        Scenario scenario = Scenario.load();
+
+        ConfigurableApplicationContext application = null;
+        String baseUrl = scenario.getBaseUrl();
+        if (scenario.isEmbedded()) {
+            application = new SpringApplicationBuilder(TaskOrchestratorApplication.class)
+                .profiles("embedded", "loadtest")
+                .run(args);
+            baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+        }
+        System.out.printf("Driving %s with %d admins and %d employees%n",
+            baseUrl, scenario.getAdmins(), scenario.getEmployees());
+
+        ApiClient api = new ApiClient(baseUrl, Duration.ofMillis(scenario.getHttpTimeoutMs()));
+        StompSessions stompSessions = scenario.isStomp() ? new StompSessions(baseUrl) : null;
+        LoadTestRun run = new LoadTestRun(scenario, api, stompSessions);
+        ExecutorService users = Threads.perUserExecutor();
+        try {
+            // Unique per run so a long-lived deployment can be driven repeatedly
+            String prefix = "lt" + Long.toString(System.currentTimeMillis(), 36);
+            List<Long> admins = register(users, api, prefix + "-admin-", "ADMIN", scenario.getAdmins());
+            List<Long> employees = register(users, api, prefix + "-employee-", "EMPLOYEE", scenario.getEmployees());
+
+            long rampUpMs = TimeUnit.SECONDS.toMillis(scenario.getRampUpSeconds());
+            for (int i = 0; i < admins.size(); i++) {
+                users.execute(new SimulatedAdmin(run, admins.get(i), rampUpMs * i / admins.size(),
+                    scenario.getSeed() + i));
+            }
+            for (int i = 0; i < employees.size(); i++) {
+                users.execute(new SimulatedEmployee(run, employees.get(i), rampUpMs * i / employees.size(),
+                    scenario.getSeed() + admins.size() + i));
+            }
+
+            Thread.sleep(rampUpMs + TimeUnit.SECONDS.toMillis(scenario.getWarmupSeconds()));
+            run.resetMeasurements();
+            long measureStart = System.nanoTime();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(scenario.getDurationSeconds()));
+            List<EndpointStats.Snapshot> endpoints = api.snapshot();
+            EndpointStats.Snapshot assignmentDelay = run.getAssignmentClock().getDelay().snapshot();
+            double seconds = (System.nanoTime() - measureStart) / 1e9;
+            LoadTestReport report = new LoadTestReport(run, Threads.describe(users), seconds, endpoints, assignmentDelay);
+            run.stop();
+
+            report.print(System.out);
+            if (!scenario.getReportJson().isBlank()) {
+                File json = new File(scenario.getReportJson());
+                report.writeJson(json);
+                System.out.println("Report written to " + json.getAbsolutePath());
+            }
+        } finally {
+            run.stop();
+            users.shutdownNow();
+            users.awaitTermination(30, TimeUnit.SECONDS);
+            if (stompSessions != null) {
+                stompSessions.close();
+            }
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    static List<Long> register(ExecutorService executor, ApiClient api, String prefix, String role, int count)
+            throws Exception {
+        List<Future<JsonNode>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String username = prefix + i;
+            responses.add(executor.submit(() -> api.post("POST /api/auth/register", "/api/auth/register", null, Map.of(
+                "username", username,
+                "password", "loadtest",
+                "fullName", "Load Test " + username,
+                "email", username + "@loadtest.local",
+                "role", role))));
+        }
+        List<Long> ids = new ArrayList<>(count);
+        for (Future<JsonNode> response : responses) {
+            JsonNode user = response.get();
+            if (user == null || !user.hasNonNull("id")) {
+                throw new IllegalStateException("Registering " + role + " users failed; is " + prefix + "* taken?");
+            }
+            ids.add(user.get("id").asLong());
+        }
+        return ids;
+    }
+}
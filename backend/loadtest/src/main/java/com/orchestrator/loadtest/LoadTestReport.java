@@ -0,0 +1,124 @@
+package com.orchestrator.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency of the measured window, printed as a table and
+ * optionally written as JSON next to the scenario that produced it
+ */
+public class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, Object> report = new LinkedHashMap<>();
+
+    public LoadTestReport(LoadTestRun run, String threads, double seconds, List<EndpointStats.Snapshot> endpoints,
+                          EndpointStats.Snapshot assignmentDelay) {
+        endpoints.sort(Comparator.comparing(EndpointStats.Snapshot::name));
+        report.put("generatedAt", Instant.now().toString());
+        report.put("scenario", run.getScenario().asMap());
+        report.put("threads", threads);
+        report.put("measuredSeconds", seconds);
+
+        Map<String, Object> tasks = new LinkedHashMap<>();
+        tasks.put("created", run.getTasksCreated().sum());
+        tasks.put("completed", run.getTasksCompleted().sum());
+        tasks.put("failed", run.getTasksFailed().sum());
+        tasks.put("createdPerSecond", run.getTasksCreated().sum() / seconds);
+        tasks.put("finishedPerSecond", (run.getTasksCompleted().sum() + run.getTasksFailed().sum()) / seconds);
+        tasks.put("backlogAtEnd", run.getAssignmentClock().getBacklog());
+        tasks.put("emptyPolls", run.getEmptyPolls().sum());
+        report.put("tasks", tasks);
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (EndpointStats.Snapshot endpoint : endpoints) {
+            rows.add(row(endpoint, seconds));
+        }
+        report.put("endpoints", rows);
+        report.put("assignmentDelay", row(assignmentDelay, seconds));
+
+        StompSessions stomp = run.getStompSessions();
+        if (stomp != null) {
+            Map<String, Object> sessions = new LinkedHashMap<>();
+            sessions.put("connected", stomp.getConnected());
+            sessions.put("connectFailures", stomp.getConnectFailures());
+            sessions.put("framesReceived", stomp.getFramesReceived());
+            report.put("stomp", sessions);
+        }
+    }
+
+    static Map<String, Object> row(EndpointStats.Snapshot snapshot, double seconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("name", snapshot.name());
+        row.put("count", snapshot.count());
+        row.put("errors", snapshot.errors());
+        row.put("perSecond", snapshot.count() / seconds);
+        for (double percentile : PERCENTILES) {
+            row.put("p" + format(percentile) + "Ms", snapshot.percentileMs(percentile));
+        }
+        row.put("maxMs", snapshot.maxMs());
+        if (snapshot.lastError() != null) {
+            row.put("lastError", snapshot.lastError());
+        }
+        return row;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void print(PrintStream out) {
+        out.println();
+        out.printf("Scenario %s, %s threads, %.1f s measured%n",
+            ((Map<String, String>) report.get("scenario")).get("scenario.name"), report.get("threads"),
+            report.get("measuredSeconds"));
+        ((Map<String, String>) report.get("scenario")).forEach((key, value) -> out.printf("  %-28s %s%n", key, value));
+
+        Map<String, Object> tasks = (Map<String, Object>) report.get("tasks");
+        out.printf("%nTasks: %d created (%.1f/s), %d completed + %d failed (%.1f/s), backlog at end %d, empty polls %d%n",
+            tasks.get("created"), tasks.get("createdPerSecond"), tasks.get("completed"), tasks.get("failed"),
+            tasks.get("finishedPerSecond"), tasks.get("backlogAtEnd"), tasks.get("emptyPolls"));
+        if (report.containsKey("stomp")) {
+            Map<String, Object> stomp = (Map<String, Object>) report.get("stomp");
+            out.printf("STOMP: %d sessions connected, %d connect failures, %d frames received%n",
+                stomp.get("connected"), stomp.get("connectFailures"), stomp.get("framesReceived"));
+        }
+
+        out.printf("%n%-60s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map<String, Object> row : (List<Map<String, Object>>) report.get("endpoints")) {
+            printRow(out, row);
+        }
+        printRow(out, (Map<String, Object>) report.get("assignmentDelay"));
+        for (Map<String, Object> row : (List<Map<String, Object>>) report.get("endpoints")) {
+            if (row.containsKey("lastError")) {
+                out.printf("  last error on %s: %s%n", row.get("name"), row.get("lastError"));
+            }
+        }
+        out.println();
+    }
+
+    static void printRow(PrintStream out, Map<String, Object> row) {
+        out.printf("%-60s %9d %7d %9.1f", row.get("name"), row.get("count"), row.get("errors"), row.get("perSecond"));
+        for (double percentile : PERCENTILES) {
+            out.printf(" %9.2f", row.get("p" + format(percentile) + "Ms"));
+        }
+        out.printf(" %9.2f%n", row.get("maxMs"));
+    }
+
+    public void writeJson(File file) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,98 @@
+package com.orchestrator.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * State shared by every simulated user of one run
+ */
+public class LoadTestRun {
+
+    private final Scenario scenario;
+    private final ApiClient api;
+    private final AssignmentClock assignmentClock = new AssignmentClock();
+    private final StompSessions stompSessions;
+    private final LongAdder tasksCreated = new LongAdder();
+    private final LongAdder tasksCompleted = new LongAdder();
+    private final LongAdder tasksFailed = new LongAdder();
+    private final LongAdder emptyPolls = new LongAdder();
+    private volatile boolean stopped;
+
+    public LoadTestRun(Scenario scenario, ApiClient api, StompSessions stompSessions) {
+        this.scenario = scenario;
+        this.api = api;
+        this.stompSessions = stompSessions;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public ApiClient getApi() {
+        return api;
+    }
+
+    public AssignmentClock getAssignmentClock() {
+        return assignmentClock;
+    }
+
+    /**
+     * Null when the scenario runs without STOMP sessions
+     */
+    public StompSessions getStompSessions() {
+        return stompSessions;
+    }
+
+    public LongAdder getTasksCreated() {
+        return tasksCreated;
+    }
+
+    public LongAdder getTasksCompleted() {
+        return tasksCompleted;
+    }
+
+    public LongAdder getTasksFailed() {
+        return tasksFailed;
+    }
+
+    public LongAdder getEmptyPolls() {
+        return emptyPolls;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Start of the measured window: drop everything recorded during ramp-up and warm-up
+     */
+    public void resetMeasurements() {
+        api.resetStats();
+        assignmentClock.getDelay().reset();
+        tasksCreated.reset();
+        tasksCompleted.reset();
+        tasksFailed.reset();
+        emptyPolls.reset();
+        if (stompSessions != null) {
+            stompSessions.resetFramesReceived();
+        }
+    }
+
+    /**
+     * Sleep unless the run has been stopped; false once it has
+     */
+    public boolean pause(long millis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + millis;
+        while (!stopped) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return true;
+            }
+            Thread.sleep(Math.min(remaining, 250));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,164 @@
+package com.orchestrator.loadtest;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Load scenario: scenario.properties from the classpath (or the file named by
+ * -Dscenario), with any key overridden by a system property of the same name.
+ */
+public class Scenario {
+
+    private final Properties properties;
+
+    private Scenario(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static Scenario load() throws IOException {
+        Properties properties = new Properties();
+        String file = System.getProperty("scenario");
+        try (InputStream in = file != null
+                ? new FileInputStream(file)
+                : Scenario.class.getResourceAsStream("/scenario.properties")) {
+            if (in == null) {
+                throw new IOException("scenario.properties not found on the classpath");
+            }
+            properties.load(in);
+        }
+        for (String key : properties.stringPropertyNames()) {
+            String override = System.getProperty(key);
+            if (override != null) {
+                properties.setProperty(key, override);
+            }
+        }
+        return new Scenario(properties);
+    }
+
+    public String getName() {
+        return string("scenario.name");
+    }
+
+    public boolean isEmbedded() {
+        return "embedded".equals(string("target"));
+    }
+
+    public String getBaseUrl() {
+        return string("base-url");
+    }
+
+    public int getAdmins() {
+        return integer("admins");
+    }
+
+    public int getEmployees() {
+        return integer("employees");
+    }
+
+    public int getRampUpSeconds() {
+        return integer("ramp-up-seconds");
+    }
+
+    public int getWarmupSeconds() {
+        return integer("warmup-seconds");
+    }
+
+    public int getDurationSeconds() {
+        return integer("duration-seconds");
+    }
+
+    public long getAdminThinkTimeMs() {
+        return integer("admin.think-time-ms");
+    }
+
+    public int getMaxPriority() {
+        return integer("admin.max-priority");
+    }
+
+    public long getWaitTimeoutMs() {
+        return integer("employee.wait-timeout-ms");
+    }
+
+    public long getWorkTimeMs() {
+        return integer("employee.work-time-ms");
+    }
+
+    public int getProgressUpdates() {
+        return integer("employee.progress-updates");
+    }
+
+    public double getFailureRate() {
+        return Double.parseDouble(string("employee.failure-rate"));
+    }
+
+    public boolean isStomp() {
+        return Boolean.parseBoolean(string("employee.stomp"));
+    }
+
+    public long getHttpTimeoutMs() {
+        return integer("http.timeout-ms");
+    }
+
+    public long getSeed() {
+        return Long.parseLong(string("seed"));
+    }
+
+    public List<Integer> getCapacityConcurrency() {
+        return Arrays.stream(string("capacity.concurrency").split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .collect(Collectors.toList());
+    }
+
+    public List<String> getCapacityModes() {
+        return Arrays.stream(string("capacity.modes").split(","))
+            .map(String::trim)
+            .collect(Collectors.toList());
+    }
+
+    public int getCapacityWarmupSeconds() {
+        return integer("capacity.warmup-seconds");
+    }
+
+    public int getCapacityDurationSeconds() {
+        return integer("capacity.duration-seconds");
+    }
+
+    public String getReportJson() {
+        return properties.getProperty("report.json", "");
+    }
+
+    public String getCapacityReportJson() {
+        return properties.getProperty("capacity.report.json", "");
+    }
+
+    /**
+     * Every resolved key, sorted, for the report
+     */
+    public Map<String, String> asMap() {
+        Map<String, String> values = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        return values;
+    }
+
+    private String string(String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Scenario property '" + key + "' is not set");
+        }
+        return value.trim();
+    }
+
+    private int integer(String key) {
+        return Integer.parseInt(string(key));
+    }
+}
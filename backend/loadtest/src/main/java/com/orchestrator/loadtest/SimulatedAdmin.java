@@ -0,0 +1,55 @@
+package com.orchestrator.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Creates a task, pauses for the think time, repeats
+ */
+public class SimulatedAdmin implements Runnable {
+
+    private static final String CREATE = "POST /api/admin/tasks";
+
+    private final LoadTestRun run;
+    private final Long userId;
+    private final long startDelayMs;
+    private final Random random;
+
+    public SimulatedAdmin(LoadTestRun run, Long userId, long startDelayMs, long seed) {
+        this.run = run;
+        this.userId = userId;
+        this.startDelayMs = startDelayMs;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void run() {
+        Scenario scenario = run.getScenario();
+        long thinkTime = scenario.getAdminThinkTimeMs();
+        int sequence = 0;
+        try {
+            if (!run.pause(startDelayMs)) {
+                return;
+            }
+            while (!run.isStopped()) {
+                sequence++;
+                Map<String, Object> request = Map.of(
+                    "name", "Load task " + userId + "-" + sequence,
+                    "description", "Created by the load test harness",
+                    "priority", 1 + random.nextInt(scenario.getMaxPriority()));
+                long sentAt = System.nanoTime();
+                JsonNode task = run.getApi().post(CREATE, "/api/admin/tasks", userId, request);
+                if (task != null && task.hasNonNull("taskId")) {
+                    run.getTasksCreated().increment();
+                    run.getAssignmentClock().created(task.get("taskId").asText(), sentAt);
+                }
+                // Uniform +/-50% so admins do not fire in lockstep
+                run.pause(thinkTime / 2 + (long) (random.nextDouble() * thinkTime));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
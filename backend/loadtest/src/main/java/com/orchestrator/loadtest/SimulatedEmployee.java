@@ -0,0 +1,84 @@
+package com.orchestrator.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Waits for the next task, reports progress while working on it, then
+ * completes or fails it, and repeats
+ */
+public class SimulatedEmployee implements Runnable {
+
+    private static final String GET_NEXT = "POST /api/employee/tasks/get-next/wait";
+    private static final String PROGRESS = "POST /api/employee/tasks/{taskId}/progress";
+    private static final String COMPLETE = "POST /api/employee/tasks/{taskId}/complete";
+    private static final String FAIL = "POST /api/employee/tasks/{taskId}/fail";
+    private static final long ERROR_BACKOFF_MS = 1000;
+
+    private final LoadTestRun run;
+    private final Long userId;
+    private final long startDelayMs;
+    private final Random random;
+
+    public SimulatedEmployee(LoadTestRun run, Long userId, long startDelayMs, long seed) {
+        this.run = run;
+        this.userId = userId;
+        this.startDelayMs = startDelayMs;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void run() {
+        Scenario scenario = run.getScenario();
+        ApiClient api = run.getApi();
+        try {
+            if (!run.pause(startDelayMs)) {
+                return;
+            }
+            if (run.getStompSessions() != null) {
+                run.getStompSessions().connect(userId);
+            }
+            while (!run.isStopped()) {
+                JsonNode task = api.post(GET_NEXT,
+                    "/api/employee/tasks/get-next/wait?timeoutMs=" + scenario.getWaitTimeoutMs(), userId, null);
+                if (task == null) {
+                    run.pause(ERROR_BACKOFF_MS);
+                    continue;
+                }
+                if (!task.hasNonNull("taskId")) {
+                    run.getEmptyPolls().increment(); // Timed out or superseded
+                    continue;
+                }
+                String taskId = task.get("taskId").asText();
+                run.getAssignmentClock().held(taskId, System.nanoTime());
+                work(api, scenario, taskId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void work(ApiClient api, Scenario scenario, String taskId) throws InterruptedException {
+        String path = "/api/employee/tasks/" + taskId;
+        int updates = scenario.getProgressUpdates();
+        long step = scenario.getWorkTimeMs() / (updates + 1);
+        for (int i = 1; i <= updates; i++) {
+            if (!run.pause(step)) {
+                return;
+            }
+            api.post(PROGRESS, path + "/progress", userId, Map.of("progress", i * 100 / (updates + 1)));
+        }
+        if (!run.pause(step)) {
+            return;
+        }
+        if (random.nextDouble() < scenario.getFailureRate()) {
+            if (api.post(FAIL, path + "/fail", userId, Map.of("message", "Simulated failure")) != null) {
+                run.getTasksFailed().increment();
+            }
+        } else if (api.post(COMPLETE, path + "/complete", userId, Map.of("message", "Done")) != null) {
+            run.getTasksCompleted().increment();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.orchestrator.loadtest;
+
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One STOMP session per simulated employee, identified with the same User-Id
+ * header as the REST calls, so the server counts the employee as present.
+ * Frames on the employee's destinations are only counted.
+ */
+public class StompSessions {
+
+    private static final long HEARTBEAT_MS = 10000;
+
+    private final WebSocketStompClient stompClient;
+    private final ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+    private final String url;
+    private final List<StompSession> sessions = new CopyOnWriteArrayList<>();
+    private final LongAdder framesReceived = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+
+    private final StompFrameHandler frameCounter = new StompFrameHandler() {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            framesReceived.increment();
+        }
+    };
+
+    public StompSessions(String baseUrl) {
+        this.url = baseUrl.replaceFirst("^http", "ws") + "/ws";
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("stomp-heartbeat-");
+        heartbeatScheduler.initialize();
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new SimpleMessageConverter());   // no content-type check, frames arrive as JSON
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[] {HEARTBEAT_MS, HEARTBEAT_MS});
+    }
+
+    public void connect(Long userId) throws InterruptedException {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("User-Id", userId.toString());
+        try {
+            StompSession session = stompClient
+                .connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() { })
+                .get(30, TimeUnit.SECONDS);
+            // Assignments are announced on the per-employee topic; the user queue
+            // carries completion/failure notices
+            session.subscribe("/topic/task.assigned." + userId, frameCounter);
+            session.subscribe("/user/" + userId + "/queue/tasks", frameCounter);
+            sessions.add(session);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            connectFailures.increment();
+        }
+    }
+
+    public long getFramesReceived() {
+        return framesReceived.sum();
+    }
+
+    public void resetFramesReceived() {
+        framesReceived.reset();
+    }
+
+    public int getConnected() {
+        return (int) sessions.stream().filter(StompSession::isConnected).count();
+    }
+
+    public long getConnectFailures() {
+        return connectFailures.sum();
+    }
+
+    public void close() {
+        for (StompSession session : sessions) {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+        stompClient.stop();
+        heartbeatScheduler.shutdown();
+    }
+}
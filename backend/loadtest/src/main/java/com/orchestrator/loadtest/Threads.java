@@ -0,0 +1,34 @@
+package com.orchestrator.loadtest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One thread per simulated user. Virtual threads when the JVM has them
+ * (Java 21+); the harness itself targets Java 17 like the application, so on
+ * older runtimes it falls back to daemon platform threads.
+ */
+final class Threads {
+
+    private Threads() {
+    }
+
+    static ExecutorService perUserExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger sequence = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                // Simulated users mostly block on I/O and sleep; a small stack is plenty
+                Thread thread = new Thread(null, runnable, "user-" + sequence.incrementAndGet(), 256 * 1024);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    static String describe(ExecutorService executor) {
+        return executor.getClass().getName().contains("ThreadPerTask") ? "virtual" : "platform";
+    }
+}
@@ -0,0 +1,48 @@
+#!/bin/sh
+# Starts the embedded single-node profile with startup-oriented JVM settings:
+#  - C1 only (-XX:TieredStopAtLevel=1): C2 compiler threads otherwise compete
+#    with startup for the CPU, which dominates on small machines;
+#  - an AppCDS archive of the classes loaded while the context starts, written
+#    by a training run the first time (and again after each mvn package).
+# CDS needs plain jars on the class path, so the dependencies are unpacked from
+# the Boot jar next to the -lib jar. Extra arguments go to Spring, e.g.
+#   ./run-embedded.sh --embedded.data-dir=./data --server.port=8080
+# JAVA_OPTS is appended, so -XX:TieredStopAtLevel=4 there restores full JIT
+# for long-running throughput.
+set -e
+cd "$(dirname "$0")"
+
+LIB_JAR=$(ls target/task-orchestrator-*-lib.jar 2>/dev/null | head -n 1)
+if [ -z "$LIB_JAR" ]; then
+    echo "Build first: mvn package -DskipTests" >&2
+    exit 1
+fi
+BOOT_JAR=${LIB_JAR%-lib.jar}.jar
+WORK=target/embedded
+
+if [ ! -f "$WORK/unpacked" ] || [ "$BOOT_JAR" -nt "$WORK/unpacked" ]; then
+    rm -rf "$WORK"
+    mkdir -p "$WORK"
+    (cd "$WORK" && jar xf "../../$BOOT_JAR" BOOT-INF/lib)
+    touch "$WORK/unpacked"
+fi
+CLASSPATH="$LIB_JAR:$(ls "$WORK"/BOOT-INF/lib/*.jar | tr '\n' ':' | sed 's/:$//')"
+MAIN=com.orchestrator.TaskOrchestratorApplication
+OPTS="-XX:TieredStopAtLevel=1 $JAVA_OPTS"
+
+if [ ! -f "$WORK/app.jsa" ]; then
+    echo "Writing the class data archive (one-time training start)..."
+    # spring.context.exit=onRefresh stops right after the context has started,
+    # which Spring reports as an abandoned run, so the exit status is not checked
+    java $OPTS -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.context.exit=onRefresh \
+        -cp "$CLASSPATH" $MAIN --spring.profiles.active=embedded \
+        --embedded.data-dir="$WORK/training-data" --server.port=0 > "$WORK/training.log" 2>&1 || true
+    rm -rf "$WORK/training-data"
+    if [ ! -f "$WORK/app.jsa" ]; then
+        echo "Training start failed, see $WORK/training.log" >&2
+        exit 1
+    fi
+fi
+
+exec java $OPTS -XX:SharedArchiveFile="$WORK/app.jsa" -cp "$CLASSPATH" $MAIN \
+    --spring.profiles.active=embedded "$@"
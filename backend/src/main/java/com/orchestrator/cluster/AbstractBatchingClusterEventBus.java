@@ -0,0 +1,139 @@
+package com.orchestrator.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Batching and de-duplication shared by every transport.
+ *
+ * Published events are held for one batch window (or until the batch is full)
+ * and shipped as a single {@link ClusterEventBatch}. Events carrying the same
+ * coalesce key within a window collapse to the latest one. On receipt, each
+ * origin node's sequence numbers must increase, so redelivered events are dropped.
+ */
+@Slf4j
+public abstract class AbstractBatchingClusterEventBus implements ClusterEventBus {
+
+    private final String nodeId;
+    private final int maxBatchSize;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, ClusterEvent> pending = new LinkedHashMap<>();
+    private final Map<String, Long> lastSeenSequence = new ConcurrentHashMap<>();
+    private final List<Consumer<ClusterEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final ClusterLatencyStats latencyStats = new ClusterLatencyStats();
+    private final ScheduledExecutorService flusher;
+
+    protected AbstractBatchingClusterEventBus(String nodeId, long batchWindowMs, int maxBatchSize) {
+        this.nodeId = nodeId;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cluster-event-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, batchWindowMs, batchWindowMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** Ship a batch to the other nodes */
+    protected abstract void transmit(ClusterEventBatch batch);
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(ClusterEvent event) {
+        boolean full;
+        synchronized (pending) {
+            event.setSequence(sequence.incrementAndGet());
+            event.setPublishedAt(System.currentTimeMillis());
+            String key = event.getCoalesceKey() != null ? event.getCoalesceKey() : "#" + event.getSequence();
+            // Re-insert at the tail so sequences within a batch stay increasing
+            pending.remove(key);
+            pending.put(key, event);
+            full = pending.size() >= maxBatchSize;
+        }
+        if (full) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public ClusterLatencyStats getLatencyStats() {
+        return latencyStats;
+    }
+
+    /** Called by the transport for every batch it receives, including our own */
+    protected void receive(ClusterEventBatch batch) {
+        String origin = batch.getOriginNode();
+        if (nodeId.equals(origin) || batch.getEvents() == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (ClusterEvent event : batch.getEvents()) {
+            if (!markSeen(origin, event.getSequence())) {
+                latencyStats.recordDuplicate();
+                continue;
+            }
+            latencyStats.recordReceived(now - event.getPublishedAt());
+            for (Consumer<ClusterEvent> listener : listeners) {
+                try {
+                    listener.accept(event);
+                } catch (Exception e) {
+                    log.error("Failed to deliver cluster event {} from node {}", event.getSequence(), origin, e);
+                }
+            }
+        }
+    }
+
+    private boolean markSeen(String origin, long eventSequence) {
+        boolean[] fresh = {false};
+        lastSeenSequence.compute(origin, (key, last) -> {
+            if (last == null || eventSequence > last) {
+                fresh[0] = true;
+                return eventSequence;
+            }
+            return last;
+        });
+        return fresh[0];
+    }
+
+    private void flush() {
+        List<ClusterEvent> events;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            events = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        try {
+            transmit(new ClusterEventBatch(nodeId, events));
+        } catch (Exception e) {
+            log.error("Failed to relay {} cluster events", events.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+}
@@ -0,0 +1,42 @@
+package com.orchestrator.cluster;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.orchestrator.websocket.DeliveryPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A broker frame produced on one node that every other node must
+ * fan out to its own WebSocket sessions.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClusterEvent {
+    
+    /** Destinations with this prefix are node-to-node control events, never broker frames */
+    public static final String INTERNAL_PREFIX = "cluster:";
+    
+    private long sequence;          // Assigned by the publishing node, strictly increasing
+    private String destination;
+    private Object payload;
+    private DeliveryPolicy policy;
+    private long publishedAt;       // Epoch millis on the publishing node
+
+    @JsonIgnore
+    private String coalesceKey;     // Later events with the same key replace earlier ones in a batch
+
+    public static ClusterEvent of(String destination, Object payload, DeliveryPolicy policy, String coalesceKey) {
+        ClusterEvent event = new ClusterEvent();
+        event.setDestination(destination);
+        event.setPayload(payload);
+        event.setPolicy(policy);
+        event.setCoalesceKey(coalesceKey);
+        return event;
+    }
+
+    public static boolean isInternal(String destination) {
+        return destination != null && destination.startsWith(INTERNAL_PREFIX);
+    }
+}
@@ -0,0 +1,14 @@
+package com.orchestrator.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClusterEventBatch {
+    private String originNode;
+    private List<ClusterEvent> events;
+}
@@ -0,0 +1,19 @@
+package com.orchestrator.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Relays WebSocket-bound events between API nodes. Each node publishes what it
+ * produced and receives only what other nodes produced; local fan-out stays local.
+ */
+public interface ClusterEventBus {
+
+    String getNodeId();
+
+    void publish(ClusterEvent event);
+
+    /** Listener is invoked for events that originated on other nodes */
+    void subscribe(Consumer<ClusterEvent> listener);
+
+    ClusterLatencyStats getLatencyStats();
+}
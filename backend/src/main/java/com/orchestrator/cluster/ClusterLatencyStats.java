@@ -0,0 +1,39 @@
+package com.orchestrator.cluster;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cross-node delivery latency (publish on the origin node to receipt here).
+ * Relies on node clocks being NTP-synchronised.
+ */
+public class ClusterLatencyStats {
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder totalLatencyMs = new LongAdder();
+    private final LongAccumulator maxLatencyMs = new LongAccumulator(Math::max, 0);
+
+    void recordReceived(long latencyMs) {
+        long latency = Math.max(0, latencyMs);
+        received.increment();
+        totalLatencyMs.add(latency);
+        maxLatencyMs.accumulate(latency);
+    }
+
+    void recordDuplicate() {
+        duplicates.increment();
+    }
+
+    public Map<String, Object> snapshot() {
+        long count = received.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("received", count);
+        stats.put("duplicatesDropped", duplicates.sum());
+        stats.put("averageLatencyMs", count == 0 ? 0.0 : (double) totalLatencyMs.sum() / count);
+        stats.put("maxLatencyMs", maxLatencyMs.get());
+        return stats;
+    }
+}
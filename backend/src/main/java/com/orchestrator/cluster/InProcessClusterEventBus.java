@@ -0,0 +1,41 @@
+package com.orchestrator.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Cluster bus for a single JVM. Every instance created in the process is a
+ * node, so several application contexts started side by side (as in tests)
+ * relay to each other exactly as separate servers would over Redis.
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.event-bus", havingValue = "in-process")
+public class InProcessClusterEventBus extends AbstractBatchingClusterEventBus {
+
+    private static final List<InProcessClusterEventBus> NODES = new CopyOnWriteArrayList<>();
+
+    public InProcessClusterEventBus(
+            @Value("${cluster.node-name:node}") String nodeName,
+            @Value("${cluster.batch-window-ms:20}") long batchWindowMs,
+            @Value("${cluster.max-batch-size:256}") int maxBatchSize) {
+        super(nodeName + "-" + UUID.randomUUID().toString().substring(0, 8), batchWindowMs, maxBatchSize);
+        NODES.add(this);
+    }
+
+    @Override
+    protected void transmit(ClusterEventBatch batch) {
+        for (InProcessClusterEventBus node : NODES) {
+            node.receive(batch);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        NODES.remove(this);
+    }
+}
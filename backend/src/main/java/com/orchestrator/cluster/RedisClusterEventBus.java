@@ -0,0 +1,42 @@
+package com.orchestrator.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.codec.JsonJacksonCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.UUID;
+
+/**
+ * Cluster bus over a Redis pub/sub channel on the shared Redisson client.
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.event-bus", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisClusterEventBus extends AbstractBatchingClusterEventBus {
+
+    public static final String TOPIC = "orchestrator:cluster:events";
+
+    private final RTopic topic;
+
+    public RedisClusterEventBus(
+            RedissonClient redissonClient,
+            ObjectMapper objectMapper,
+            @Value("${cluster.node-name:node}") String nodeName,
+            @Value("${cluster.batch-window-ms:20}") long batchWindowMs,
+            @Value("${cluster.max-batch-size:256}") int maxBatchSize) {
+        // Random suffix so a restarted node never reuses an old sequence range
+        super(nodeName + "-" + UUID.randomUUID().toString().substring(0, 8), batchWindowMs, maxBatchSize);
+        this.topic = redissonClient.getTopic(TOPIC, new JsonJacksonCodec(objectMapper, true));
+        this.topic.addListener(ClusterEventBatch.class, (channel, batch) -> receive(batch));
+        log.info("Cluster event bus joined {} as {}", TOPIC, getNodeId());
+    }
+
+    @Override
+    protected void transmit(ClusterEventBatch batch) {
+        topic.publish(batch);
+    }
+}
@@ -0,0 +1,87 @@
+package com.orchestrator.config;
+
+import com.orchestrator.datasource.ReadWriteRoutingDataSource;
+import com.orchestrator.datasource.ReplicaDataSources;
+import com.orchestrator.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Primary plus read replicas. Only active when datasource.replicas.urls is set;
+ * otherwise Spring Boot's single spring.datasource pool is used unchanged.
+ * Replicas share the primary's credentials and pool settings.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replicas.urls:}'.isBlank()")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @FlywayDataSource // Migrations always run against the primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(
+            DataSourceProperties properties,
+            HikariDataSource primaryDataSource,
+            @Value("${datasource.replicas.urls}") List<String> urls) {
+        ReplicaDataSources replicas = new ReplicaDataSources();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(urls.get(i).trim())
+                .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return replicas;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaDataSources replicaDataSources,
+            @Value("${datasource.replicas.max-lag-ms:2000}") long maxLagMs) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSources.getPools(), maxLagMs);
+        monitor.checkLag(); // Replicas only enter rotation once their lag is known
+        return monitor;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaDataSources replicaDataSources,
+            ReplicaLagMonitor replicaLagMonitor) {
+        ReadWriteRoutingDataSource routing =
+            new ReadWriteRoutingDataSource(new ArrayList<>(replicaDataSources.getPools().keySet()), replicaLagMonitor);
+        Map<Object, Object> targets = new HashMap<>(replicaDataSources.getPools());
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,219 @@
+package com.orchestrator.config;
+
+import com.orchestrator.dto.LogQuery;
+import com.orchestrator.dto.TaskQuery;
+import com.orchestrator.entity.LogType;
+import com.orchestrator.entity.TaskStatus;
+import com.orchestrator.entity.UserRole;
+import com.orchestrator.entity.UserStatus;
+import com.orchestrator.repository.EmployeeDailyStatsRepository;
+import com.orchestrator.repository.EmployeeStatsRepository;
+import com.orchestrator.repository.EmployeeTaskAssignmentRepository;
+import com.orchestrator.repository.SystemLogRepository;
+import com.orchestrator.repository.TaskRepository;
+import com.orchestrator.repository.TaskTransitionRepository;
+import com.orchestrator.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Calls each hot repository method, captures the SQL Hibernate sends for it
+ * with its bound values, and EXPLAINs that statement, warning about any table
+ * the optimizer would read with a full scan. Run against a seeded database
+ * after changing a query or a migration; QueryPlanRegressionTest runs the
+ * same check against a seeded H2 database on every build.
+ */
+@Component
+@ConditionalOnProperty(name = "schema.verify-query-plans", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class QueryPlanVerifier {
+
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("(\\w+)\\.tableScan");
+    /** A table read through an index with no seek condition: "TASKS" "T1_0" then an index comment without ':' */
+    private static final Pattern H2_INDEX_WALK = Pattern.compile("\"(\\w+)\"(?: \"\\w+\")?\\s+/\\* (?![\\w.]+\\.tableScan)[\\w.]+ \\*/");
+    private static final Pattern H2_FILTER = Pattern.compile("^WHERE |/\\* WHERE ", Pattern.MULTILINE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskRepository taskRepository;
+    private final SystemLogRepository systemLogRepository;
+    private final EmployeeTaskAssignmentRepository assignmentRepository;
+    private final EmployeeDailyStatsRepository dailyStatsRepository;
+    private final EmployeeStatsRepository employeeStatsRepository;
+    private final TaskTransitionRepository transitionRepository;
+    private final UserRepository userRepository;
+
+    /** Ids and a timestamp that exist in the database, so the probes bind realistic values */
+    private record Sample(long employeeId, long creatorId, long taskId, String taskKey, LocalDateTime createdAt) { }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        Map<String, List<StatementCapture.Captured>> statements = captureHotQueries();
+        List<String> fullScans = explainForFullScans(statements);
+        fullScans.forEach(scan -> log.warn("Query plan for {} is a full table scan", scan));
+        log.info("Verified {} hot query plans, {} full scans", statements.size(), fullScans.size());
+    }
+
+    /**
+     * "query: table" for each table a hot query would read in full. MySQL marks
+     * a full scan with type ALL; H2 prints the table as TABLE.tableScan. An
+     * index walked from one end while rows are filtered one by one is as bad:
+     * MySQL shows type index with "Using where", H2 an index without a condition.
+     */
+    public List<String> findFullScans() {
+        return explainForFullScans(captureHotQueries());
+    }
+
+    /** Same check for hand-written SQL without parameters */
+    List<String> findFullScans(Map<String, String> queries) {
+        Map<String, List<StatementCapture.Captured>> statements = new LinkedHashMap<>();
+        queries.forEach((name, sql) -> statements.put(name, List.of(new StatementCapture.Captured(sql, Map.of()))));
+        return explainForFullScans(statements);
+    }
+
+    /**
+     * The statements each hot repository method sends, by method. The calls run
+     * in one transaction that is rolled back, so the modifying ones leave no trace.
+     */
+    public Map<String, List<StatementCapture.Captured>> captureHotQueries() {
+        Sample sample = sample();
+        Map<String, Consumer<Sample>> probes = probes();
+        Map<String, List<StatementCapture.Captured>> statements = new LinkedHashMap<>();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            probes.forEach((name, probe) -> statements.put(name, StatementCapture.record(() -> probe.accept(sample))));
+        });
+        return statements;
+    }
+
+    private Map<String, Consumer<Sample>> probes() {
+        Map<String, Consumer<Sample>> probes = new LinkedHashMap<>();
+        probes.put("findPendingTasksByPriority", sample -> taskRepository.findPendingTasksByPriority());
+        probes.put("findActiveTaskByEmployee", sample ->
+            taskRepository.findActiveTaskByEmployee(userRepository.getReferenceById(sample.employeeId())));
+        probes.put("findByTaskId", sample -> taskRepository.findByTaskId(sample.taskKey()));
+        probes.put("findPage", sample -> taskRepository.findPage(new TaskQuery()));
+        probes.put("findPage(status)", sample -> {
+            TaskQuery query = new TaskQuery();
+            query.setStatus(TaskStatus.RUNNING);
+            taskRepository.findPage(query);
+        });
+        probes.put("findPage(assignee)", sample -> {
+            TaskQuery query = new TaskQuery();
+            query.setAssigneeId(sample.employeeId());
+            taskRepository.findPage(query);
+        });
+        probes.put("findPage(creator, text)", sample -> {
+            TaskQuery query = new TaskQuery();
+            query.setCreatorId(sample.creatorId());
+            query.setIncludeText(true);
+            taskRepository.findPage(query);
+        });
+        probes.put("findPage(after)", sample -> {
+            TaskQuery query = new TaskQuery();
+            query.setAfterCreatedAt(sample.createdAt());
+            query.setAfterId(sample.taskId());
+            taskRepository.findPage(query);
+        });
+        probes.put("findTop50ByOrderByTimestampDesc", sample -> systemLogRepository.findTop50ByOrderByTimestampDesc());
+        probes.put("findLogPage(window, after)", sample -> {
+            LogQuery query = new LogQuery();
+            query.setFrom(sample.createdAt().minusDays(1));
+            query.setTo(sample.createdAt());
+            query.setAfterTimestamp(sample.createdAt().minusHours(1));
+            query.setAfterId(Long.MAX_VALUE);
+            systemLogRepository.findPage(query);
+        });
+        probes.put("findLogPage(after)", sample -> {
+            LogQuery query = new LogQuery();
+            query.setAfterTimestamp(sample.createdAt());
+            query.setAfterId(Long.MAX_VALUE);
+            systemLogRepository.findPage(query);
+        });
+        probes.put("findLogPage(task)", sample -> {
+            LogQuery query = new LogQuery();
+            query.setTaskId(sample.taskKey());
+            systemLogRepository.findPage(query);
+        });
+        probes.put("findLogPage(worker)", sample -> {
+            LogQuery query = new LogQuery();
+            query.setWorkerId("worker-1");
+            systemLogRepository.findPage(query);
+        });
+        probes.put("findLogPage(type)", sample -> {
+            LogQuery query = new LogQuery();
+            query.setType(LogType.ERROR);
+            systemLogRepository.findPage(query);
+        });
+        probes.put("findHistoryByEmployeeId", sample ->
+            assignmentRepository.findHistoryByEmployeeId(sample.employeeId(), PageRequest.of(0, 50)));
+        probes.put("closeOpenAssignment", sample ->
+            assignmentRepository.closeOpenAssignment(sample.taskId(), sample.employeeId(), TaskStatus.COMPLETED,
+                LocalDateTime.now(), 0));
+        probes.put("findActivitySince", sample ->
+            dailyStatsRepository.findActivitySince(sample.employeeId(), LocalDate.now().minusDays(30)));
+        probes.put("findIdleEmployeesForFairDistribution", sample -> employeeStatsRepository.findIdleEmployeesForFairDistribution());
+        probes.put("findTimeline", sample -> transitionRepository.findTimeline(sample.taskId()));
+        probes.put("findByRoleAndStatus", sample -> userRepository.findByRoleAndStatus(UserRole.EMPLOYEE, UserStatus.ACTIVE));
+        return probes;
+    }
+
+    private Sample sample() {
+        Map<String, Object> task = jdbcTemplate.queryForList(
+            "SELECT id, task_id, created_at, created_by, assigned_to FROM tasks ORDER BY id LIMIT 1").stream()
+            .findFirst().orElse(Map.of());
+        return new Sample(
+            task.get("assigned_to") instanceof Number id ? id.longValue() : 1L,
+            task.get("created_by") instanceof Number id ? id.longValue() : 1L,
+            task.get("id") instanceof Number id ? id.longValue() : 1L,
+            task.get("task_id") instanceof String key ? key : "TASK-1",
+            task.get("created_at") instanceof java.sql.Timestamp at ? at.toLocalDateTime() : LocalDateTime.now());
+    }
+
+    private List<String> explainForFullScans(Map<String, List<StatementCapture.Captured>> queries) {
+        List<String> fullScans = new ArrayList<>();
+        queries.forEach((name, statements) -> {
+            for (StatementCapture.Captured statement : statements) {
+                for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameterValues())) {
+                    if (row.containsKey("type")) {
+                        if ("ALL".equals(row.get("type"))
+                                || "index".equals(row.get("type")) && String.valueOf(row.get("Extra")).contains("Using where")) {
+                            fullScans.add(name + ": " + row.get("table"));
+                        }
+                        continue;
+                    }
+                    String plan = String.valueOf(row.values().iterator().next());
+                    Matcher scan = H2_TABLE_SCAN.matcher(plan);
+                    while (scan.find()) {
+                        fullScans.add(name + ": " + scan.group(1).toLowerCase(Locale.ROOT));
+                    }
+                    Matcher walk = H2_INDEX_WALK.matcher(plan);
+                    while (walk.find() && H2_FILTER.matcher(plan).find()) {
+                        fullScans.add(name + ": " + walk.group(1).toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        });
+        return fullScans;
+    }
+}
@@ -4,10 +4,12 @@ import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@ConditionalOnProperty(name = "spring.redis.enabled", havingValue = "true", matchIfMissing = true)
 public class RedissonConfig {
     
     @Value("${spring.redis.host:localhost}")
@@ -16,6 +18,12 @@ public class RedissonConfig {
     @Value("${spring.redis.port:6379}")
     private int redisPort;
     
+    @Value("${spring.redis.lazy-initialization:false}")
+    private boolean lazyInitialization;
+    
+    @Value("${locks.watchdog-timeout-ms:30000}")
+    private long lockWatchdogTimeoutMs;
+    
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
@@ -23,6 +31,8 @@ public class RedissonConfig {
             .setAddress("redis://" + redisHost + ":" + redisPort)
             .setConnectionPoolSize(10)
             .setConnectionMinimumIdleSize(5);
+        config.setLazyInitialization(lazyInitialization);
+        config.setLockWatchdogTimeout(lockWatchdogTimeoutMs);
         
         return Redisson.create(config);
     }
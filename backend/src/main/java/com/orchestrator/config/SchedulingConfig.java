@@ -0,0 +1,57 @@
+package com.orchestrator.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Runs @Scheduled jobs on virtual threads when spring.threads.virtual.enabled
+ * is on (Java 21+). Boot's virtual-thread scheduler would still run every
+ * fixed-delay job on its one platform thread. In platform mode the jobs stay
+ * on the default scheduler, the STOMP broker's.
+ */
+@Configuration
+@Slf4j
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    // null unless virtual threads are active
+    private final ThreadPoolTaskScheduler scheduler;
+
+    public SchedulingConfig(Environment environment, @Value("${scheduling.pool-size:1}") int poolSize) {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+                log.warn("spring.threads.virtual.enabled needs Java 21 or later; running on platform threads (Java {})",
+                    Runtime.version().feature());
+            }
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setThreadFactory(new VirtualThreadTaskExecutor("scheduling-").getVirtualThreadFactory());
+        scheduler.initialize();
+        log.info("Scheduled jobs run on {} virtual thread(s)", poolSize);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (scheduler != null) {
+            taskRegistrar.setTaskScheduler(scheduler);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.orchestrator.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Wraps the application DataSource so that the statements a block of code
+ * prepares on the calling thread, with the values bound to them, can be
+ * recorded. QueryPlanVerifier runs the real repository methods under it and
+ * EXPLAINs exactly what they sent. Outside {@link #record} every call passes
+ * straight through; the wrapper only exists while plan verification is on.
+ */
+@Component
+@ConditionalOnProperty(name = "schema.verify-query-plans", havingValue = "true")
+public class StatementCapture implements BeanPostProcessor {
+
+    private static final ThreadLocal<List<Captured>> RECORDING = new ThreadLocal<>();
+
+    /** One prepared statement and its parameters, by 1-based index */
+    public record Captured(String sql, Map<Integer, Object> parameters) {
+
+        public Object[] parameterValues() {
+            return parameters.values().toArray();
+        }
+    }
+
+    /** The statements prepared on this thread while work ran, in order */
+    public static List<Captured> record(Runnable work) {
+        List<Captured> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            work.run();
+            return List.copyOf(statements);
+        } finally {
+            RECORDING.remove();
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+            return new CapturingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private static final class CapturingDataSource extends DelegatingDataSource {
+
+        private CapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capturing(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capturing(super.getConnection(username, password));
+        }
+    }
+
+    private static Connection capturing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                List<Captured> statements = RECORDING.get();
+                if (statements != null && result instanceof PreparedStatement statement
+                        && method.getName().equals("prepareStatement")) {
+                    Captured captured = new Captured((String) args[0], new TreeMap<>());
+                    statements.add(captured);
+                    return capturing(statement, captured);
+                }
+                return result;
+            });
+    }
+
+    private static PreparedStatement capturing(PreparedStatement statement, Captured captured) {
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                // setLong(1, 42), setTimestamp(2, ts, calendar), setNull(3, Types.BIGINT), ...
+                if (method.getName().startsWith("set") && args != null && args.length >= 2
+                        && args[0] instanceof Integer index) {
+                    captured.parameters().put(index, method.getName().equals("setNull") ? null : args[1]);
+                }
+                return invoke(statement, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.orchestrator.config;
+
+import com.orchestrator.websocket.BackpressureSubProtocolWebSocketHandler;
+import com.orchestrator.websocket.OutboundSessionRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * Stands in for @EnableWebSocketMessageBroker so the sub-protocol handler can
+ * decorate sessions with slow-consumer protection. Everything else is still
+ * contributed by WebSocketMessageBrokerConfigurer beans such as WebSocketConfig.
+ */
+@Configuration
+public class WebSocketBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+    
+    private final OutboundSessionRegistry outboundSessionRegistry;
+    
+    public WebSocketBrokerConfiguration(OutboundSessionRegistry outboundSessionRegistry) {
+        this.outboundSessionRegistry = outboundSessionRegistry;
+    }
+    
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(
+            AbstractSubscribableChannel clientInboundChannel,
+            AbstractSubscribableChannel clientOutboundChannel) {
+        return new BackpressureSubProtocolWebSocketHandler(
+            clientInboundChannel, clientOutboundChannel, outboundSessionRegistry);
+    }
+}
@@ -1,22 +1,57 @@
 package com.orchestrator.config;
 
+import com.orchestrator.websocket.DeliveryPolicyInterceptor;
+import com.orchestrator.websocket.PayloadFormatInterceptor;
+import com.orchestrator.websocket.PresenceChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+// Broker infrastructure is enabled by WebSocketBrokerConfiguration
 @Configuration
-@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
+    private final PayloadFormatInterceptor payloadFormatInterceptor;
+    private final DeliveryPolicyInterceptor deliveryPolicyInterceptor;
+    private final PresenceChannelInterceptor presenceChannelInterceptor;
+    
+    @Value("${websocket.heartbeat-ms:10000}")
+    private long heartbeatMs;
+    
+    @Value("${websocket.session.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+    
+    @Value("${websocket.session.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    
+    @Value("${websocket.session.message-size-limit:65536}")
+    private int messageSizeLimit;
+    
+    @Value("${websocket.outbound-threads:32}")
+    private int outboundThreads;
+    
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // Heartbeats let the broker close dead sessions, which drives employee presence
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+        heartbeatScheduler.initialize();
+        
         // Enable simple broker for broadcasting
         registry.enableSimpleBroker(
             "/topic",    // For broadcasts to all
             "/queue"     // For user-specific messages
-        );
+        )
+            .setHeartbeatValue(new long[] {heartbeatMs, heartbeatMs})
+            .setTaskScheduler(heartbeatScheduler);
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
     }
@@ -26,4 +61,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
             .setAllowedOriginPatterns("*");
     }
-}
\ No newline at end of file
+    
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // Records the payload-format each session negotiates on CONNECT,
+        // and tracks which employees are connected
+        registration.interceptors(payloadFormatInterceptor, presenceChannelInterceptor);
+    }
+    
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // Swaps in the compact encoding for sessions that asked for it,
+        // and tags each frame with its delivery policy for the session buffer
+        registration.interceptors(payloadFormatInterceptor, deliveryPolicyInterceptor);
+        // A client that stops reading holds one thread until its write times out,
+        // so the default of two per core would let a few of them stall everyone
+        registration.taskExecutor().corePoolSize(outboundThreads);
+    }
+    
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Per-session outbound limits; slow sessions drop progress frames first, then get closed
+        registration.setSendTimeLimit(sendTimeLimit)
+            .setSendBufferSizeLimit(sendBufferSizeLimit)
+            .setMessageSizeLimit(messageSizeLimit);
+    }
+}
@@ -1,16 +1,19 @@
 package com.orchestrator.controller;
 
+import com.orchestrator.dto.TaskPage;
+import com.orchestrator.dto.TaskQuery;
 import com.orchestrator.entity.Task;
+import com.orchestrator.entity.TaskStatus;
 import com.orchestrator.entity.User;
 import com.orchestrator.service.AuthService;
 import com.orchestrator.service.TaskService;
 import com.orchestrator.service.TaskAssignmentService;
+import com.orchestrator.service.TaskTimelineService;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -22,6 +25,7 @@ public class AdminTaskController {
     private final TaskService taskService;
     private final TaskAssignmentService assignmentService;
     private final AuthService authService;
+    private final TaskTimelineService timelineService;
     
     /**
      * Admin creates a new task
@@ -31,7 +35,7 @@ public class AdminTaskController {
             @RequestHeader("User-Id") Long userId,
             @RequestBody CreateTaskRequest request) {
         try {
-            User admin = authService.getUserById(userId);
+            User admin = authService.resolvePrincipal(userId);
             
             Task task = taskService.createTask(
                 admin,
@@ -48,21 +52,46 @@ public class AdminTaskController {
     }
     
     /**
-     * Get all tasks (Admin view)
+     * List tasks (Admin view), newest first, one keyset page at a time.
+     * Pass the returned nextCursor to fetch the following page.
+     * fields=summary (default) skips the TEXT columns; fields=full includes
+     * description and completionMessage.
      */
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<?> getAllTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Integer priority,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long creatorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "summary") String fields) {
+        try {
+            TaskQuery query = new TaskQuery();
+            query.setStatus(status);
+            query.setPriority(priority);
+            query.setAssigneeId(assigneeId);
+            query.setCreatorId(creatorId);
+            query.setLimit(limit);
+            query.setIncludeText("full".equalsIgnoreCase(fields));
+            return ResponseEntity.ok(taskService.getTaskPage(query, cursor));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
     }
     
     /**
-     * Get tasks created by this admin
+     * Tasks created by this admin, newest first, one keyset page at a time
      */
     @GetMapping("/my-tasks")
-    public ResponseEntity<?> getMyTasks(@RequestHeader("User-Id") Long userId) {
+    public ResponseEntity<?> getMyTasks(
+            @RequestHeader("User-Id") Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         try {
-            User admin = authService.getUserById(userId);
-            return ResponseEntity.ok(taskService.getTasksByAdmin(admin));
+            User admin = authService.resolvePrincipal(userId);
+            return ResponseEntity.ok(taskService.getTasksByAdmin(admin, cursor, limit));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Map.of("error", e.getMessage()));
@@ -93,12 +122,27 @@ public class AdminTaskController {
         }
     }
     
+    /**
+     * Every lifecycle transition of a task and the time spent in each phase
+     */
+    @GetMapping("/{taskId}/timeline")
+    public ResponseEntity<?> getTimeline(@PathVariable String taskId) {
+        try {
+            return ResponseEntity.ok(timelineService.getTimeline(taskId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+    
     /**
      * Get recent tasks
      */
     @GetMapping("/recent")
-    public ResponseEntity<List<Task>> getRecentTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<TaskPage> getRecentTasks(@RequestParam(defaultValue = "10") int limit) {
+        TaskQuery query = new TaskQuery();
+        query.setLimit(limit);
+        return ResponseEntity.ok(taskService.getTaskPage(query, null));
     }
 }
 
@@ -107,4 +151,4 @@ class CreateTaskRequest {
     private String name;
     private String description;
     private Integer priority; // 1-5 (1=highest)
-}
\ No newline at end of file
+}
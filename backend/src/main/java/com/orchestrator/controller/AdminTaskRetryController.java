@@ -0,0 +1,86 @@
+package com.orchestrator.controller;
+
+import com.orchestrator.entity.Task;
+import com.orchestrator.lock.DistributedLockService;
+import com.orchestrator.lock.TaskLock;
+import com.orchestrator.service.TaskRetryService;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin retry of failed tasks, each under the task's lock
+ */
+@RestController
+@RequestMapping("/api/admin/tasks")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AdminTaskRetryController {
+    
+    private final TaskRetryService retryService;
+    private final DistributedLockService lockService;
+    
+    private static final int MAX_BULK_SIZE = 500;
+    
+    /**
+     * Put a failed task back in the queue
+     */
+    @PostMapping("/{taskId}/retry")
+    public ResponseEntity<?> retryTask(@PathVariable String taskId) {
+        TaskLock lock = lockService.acquireLock(taskId);
+        if (lock == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "Task is locked by another operation"));
+        }
+        try {
+            return ResponseEntity.ok(retryResult(retryService.retryTask(lock)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        } finally {
+            lockService.releaseLock(lock);
+        }
+    }
+    
+    /**
+     * Put several failed tasks back in the queue, all or none
+     */
+    @PostMapping("/retry")
+    public ResponseEntity<?> retryTasks(@RequestBody RetryTasksRequest request) {
+        List<String> taskIds = request.getTaskIds();
+        if (taskIds == null || taskIds.isEmpty() || taskIds.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "taskIds must list 1 to " + MAX_BULK_SIZE + " tasks"));
+        }
+        List<TaskLock> locks = lockService.acquireLocks(taskIds);
+        if (locks == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "Some of the tasks are locked by another operation"));
+        }
+        try {
+            return ResponseEntity.ok(retryService.retryTasks(locks).stream().map(this::retryResult).toList());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        } finally {
+            lockService.releaseLocks(locks);
+        }
+    }
+    
+    private Map<String, Object> retryResult(Task task) {
+        return Map.of(
+            "taskId", task.getTaskId(),
+            "status", task.getStatus(),
+            "retryCount", task.getRetryCount()
+        );
+    }
+}
+
+@Data
+class RetryTasksRequest {
+    private List<String> taskIds;
+}
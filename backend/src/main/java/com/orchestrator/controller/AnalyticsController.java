@@ -0,0 +1,39 @@
+package com.orchestrator.controller;
+
+import com.orchestrator.dto.LatencySummary;
+import com.orchestrator.dto.TaskAnalyticsSnapshot;
+import com.orchestrator.service.TaskAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+    
+    private final TaskAnalyticsService analyticsService;
+    
+    /**
+     * Throughput per minute and queue wait / service time percentiles per priority (milliseconds)
+     */
+    @GetMapping
+    public ResponseEntity<TaskAnalyticsSnapshot> getAnalytics() {
+        return ResponseEntity.ok(analyticsService.getSnapshot());
+    }
+    
+    /**
+     * Service time percentiles for every employee seen in the window
+     */
+    @GetMapping("/employees")
+    public ResponseEntity<Map<Long, LatencySummary>> getEmployeeServiceTimes() {
+        return ResponseEntity.ok(analyticsService.getEmployeeServiceTimes());
+    }
+    
+    @GetMapping("/employees/{employeeId}")
+    public ResponseEntity<LatencySummary> getEmployeeServiceTime(@PathVariable Long employeeId) {
+        return ResponseEntity.ok(analyticsService.getEmployeeServiceTime(employeeId));
+    }
+}
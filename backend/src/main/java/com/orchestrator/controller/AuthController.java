@@ -73,6 +73,14 @@ public class AuthController {
         }
     }
     
+    /**
+     * Hit / miss counters of the User-Id principal cache
+     */
+    @GetMapping("/principal-cache")
+    public ResponseEntity<Map<String, Object>> getPrincipalCacheStatistics() {
+        return ResponseEntity.ok(authService.getPrincipalCacheStatistics());
+    }
+    
     private Map<String, Object> createUserResponse(User user) {
         Map<String, Object> response = new HashMap<>();
         response.put("id", user.getId());
@@ -0,0 +1,26 @@
+package com.orchestrator.controller;
+
+import com.orchestrator.datasource.ReadWriteRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/datasource")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@ConditionalOnExpression("!'${datasource.replicas.urls:}'.isBlank()")
+public class DataSourceController {
+    
+    private final ReadWriteRoutingDataSource routingDataSource;
+    
+    /**
+     * Connections handed out per route, replica lag and how often reads fell back to the primary
+     */
+    @GetMapping("/routes")
+    public ResponseEntity<Map<String, Object>> getRoutes() {
+        return ResponseEntity.ok(routingDataSource.getRouteStatistics());
+    }
+}
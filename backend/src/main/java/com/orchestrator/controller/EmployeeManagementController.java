@@ -1,9 +1,14 @@
 package com.orchestrator.controller;
 
+import com.orchestrator.dto.EmployeeStatsItem;
+import com.orchestrator.dto.LeaderboardEntry;
+import com.orchestrator.dto.RosterQuery;
 import com.orchestrator.entity.User;
 import com.orchestrator.entity.UserRole;
 import com.orchestrator.entity.UserStatus;
 import com.orchestrator.repository.UserRepository;
+import com.orchestrator.service.AuthService;
+import com.orchestrator.service.EmployeeRosterService;
 import com.orchestrator.service.EmployeeStatsService;
 
 import lombok.RequiredArgsConstructor;
@@ -11,7 +16,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/admin/employees")
@@ -21,35 +25,37 @@ public class EmployeeManagementController {
     
     private final UserRepository userRepository;
     private final EmployeeStatsService employeeStatsService;
+    private final AuthService authService;
+    private final EmployeeRosterService rosterService;
     
     /**
-     * Get all employees
+     * Employee roster with stats, one page per query.
+     * sort = NAME | COMPLETED | FAILED | AVERAGE_TIME | UTILISATION
      */
     @GetMapping
-    public ResponseEntity<?> getAllEmployees() {
-        List<User> employees = userRepository.findByRole(UserRole.EMPLOYEE);
-        
-        List<Map<String, Object>> employeeData = employees.stream()
-            .map(employee -> {
-                var stats = employeeStatsService.getEmployeeStats(employee);
-                return Map.of(
-                    "id", employee.getId(),
-                    "username", employee.getUsername(),
-                    "fullName", employee.getFullName(),
-                    "email", employee.getEmail(),
-                    "status", employee.getStatus(),
-                    "stats", Map.of(
-                        "totalAssigned", stats.getTotalTasksAssigned(),
-                        "totalCompleted", stats.getTotalTasksCompleted(),
-                        "totalFailed", stats.getTotalTasksFailed(),
-                        "isWorking", stats.getCurrentActiveTask() > 0,
-                        "averageTimeMinutes", stats.getAverageCompletionTimeMinutes()
-                    )
-                );
-            })
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(employeeData);
+    public ResponseEntity<?> getAllEmployees(
+            @RequestParam(defaultValue = "NAME") RosterQuery.SortKey sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            RosterQuery query = new RosterQuery();
+            query.setSort(sort);
+            query.setDescending("desc".equalsIgnoreCase(direction));
+            query.setPage(page);
+            query.setSize(size);
+            return ResponseEntity.ok(rosterService.getRoster(query));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Top employees by completed tasks, then fastest average time
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntry>> getLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(rosterService.getLeaderboard(limit));
     }
     
     /**
@@ -71,8 +77,61 @@ public class EmployeeManagementController {
             User employee = userRepository.findById(employeeId)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
             
+            // The stats row's employee is a lazy proxy; the User loaded above fills the names
             var stats = employeeStatsService.getEmployeeStats(employee);
-            return ResponseEntity.ok(stats);
+            return ResponseEntity.ok(EmployeeStatsItem.of(stats, employee));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Per-day completed / failed totals for an employee
+     */
+    @GetMapping("/{employeeId}/daily")
+    public ResponseEntity<?> getEmployeeDailyActivity(
+            @PathVariable Long employeeId,
+            @RequestParam(defaultValue = "30") int days) {
+        try {
+            return ResponseEntity.ok(employeeStatsService.getDailyActivity(employeeId, days));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Activate, deactivate or suspend an employee; takes effect on every node immediately
+     */
+    @PutMapping("/{employeeId}/status")
+    public ResponseEntity<?> updateEmployeeStatus(
+            @PathVariable Long employeeId,
+            @RequestBody Map<String, String> request) {
+        try {
+            UserStatus status = UserStatus.valueOf(request.get("status"));
+            User employee = authService.updateUserStatus(employeeId, status);
+            return ResponseEntity.ok(Map.of(
+                "id", employee.getId(),
+                "status", employee.getStatus()
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Change a user's role
+     */
+    @PutMapping("/{employeeId}/role")
+    public ResponseEntity<?> updateEmployeeRole(
+            @PathVariable Long employeeId,
+            @RequestBody Map<String, String> request) {
+        try {
+            UserRole role = UserRole.valueOf(request.get("role"));
+            User user = authService.updateUserRole(employeeId, role);
+            return ResponseEntity.ok(Map.of(
+                "id", user.getId(),
+                "role", user.getRole()
+            ));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -1,13 +1,18 @@
 package com.orchestrator.controller;
 
+import com.orchestrator.dto.EmployeeDashboardView;
+import com.orchestrator.dto.TaskListItem;
 import com.orchestrator.entity.Task;
 import com.orchestrator.entity.User;
 import com.orchestrator.service.*;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import java.util.Map;
 
 @RestController
@@ -20,16 +25,29 @@ public class EmployeeTaskController {
     private final TaskAssignmentService assignmentService;
     private final EmployeeDashboardService dashboardService;
     private final AuthService authService;
+    private final EmployeeStatsService employeeStatsService;
+    private final NextTaskWaitService nextTaskWaitService;
     
     /**
-     * Get employee dashboard data
+     * Get employee dashboard data. Served from memory with an ETag; a matching
+     * If-None-Match gets 304 Not Modified and no body.
      */
     @GetMapping("/dashboard")
-    public ResponseEntity<?> getDashboard(@RequestHeader("User-Id") Long userId) {
+    public ResponseEntity<?> getDashboard(
+            @RequestHeader("User-Id") Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            User employee = authService.getUserById(userId);
-            Map<String, Object> dashboard = dashboardService.getEmployeeDashboard(employee);
-            return ResponseEntity.ok(dashboard);
+            User employee = authService.resolvePrincipal(userId);
+            EmployeeDashboardView dashboard = dashboardService.getEmployeeDashboard(employee);
+            String etag = dashboardService.etagOf(dashboard);
+            if (etag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache()) // Browsers revalidate on every poll
+                .varyBy("User-Id")
+                .body(dashboard);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Map.of("error", e.getMessage()));
@@ -42,8 +60,8 @@ public class EmployeeTaskController {
     @GetMapping("/current")
     public ResponseEntity<?> getCurrentTask(@RequestHeader("User-Id") Long userId) {
         try {
-            User employee = authService.getUserById(userId);
-            Task task = assignmentService.getCurrentTaskForEmployee(employee);
+            User employee = authService.resolvePrincipal(userId);
+            TaskListItem task = taskService.getActiveTaskItem(employee);
             
             if (task == null) {
                 return ResponseEntity.ok(Map.of("message", "No active task"));
@@ -62,20 +80,39 @@ public class EmployeeTaskController {
     @PostMapping("/get-next")
     public ResponseEntity<?> getNextTask(@RequestHeader("User-Id") Long userId) {
         try {
-            User employee = authService.getUserById(userId);
+            User employee = authService.resolvePrincipal(userId);
             Task task = assignmentService.getNextTaskForEmployee(employee);
             
             if (task == null) {
                 return ResponseEntity.ok(Map.of("message", "No tasks available"));
             }
             
-            return ResponseEntity.ok(task);
+            return ResponseEntity.ok(TaskListItem.fromTask(task));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Map.of("error", e.getMessage()));
         }
     }
     
+    /**
+     * Get next task, waiting until one is available instead of returning straight away.
+     * The request is parked without holding a servlet thread.
+     */
+    @PostMapping("/get-next/wait")
+    public DeferredResult<ResponseEntity<?>> waitForNextTask(
+            @RequestHeader("User-Id") Long userId,
+            @RequestParam(required = false) Long timeoutMs) {
+        try {
+            User employee = authService.resolvePrincipal(userId);
+            return nextTaskWaitService.waitForNextTask(employee, timeoutMs);
+        } catch (Exception e) {
+            DeferredResult<ResponseEntity<?>> result = new DeferredResult<>();
+            result.setResult(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage())));
+            return result;
+        }
+    }
+    
     /**
      * Mark task as completed
      */
@@ -85,9 +122,9 @@ public class EmployeeTaskController {
             @PathVariable String taskId,
             @RequestBody TaskCompletionRequest request) {
         try {
-            User employee = authService.getUserById(userId);
+            User employee = authService.resolvePrincipal(userId);
             Task task = taskService.completeTask(taskId, employee, request.getMessage());
-            return ResponseEntity.ok(task);
+            return ResponseEntity.ok(TaskListItem.fromTask(task));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Map.of("error", e.getMessage()));
@@ -103,9 +140,9 @@ public class EmployeeTaskController {
             @PathVariable String taskId,
             @RequestBody TaskCompletionRequest request) {
         try {
-            User employee = authService.getUserById(userId);
+            User employee = authService.resolvePrincipal(userId);
             Task task = taskService.failTask(taskId, employee, request.getMessage());
-            return ResponseEntity.ok(task);
+            return ResponseEntity.ok(TaskListItem.fromTask(task));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Map.of("error", e.getMessage()));
@@ -121,7 +158,7 @@ public class EmployeeTaskController {
             @PathVariable String taskId,
             @RequestBody ProgressUpdateRequest request) {
         try {
-            User employee = authService.getUserById(userId);
+            User employee = authService.resolvePrincipal(userId);
             taskService.updateProgress(taskId, employee, request.getProgress());
             return ResponseEntity.ok(Map.of("message", "Progress updated"));
         } catch (Exception e) {
@@ -134,10 +171,28 @@ public class EmployeeTaskController {
      * Get task history
      */
     @GetMapping("/history")
-    public ResponseEntity<?> getTaskHistory(@RequestHeader("User-Id") Long userId) {
+    public ResponseEntity<?> getTaskHistory(
+            @RequestHeader("User-Id") Long userId,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            User employee = authService.resolvePrincipal(userId);
+            return ResponseEntity.ok(taskService.getEmployeeHistory(employee, limit));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Per-day completed / failed totals
+     */
+    @GetMapping("/history/daily")
+    public ResponseEntity<?> getDailyActivity(
+            @RequestHeader("User-Id") Long userId,
+            @RequestParam(defaultValue = "30") int days) {
         try {
-            User employee = authService.getUserById(userId);
-            return ResponseEntity.ok(taskService.getEmployeeHistory(employee));
+            User employee = authService.resolvePrincipal(userId);
+            return ResponseEntity.ok(employeeStatsService.getDailyActivity(employee.getId(), days));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Map.of("error", e.getMessage()));
@@ -1,11 +1,16 @@
 package com.orchestrator.controller;
 
+import com.orchestrator.dto.LogQuery;
+import com.orchestrator.entity.LogType;
 import com.orchestrator.entity.SystemLog;
 import com.orchestrator.service.LoggingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/logs")
@@ -19,4 +24,39 @@ public class LogController {
     public ResponseEntity<List<SystemLog>> getRecentLogs() {
         return ResponseEntity.ok(loggingService.getRecentLogs());
     }
+    
+    /**
+     * Search logs newest first by task, worker, type and time window [from, to).
+     * Pass the returned nextCursor to fetch the following page.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchLogs(
+            @RequestParam(required = false) String taskId,
+            @RequestParam(required = false) String workerId,
+            @RequestParam(required = false) LogType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            LogQuery query = new LogQuery();
+            query.setTaskId(taskId);
+            query.setWorkerId(workerId);
+            query.setType(type);
+            query.setFrom(from);
+            query.setTo(to);
+            query.setLimit(limit);
+            return ResponseEntity.ok(loggingService.searchLogs(query, cursor));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Buffer depth, drops and batches of the asynchronous log writer
+     */
+    @GetMapping("/writer")
+    public ResponseEntity<Map<String, Object>> getWriterStatistics() {
+        return ResponseEntity.ok(loggingService.getWriterStatistics());
+    }
 }
@@ -0,0 +1,44 @@
+package com.orchestrator.controller;
+
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.websocket.OutboundSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/websocket")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class WebSocketSessionController {
+    
+    private final OutboundSessionRegistry sessionRegistry;
+    private final ClusterEventBus clusterEventBus;
+    
+    /**
+     * Outbound buffer state for every connected WebSocket session
+     */
+    @GetMapping("/sessions")
+    public ResponseEntity<?> getSessions() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("sessionCount", sessionRegistry.getSessionCount());
+        response.put("totalQueueDepth", sessionRegistry.getTotalQueueDepth());
+        response.put("totalDroppedFrames", sessionRegistry.getTotalDroppedFrames());
+        response.put("slowSessionsDisconnected", sessionRegistry.getSlowSessionsDisconnected());
+        response.put("sessions", sessionRegistry.snapshot());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Events relayed from other nodes and their cross-node delivery latency
+     */
+    @GetMapping("/cluster")
+    public ResponseEntity<?> getClusterStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("nodeId", clusterEventBus.getNodeId());
+        response.put("received", clusterEventBus.getLatencyStats().snapshot());
+        return ResponseEntity.ok(response);
+    }
+}
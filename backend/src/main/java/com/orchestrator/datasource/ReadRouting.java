@@ -0,0 +1,41 @@
+package com.orchestrator.datasource;
+
+/**
+ * Per-thread override that pins reads to the primary. Read-only work that must
+ * see a write the caller just made (or cannot tolerate replica lag) pins before
+ * its first query and unpins in a finally block:
+ * <pre>
+ * ReadRouting.pinPrimary();
+ * try { ... } finally { ReadRouting.unpinPrimary(); }
+ * </pre>
+ * Pins nest; they are no-ops when no replicas are configured.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<int[]> PRIMARY_DEPTH = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static void pinPrimary() {
+        int[] depth = PRIMARY_DEPTH.get();
+        if (depth == null) {
+            depth = new int[1];
+            PRIMARY_DEPTH.set(depth);
+        }
+        depth[0]++;
+    }
+
+    /** Undo one pinPrimary on this thread */
+    public static void unpinPrimary() {
+        int[] depth = PRIMARY_DEPTH.get();
+        if (depth != null && --depth[0] <= 0) {
+            PRIMARY_DEPTH.remove();
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        int[] depth = PRIMARY_DEPTH.get();
+        return depth != null && depth[0] > 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.orchestrator.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections for read-only transactions to a replica, round robin over
+ * those within the lag bound, and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only
+ * visible once the transaction is fully set up, which is after the transaction
+ * manager would otherwise have fetched its connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, LongAdder> connectionsByRoute = new LinkedHashMap<>();
+    private final LongAdder replicaFallbacks = new LongAdder();
+
+    public ReadWriteRoutingDataSource(List<String> replicaKeys, ReplicaLagMonitor lagMonitor) {
+        this.replicaKeys = List.copyOf(replicaKeys);
+        this.lagMonitor = lagMonitor;
+        connectionsByRoute.put(PRIMARY, new LongAdder());
+        replicaKeys.forEach(key -> connectionsByRoute.put(key, new LongAdder()));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String route = chooseRoute();
+        connectionsByRoute.get(route).increment();
+        return route;
+    }
+
+    private String chooseRoute() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadRouting.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            String key = replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+            if (lagMonitor.isUsable(key)) {
+                return key;
+            }
+        }
+        replicaFallbacks.increment();
+        return PRIMARY;
+    }
+
+    public List<String> getRoutes() {
+        return List.copyOf(connectionsByRoute.keySet());
+    }
+
+    public long getConnectionCount(String route) {
+        LongAdder count = connectionsByRoute.get(route);
+        return count != null ? count.sum() : 0;
+    }
+
+    public long getReplicaFallbacks() {
+        return replicaFallbacks.sum();
+    }
+
+    public Map<String, Object> getRouteStatistics() {
+        Map<String, Object> routes = new LinkedHashMap<>();
+        connectionsByRoute.forEach((route, count) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("connections", count.sum());
+            if (!PRIMARY.equals(route)) {
+                stats.put("lagMs", lagMonitor.getLagMs(route));
+                stats.put("inRotation", lagMonitor.isUsable(route));
+            }
+            routes.put(route, stats);
+        });
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("routes", routes);
+        result.put("replicaFallbacks", replicaFallbacks.sum());
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package com.orchestrator.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The replica connection pools, keyed by pool name. Closed with the context.
+ */
+public class ReplicaDataSources implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+
+    public void add(HikariDataSource pool) {
+        pools.put(pool.getPoolName(), pool);
+    }
+
+    public Map<String, HikariDataSource> getPools() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
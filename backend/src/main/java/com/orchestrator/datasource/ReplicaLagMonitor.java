@@ -0,0 +1,69 @@
+package com.orchestrator.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Polls each replica's replication status and keeps its current lag in memory.
+ * A replica is usable only while its last check succeeded and showed a lag
+ * within the configured bound; routing never waits on this check.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final long UNKNOWN = -1;
+
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, Long> lagMs = new ConcurrentHashMap<>();
+    private final long maxLagMs;
+
+    public ReplicaLagMonitor(Map<String, ? extends DataSource> replicaDataSources, long maxLagMs) {
+        replicaDataSources.forEach((key, dataSource) -> {
+            replicas.put(key, new JdbcTemplate(dataSource));
+            lagMs.put(key, UNKNOWN);
+        });
+        this.maxLagMs = maxLagMs;
+    }
+
+    public boolean isUsable(String replicaKey) {
+        long lag = lagMs.getOrDefault(replicaKey, UNKNOWN);
+        return lag != UNKNOWN && lag <= maxLagMs;
+    }
+
+    /** Last measured lag in ms, or -1 when the replica is unreachable or not replicating */
+    public long getLagMs(String replicaKey) {
+        return lagMs.getOrDefault(replicaKey, UNKNOWN);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        replicas.forEach((key, jdbc) -> {
+            long lag = measure(key, jdbc);
+            Long previous = lagMs.put(key, lag);
+            boolean wasUsable = previous != null && previous != UNKNOWN && previous <= maxLagMs;
+            if (wasUsable != isUsable(key)) {
+                log.warn("Replica {} is now {} (lag {} ms)", key, isUsable(key) ? "in rotation" : "out of rotation", lag);
+            }
+        });
+    }
+
+    private long measure(String key, JdbcTemplate jdbc) {
+        try {
+            return jdbc.query("SHOW REPLICA STATUS", rs -> {
+                if (!rs.next()) {
+                    return UNKNOWN; // Not configured as a replica
+                }
+                Object seconds = rs.getObject("Seconds_Behind_Source");
+                return seconds instanceof Number n ? n.longValue() * 1000 : UNKNOWN;
+            });
+        } catch (RuntimeException e) {
+            log.debug("Replication status check failed for {}: {}", key, e.getMessage());
+            return UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of an employee's assignment history, projected with its task in one join.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AssignmentHistoryItem {
+    private Long id;
+    private String taskId;
+    private String taskName;
+    private Integer priority;
+    private TaskStatus taskStatus;
+    private LocalDateTime assignedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Integer timeSpentMinutes;
+    private TaskStatus finalStatus;
+}
@@ -0,0 +1,26 @@
+package com.orchestrator.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One day of an employee's finished work, read from the daily rollup.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyActivityItem {
+    private LocalDate date;
+    private Integer tasksCompleted;
+    private Integer tasksFailed;
+    private Long completedMinutes;
+    
+    @JsonProperty("averageTimeMinutes")
+    public double getAverageTimeMinutes() {
+        return tasksCompleted > 0 ? (double) completedMinutes / tasksCompleted : 0.0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.orchestrator.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.orchestrator.entity.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of one employee's dashboard: the running task, the stats
+ * summary and the newest recentTasks (same order as the task listing).
+ * A change produces a new snapshot with a new version.
+ */
+public record EmployeeDashboardView(
+        TaskListItem currentTask,
+        Map<String, Object> stats,
+        List<TaskListItem> recentTasks,
+        @JsonIgnore String version) {
+
+    private static final Comparator<TaskListItem> NEWEST_FIRST = Comparator
+        .comparing(TaskListItem::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(TaskListItem::getId, Comparator.reverseOrder());
+
+    /**
+     * Fold one changed task into the snapshot without re-reading the employee's history
+     */
+    public EmployeeDashboardView withTask(TaskListItem task, Map<String, Object> newStats, int recentLimit, String newVersion) {
+        TaskListItem running = currentTask;
+        if (task.getStatus() == TaskStatus.RUNNING) {
+            running = task;
+        } else if (running != null && running.getTaskId().equals(task.getTaskId())) {
+            running = null;
+        }
+
+        List<TaskListItem> recent = new ArrayList<>(recentTasks.size() + 1);
+        for (TaskListItem item : recentTasks) {
+            if (!item.getTaskId().equals(task.getTaskId())) {
+                recent.add(item);
+            }
+        }
+        recent.add(task);
+        recent.sort(NEWEST_FIRST);
+        if (recent.size() > recentLimit) {
+            recent = recent.subList(0, recentLimit);
+        }
+        return new EmployeeDashboardView(running, newStats, List.copyOf(recent), newVersion);
+    }
+}
@@ -0,0 +1,58 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of the employee roster, projected from users left-joined with their stats.
+ * Employees without a stats row yet report zeros.
+ */
+@Data
+@NoArgsConstructor
+public class EmployeeRosterItem {
+    private Long id;
+    private String username;
+    private String fullName;
+    private String email;
+    private UserStatus status;
+    private Stats stats;
+    
+    public EmployeeRosterItem(Long id, String username, String fullName, String email, UserStatus status,
+                              Integer totalAssigned, Integer totalCompleted, Integer totalFailed,
+                              Integer currentActiveTask, Double averageTimeMinutes) {
+        this.id = id;
+        this.username = username;
+        this.fullName = fullName;
+        this.email = email;
+        this.status = status;
+        this.stats = new Stats(
+            zeroIfNull(totalAssigned),
+            zeroIfNull(totalCompleted),
+            zeroIfNull(totalFailed),
+            currentActiveTask != null && currentActiveTask > 0,
+            averageTimeMinutes != null ? averageTimeMinutes : 0.0
+        );
+    }
+    
+    private static int zeroIfNull(Integer value) {
+        return value != null ? value : 0;
+    }
+    
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Stats {
+        private int totalAssigned;
+        private int totalCompleted;
+        private int totalFailed;
+        private Boolean isWorking;
+        private double averageTimeMinutes;
+        
+        /** Share of assigned tasks carried through to completion or failure */
+        public double getUtilisation() {
+            return totalAssigned == 0 ? 0.0 : (double) (totalCompleted + totalFailed) / totalAssigned;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.EmployeeStats;
+import com.orchestrator.entity.User;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An employee's stats row for the admin API. The employee is flattened to id
+ * and names, so the lazy association is never handed to Jackson.
+ */
+@Data
+@NoArgsConstructor
+public class EmployeeStatsItem {
+    private Long employeeId;
+    private String username;
+    private String fullName;
+    private Integer totalTasksAssigned;
+    private Integer totalTasksCompleted;
+    private Integer totalTasksFailed;
+    private Integer currentActiveTask;
+    private Double averageCompletionTimeMinutes;
+    private Integer priorityScore;
+    private LocalDateTime lastTaskAssignedAt;
+    private LocalDateTime updatedAt;
+    
+    public static EmployeeStatsItem of(EmployeeStats stats, User employee) {
+        EmployeeStatsItem item = new EmployeeStatsItem();
+        item.setEmployeeId(employee.getId());
+        item.setUsername(employee.getUsername());
+        item.setFullName(employee.getFullName());
+        item.setTotalTasksAssigned(stats.getTotalTasksAssigned());
+        item.setTotalTasksCompleted(stats.getTotalTasksCompleted());
+        item.setTotalTasksFailed(stats.getTotalTasksFailed());
+        item.setCurrentActiveTask(stats.getCurrentActiveTask());
+        item.setAverageCompletionTimeMinutes(stats.getAverageCompletionTimeMinutes());
+        item.setPriorityScore(stats.getPriorityScore());
+        item.setLastTaskAssignedAt(stats.getLastTaskAssignedAt());
+        item.setUpdatedAt(stats.getUpdatedAt());
+        return item;
+    }
+}
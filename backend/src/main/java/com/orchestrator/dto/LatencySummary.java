@@ -0,0 +1,35 @@
+package com.orchestrator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Percentiles of one latency histogram, in milliseconds.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LatencySummary {
+    private long count;
+    private double mean;
+    private long p50;
+    private long p90;
+    private long p99;
+    private long max;
+
+    public static LatencySummary from(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return new LatencySummary();
+        }
+        return new LatencySummary(
+            histogram.getTotalCount(),
+            histogram.getMean(),
+            histogram.getValueAtPercentile(50),
+            histogram.getValueAtPercentile(90),
+            histogram.getValueAtPercentile(99),
+            histogram.getMaxValue()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.orchestrator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One finished task, relayed so every node's leaderboard applies it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LeaderboardDelta {
+    private Long employeeId;
+    private boolean success;
+    private int timeSpentMinutes;
+}
@@ -0,0 +1,33 @@
+package com.orchestrator.dto;
+
+import java.util.Comparator;
+
+/**
+ * Leaderboard position of one employee: most completed first, then fastest average, then id.
+ */
+public record LeaderboardEntry(
+        Long employeeId,
+        String fullName,
+        int totalCompleted,
+        int totalFailed,
+        double averageTimeMinutes) {
+
+    public static final Comparator<LeaderboardEntry> RANKING = Comparator
+        .comparingInt(LeaderboardEntry::totalCompleted).reversed()
+        .thenComparingDouble(LeaderboardEntry::averageTimeMinutes)
+        .thenComparing(LeaderboardEntry::employeeId);
+
+    public static LeaderboardEntry from(EmployeeRosterItem item) {
+        return new LeaderboardEntry(item.getId(), item.getFullName(), item.getStats().getTotalCompleted(),
+            item.getStats().getTotalFailed(), item.getStats().getAverageTimeMinutes());
+    }
+
+    /** Same running-average rule as EmployeeStatsRepository.recordCompleted */
+    public LeaderboardEntry with(boolean success, int timeSpentMinutes) {
+        if (!success) {
+            return new LeaderboardEntry(employeeId, fullName, totalCompleted, totalFailed + 1, averageTimeMinutes);
+        }
+        double average = (averageTimeMinutes * totalCompleted + timeSpentMinutes) / (totalCompleted + 1);
+        return new LeaderboardEntry(employeeId, fullName, totalCompleted + 1, totalFailed, average);
+    }
+}
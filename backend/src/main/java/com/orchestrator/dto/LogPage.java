@@ -0,0 +1,15 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.SystemLog;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LogPage {
+    private List<SystemLog> items;
+    private String nextCursor; // null when this is the last page
+}
@@ -0,0 +1,24 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.LogType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters and keyset position for a system log search. Rows are ordered
+ * newest first by (timestamp, id); a page starts strictly after the given position.
+ */
+@Data
+@NoArgsConstructor
+public class LogQuery {
+    private String taskId;
+    private String workerId;
+    private LogType type;
+    private LocalDateTime from;      // inclusive
+    private LocalDateTime to;        // exclusive
+    private LocalDateTime afterTimestamp;
+    private Long afterId;
+    private int limit = 100;
+}
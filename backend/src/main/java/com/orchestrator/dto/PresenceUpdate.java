@@ -0,0 +1,18 @@
+package com.orchestrator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Presence change relayed between nodes. TTL is relative so node clock skew does not matter.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PresenceUpdate {
+    private List<Long> online;
+    private List<Long> offline;
+    private long ttlMs;
+}
@@ -0,0 +1,16 @@
+package com.orchestrator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RosterPage {
+    private List<EmployeeRosterItem> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
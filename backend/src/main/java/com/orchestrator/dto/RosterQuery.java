@@ -0,0 +1,19 @@
+package com.orchestrator.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sort and offset window for the employee roster.
+ */
+@Data
+@NoArgsConstructor
+public class RosterQuery {
+    
+    public enum SortKey { NAME, COMPLETED, FAILED, AVERAGE_TIME, UTILISATION }
+    
+    private SortKey sort = SortKey.NAME;
+    private boolean descending;
+    private int page;
+    private int size = 100;
+}
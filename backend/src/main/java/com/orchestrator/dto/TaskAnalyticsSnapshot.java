@@ -0,0 +1,19 @@
+package com.orchestrator.dto;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Rolling task analytics for one node: latency percentiles per priority over
+ * the histogram window, and throughput per minute (oldest minute first).
+ */
+@Data
+public class TaskAnalyticsSnapshot {
+    private String nodeId;
+    private long windowMinutes;
+    private String generatedAt;
+    private Map<Integer, LatencySummary> queueWaitByPriority;
+    private Map<Integer, LatencySummary> serviceTimeByPriority;
+    private Map<String, long[]> throughputPerMinute;
+}
@@ -0,0 +1,75 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.TaskStatus;
+import com.orchestrator.entity.User;
+import lombok.AllArgsConstructor;
+import org.hibernate.Hibernate;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of a task listing, projected straight from the query.
+ * description and completionMessage are only filled for the "full" field set.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskListItem {
+    private Long id;
+    private String taskId;
+    private String name;
+    private TaskStatus status;
+    private Integer priority;
+    private Integer progress;
+    private Long createdById;
+    private String createdByName;
+    private Long assignedToId;
+    private String assignedToName;
+    private String workerId;
+    private Integer retryCount;
+    private String errorMessage;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private LocalDateTime createdAt;
+    private String description;
+    private String completionMessage;
+    
+    /**
+     * Same row built from a loaded entity. Names are only filled when the
+     * association is already initialized, so a lazy proxy is never loaded
+     * (or handed to Jackson).
+     */
+    public static TaskListItem fromTask(Task task) {
+        TaskListItem item = new TaskListItem();
+        item.setId(task.getId());
+        item.setTaskId(task.getTaskId());
+        item.setName(task.getName());
+        item.setStatus(task.getStatus());
+        item.setPriority(task.getPriority());
+        item.setProgress(task.getProgress());
+        if (task.getCreatedBy() != null) {
+            item.setCreatedById(task.getCreatedBy().getId());
+            item.setCreatedByName(nameOf(task.getCreatedBy()));
+        }
+        if (task.getAssignedTo() != null) {
+            item.setAssignedToId(task.getAssignedTo().getId());
+            item.setAssignedToName(nameOf(task.getAssignedTo()));
+        }
+        item.setWorkerId(task.getWorkerId());
+        item.setRetryCount(task.getRetryCount());
+        item.setErrorMessage(task.getErrorMessage());
+        item.setStartTime(task.getStartTime());
+        item.setEndTime(task.getEndTime());
+        item.setCreatedAt(task.getCreatedAt());
+        item.setDescription(task.getDescription());
+        item.setCompletionMessage(task.getCompletionMessage());
+        return item;
+    }
+    
+    private static String nameOf(User user) {
+        return Hibernate.isInitialized(user) ? user.getFullName() : null;
+    }
+}
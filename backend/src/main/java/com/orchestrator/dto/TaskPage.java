@@ -0,0 +1,14 @@
+package com.orchestrator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPage {
+    private List<TaskListItem> items;
+    private String nextCursor; // null when this is the last page
+}
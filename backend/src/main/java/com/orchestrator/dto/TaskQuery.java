@@ -0,0 +1,25 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.TaskStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters and keyset position for a task listing. Tasks are ordered newest
+ * first by (createdAt, id); a page starts strictly after the given position.
+ */
+@Data
+@NoArgsConstructor
+public class TaskQuery {
+    private String taskId;
+    private TaskStatus status;
+    private Integer priority;
+    private Long assigneeId;
+    private Long creatorId;
+    private LocalDateTime afterCreatedAt;
+    private Long afterId;
+    private int limit = 50;          // 0 = no limit
+    private boolean includeText; // description and completionMessage
+}
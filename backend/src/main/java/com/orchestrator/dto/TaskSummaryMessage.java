@@ -0,0 +1,51 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat wire representation of a task for broadcast frames.
+ * Only scalar columns and association ids are read, so building it never
+ * initializes the lazy createdBy / assignedTo proxies.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSummaryMessage {
+    private String taskId;
+    private String name;
+    private String status;
+    private Integer priority;
+    private Integer progress;
+    private Long createdById;
+    private Long assignedToId;
+    private String startTime;
+    private String endTime;
+
+    public static TaskSummaryMessage fromTask(Task task) {
+        TaskSummaryMessage msg = new TaskSummaryMessage();
+        msg.setTaskId(task.getTaskId());
+        msg.setName(task.getName());
+        msg.setStatus(task.getStatus() != null ? task.getStatus().name() : null);
+        msg.setPriority(task.getPriority());
+        msg.setProgress(task.getProgress());
+        // getId() on a Hibernate proxy does not trigger initialization
+        if (task.getCreatedBy() != null) {
+            msg.setCreatedById(task.getCreatedBy().getId());
+        }
+        if (task.getAssignedTo() != null) {
+            msg.setAssignedToId(task.getAssignedTo().getId());
+        }
+        msg.setStartTime(format(task.getStartTime()));
+        msg.setEndTime(format(task.getEndTime()));
+        return msg;
+    }
+
+    private static String format(LocalDateTime time) {
+        return time != null ? time.toString() : null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.orchestrator.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A task's transitions in order, with the time spent in each phase summed
+ * over all attempts (milliseconds):
+ * queueWait (queued to assigned), startup (assigned to first progress),
+ * running (first progress, or assignment, to completed/failed) and
+ * retryDelay (failed to retried).
+ */
+@Data
+public class TaskTimeline {
+    private String taskId;
+    private int attempts;
+    private boolean finished;
+    private long totalMs; // First transition to the last one, or to now while unfinished
+    private Map<String, Long> phasesMs;
+    private List<TaskTransitionItem> transitions;
+}
@@ -0,0 +1,20 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.TaskTransitionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One timeline entry of a task.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskTransitionItem {
+    private TaskTransitionType type;
+    private LocalDateTime at;
+    private Long employeeId;
+}
@@ -0,0 +1,38 @@
+package com.orchestrator.dto;
+
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import com.orchestrator.entity.UserStatus;
+
+/**
+ * The cached identity behind a User-Id header. Immutable and without the
+ * password hash, so one instance can be shared by every request.
+ */
+public record UserPrincipal(
+        Long id,
+        String username,
+        String fullName,
+        String email,
+        UserRole role,
+        UserStatus status) {
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getUsername(), user.getFullName(), user.getEmail(),
+            user.getRole(), user.getStatus());
+    }
+
+    /**
+     * A detached User for this request only: enough to reference the row from
+     * other entities and to read the fields above. The password is not set.
+     */
+    public User toUser() {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setFullName(fullName);
+        user.setEmail(email);
+        user.setRole(role);
+        user.setStatus(status);
+        return user;
+    }
+}
@@ -0,0 +1,46 @@
+package com.orchestrator.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * One row per employee per day, rolled up as assignments close so history
+ * and stats views never scan raw assignment rows.
+ */
+@Entity
+@Table(name = "employee_daily_stats")
+@Data
+@Getter @Setter @NoArgsConstructor
+public class EmployeeDailyStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    @ToString.Exclude @EqualsAndHashCode.Exclude // Never initialize the proxy as a side effect
+    private User employee;
+    
+    @Column(nullable = false)
+    private LocalDate activityDate;
+    
+    private Integer tasksCompleted;
+    
+    private Integer tasksFailed;
+    
+    private Long completedMinutes; // Sum over completed tasks only, like the running average
+    
+    @PrePersist
+    protected void onCreate() {
+        tasksCompleted = 0;
+        tasksFailed = 0;
+        completedMinutes = 0L;
+    }
+}
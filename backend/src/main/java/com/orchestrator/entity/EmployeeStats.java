@@ -2,9 +2,11 @@ package com.orchestrator.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -19,6 +21,7 @@ public class EmployeeStats {
     
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", unique = true)
+    @ToString.Exclude @EqualsAndHashCode.Exclude // Never initialize the proxy as a side effect
     private User employee;
 
     public User getEmployee(){
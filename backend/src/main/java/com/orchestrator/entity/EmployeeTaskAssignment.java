@@ -2,9 +2,11 @@ package com.orchestrator.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -20,10 +22,12 @@ public class EmployeeTaskAssignment {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
+    @ToString.Exclude @EqualsAndHashCode.Exclude // Never initialize the proxy as a side effect
     private User employee;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
+    @ToString.Exclude @EqualsAndHashCode.Exclude
     private Task task;
     
     private LocalDateTime assignedAt;
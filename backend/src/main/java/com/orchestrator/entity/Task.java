@@ -2,14 +2,16 @@ package com.orchestrator.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks") // Indexes live in db/migration
 @Data
 @Getter @Setter @NoArgsConstructor
 
@@ -35,16 +37,23 @@ public class Task {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
+    @ToString.Exclude @EqualsAndHashCode.Exclude // Never initialize the proxy as a side effect
     private User createdBy; // NEW: Admin who created the task
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_to")
+    @ToString.Exclude @EqualsAndHashCode.Exclude
     private User assignedTo; // NEW: Employee assigned to this task
     
     private String workerId; // For backward compatibility with workers
     
     private String lockId;
     
+    // Written only by TaskRepository.advanceFence; the column defaults to 0, and
+    // saving a stale copy of the task cannot lower it
+    @Column(insertable = false, updatable = false)
+    private Long fenceToken;
+    
     private LocalDateTime startTime;
     
     private LocalDateTime endTime;
@@ -63,10 +72,20 @@ public class Task {
     
     private LocalDateTime updatedAt;
     
+    // Latest timeline entry; TaskTimelineService closes the next phase from it
+    @Enumerated(EnumType.ORDINAL)
+    @Column(columnDefinition = "TINYINT")
+    private TaskTransitionType lastTransition;
+    
+    private LocalDateTime lastTransitionAt;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        // A new task is queued as it is created (TaskTimelineService.recordCreated)
+        lastTransition = TaskTransitionType.QUEUED;
+        lastTransitionAt = createdAt;
         progress = 0;
         retryCount = 0;
         if (priority == null) {
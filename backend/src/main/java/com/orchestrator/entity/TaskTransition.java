@@ -0,0 +1,41 @@
+package com.orchestrator.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a task's append-only timeline. Rows are never updated.
+ */
+@Entity
+@Table(name = "task_transitions")
+@Data
+@Getter @Setter @NoArgsConstructor
+public class TaskTransition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    @ToString.Exclude @EqualsAndHashCode.Exclude // Never initialize the proxy as a side effect
+    private Task task;
+    
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false, columnDefinition = "TINYINT")
+    private TaskTransitionType type;
+    
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id")
+    @ToString.Exclude @EqualsAndHashCode.Exclude
+    private User employee; // Set for ASSIGNED and the transitions made by the assignee
+}
@@ -0,0 +1,15 @@
+package com.orchestrator.entity;
+
+/**
+ * Lifecycle points recorded in a task's timeline.
+ * Stored by ordinal to keep rows small: only ever append new values.
+ */
+public enum TaskTransitionType {
+    CREATED,
+    QUEUED,         // Entered PENDING, on creation and again on retry
+    ASSIGNED,
+    FIRST_PROGRESS, // First progress report of the current attempt
+    COMPLETED,
+    FAILED,
+    RETRIED
+}
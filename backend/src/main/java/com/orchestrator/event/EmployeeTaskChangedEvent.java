@@ -0,0 +1,9 @@
+package com.orchestrator.event;
+
+import com.orchestrator.entity.TaskStatus;
+
+/**
+ * Published when a task held by an employee is assigned, progresses, completes or fails.
+ */
+public record EmployeeTaskChangedEvent(Long employeeId, String taskId, TaskStatus status) {
+}
@@ -0,0 +1,7 @@
+package com.orchestrator.event;
+
+/**
+ * Published when a task enters PENDING and may be handed to a waiting employee.
+ */
+public record TaskAvailableEvent(String taskId, Integer priority) {
+}
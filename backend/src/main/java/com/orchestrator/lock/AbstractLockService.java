@@ -0,0 +1,207 @@
+package com.orchestrator.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-local stripes, fencing tokens, batching and metrics shared by the lock
+ * backends; subclasses only take and give back the shared lock, once the
+ * calling thread already holds the key's stripe.
+ */
+@Slf4j
+public abstract class AbstractLockService implements DistributedLockService {
+
+    private final LockStripes stripes;
+
+    private final Timer acquiredWait;
+    private final Timer timedOutWait;
+    private final Timer interruptedWait;
+    private final Timer holdTimer;
+    private final Counter nodeContention;
+    private final Counter sharedContention;
+
+    protected AbstractLockService(MeterRegistry meterRegistry, int stripeCount) {
+        this.stripes = new LockStripes(stripeCount);
+        this.acquiredWait = waitTimer(meterRegistry, "acquired");
+        this.timedOutWait = waitTimer(meterRegistry, "timeout");
+        this.interruptedWait = waitTimer(meterRegistry, "interrupted");
+        this.holdTimer = Timer.builder("orchestrator.lock.hold")
+            .description("Time a task lock was held, acquisition to release")
+            .register(meterRegistry);
+        this.nodeContention = contentionCounter(meterRegistry, "node");
+        this.sharedContention = contentionCounter(meterRegistry, "shared");
+        Gauge.builder("orchestrator.lock.held", stripes, LockStripes::heldCount)
+            .description("Task locks held by this node's threads")
+            .register(meterRegistry);
+    }
+
+    /** Take the shared lock, waiting at most waitNanos (0: only if free right now) */
+    protected abstract boolean tryLockShared(String lockKey, long waitNanos) throws InterruptedException;
+
+    /** Give back a shared lock this thread took */
+    protected abstract void unlockShared(String lockKey);
+
+    /** Whether another node holds the lock; this node's holders are already known */
+    protected abstract boolean isLockedShared(String lockKey);
+
+    /** Reserve count fencing tokens and return the highest of them */
+    protected abstract long reserveTokens(int count);
+
+    /**
+     * Start value for a fresh token counter: microseconds since the epoch, which
+     * is above every token an earlier counter handed out unless it averaged more
+     * than one per microsecond. Task rows keep the highest token they have seen,
+     * so a counter reset by a restart must not start below them.
+     */
+    protected static long tokenSeed() {
+        return System.currentTimeMillis() * 1000;
+    }
+
+    @Override
+    public TaskLock acquireLock(String taskId) {
+        List<TaskLock> locks = acquireLocks(List.of(taskId));
+        return locks != null ? locks.get(0) : null;
+    }
+
+    @Override
+    public TaskLock tryAcquireLock(String taskId) {
+        List<TaskLock> locks = acquire(List.of(taskId), 0);
+        return locks != null ? locks.get(0) : null;
+    }
+
+    @Override
+    public List<TaskLock> acquireLocks(Collection<String> taskIds) {
+        return acquire(taskIds, TimeUnit.SECONDS.toNanos(WAIT_SECONDS));
+    }
+
+    private List<TaskLock> acquire(Collection<String> taskIds, long waitNanos) {
+        List<String> ids = taskIds.stream().distinct().toList();
+        List<String> keys = ids.stream().map(DistributedLockService::lockKey).toList();
+        // Stripes in stripe order, then shared locks in key order: every caller, on any
+        // node, takes both in the same order, so two batches never wait on each other
+        List<String> stripeOrder = keys.stream()
+            .sorted(Comparator.comparingInt(stripes::indexOf).thenComparing(Comparator.naturalOrder()))
+            .toList();
+        List<String> sharedOrder = keys.stream().sorted().toList();
+
+        long start = System.nanoTime();
+        long deadline = start + waitNanos;
+        List<String> local = new ArrayList<>(keys.size());
+        List<String> shared = new ArrayList<>(keys.size());
+        boolean acquired = false;
+        try {
+            for (String lockKey : stripeOrder) {
+                if (!lockStripe(lockKey, deadline)) {
+                    timedOutWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return null;
+                }
+                local.add(lockKey);
+            }
+            for (String lockKey : sharedOrder) {
+                if (!lockShared(lockKey, deadline)) {
+                    timedOutWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return null;
+                }
+                shared.add(lockKey);
+            }
+
+            // One reservation covers the whole batch
+            long first = reserveTokens(keys.size()) - keys.size() + 1;
+            long now = System.nanoTime();
+            List<TaskLock> locks = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                locks.add(new TaskLock(ids.get(i), keys.get(i), first + i, now));
+            }
+            acquiredWait.record(now - start, TimeUnit.NANOSECONDS);
+            acquired = true;
+            log.info("Lock acquired for {} task(s): {}", ids.size(), ids);
+            return locks;
+        } catch (InterruptedException e) {
+            interruptedWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.error("Failed to acquire lock for task(s): {}", ids, e);
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (!acquired) {
+                // All or nothing: give back whatever part of the batch was taken
+                shared.forEach(this::unlockSharedQuietly);
+                local.forEach(stripes::unlock);
+            }
+        }
+    }
+
+    @Override
+    public void releaseLock(TaskLock lock) {
+        if (lock == null || !stripes.isHeldByCurrentThread(lock.lockKey())) {
+            return;
+        }
+        try {
+            unlockShared(lock.lockKey());
+        } finally {
+            stripes.unlock(lock.lockKey());
+        }
+        holdTimer.record(System.nanoTime() - lock.acquiredAtNanos(), TimeUnit.NANOSECONDS);
+        log.info("Lock released: {}", lock.lockKey());
+    }
+
+    @Override
+    public void releaseLocks(Collection<TaskLock> locks) {
+        if (locks != null) {
+            locks.forEach(this::releaseLock);
+        }
+    }
+
+    @Override
+    public boolean isLocked(String taskId) {
+        String lockKey = DistributedLockService.lockKey(taskId);
+        return stripes.isHeld(lockKey) || isLockedShared(lockKey);
+    }
+
+    private boolean lockStripe(String lockKey, long deadline) throws InterruptedException {
+        if (stripes.tryLock(lockKey)) {
+            return true;
+        }
+        nodeContention.increment();
+        long remaining = deadline - System.nanoTime();
+        return remaining > 0 && stripes.tryLock(lockKey, remaining);
+    }
+
+    private boolean lockShared(String lockKey, long deadline) throws InterruptedException {
+        if (tryLockShared(lockKey, 0)) {
+            return true;
+        }
+        sharedContention.increment();
+        long remaining = deadline - System.nanoTime();
+        return remaining > 0 && tryLockShared(lockKey, remaining);
+    }
+
+    private void unlockSharedQuietly(String lockKey) {
+        try {
+            unlockShared(lockKey);
+        } catch (RuntimeException e) {
+            log.warn("Failed to give back lock {} of an incomplete batch", lockKey, e);
+        }
+    }
+
+    private static Timer waitTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("orchestrator.lock.wait")
+            .description("Time spent waiting for a task lock")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private static Counter contentionCounter(MeterRegistry registry, String scope) {
+        return Counter.builder("orchestrator.lock.contended")
+            .description("Lock attempts that found the lock held and had to wait")
+            .tag("scope", scope)
+            .register(registry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.orchestrator.lock;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Per-task mutual exclusion. Every node that shares the backend sees the same
+ * lock: Redis for a cluster, striped in-process locks for a single node.
+ * Either way a lock is first taken on the node's own stripes, so threads of
+ * one node queue locally and only the stripe holder goes to the backend.
+ * <p>
+ * Contract, common to both implementations:
+ * <ul>
+ *   <li>acquireLock waits up to {@link #WAIT_SECONDS} and returns the held
+ *       lock, or null if another holder kept it that long; tryAcquireLock
+ *       does not wait at all</li>
+ *   <li>acquireLocks takes all of the tasks' locks or none of them, within one
+ *       WAIT_SECONDS budget; batches in any order cannot deadlock each other</li>
+ *   <li>every acquisition carries a fencing token larger than all earlier ones;
+ *       writes under the lock verify it so a holder that lost its lease
+ *       cannot overwrite its successor</li>
+ *   <li>a lock belongs to the acquiring thread; releasing it from any other
+ *       thread, or twice, does nothing</li>
+ *   <li>isLocked reports whether anyone holds the task's lock right now</li>
+ * </ul>
+ */
+public interface DistributedLockService {
+
+    long WAIT_SECONDS = 10;
+
+    TaskLock acquireLock(String taskId);
+
+    TaskLock tryAcquireLock(String taskId);
+
+    List<TaskLock> acquireLocks(Collection<String> taskIds);
+
+    void releaseLock(TaskLock lock);
+
+    void releaseLocks(Collection<TaskLock> locks);
+
+    boolean isLocked(String taskId);
+
+    static String lockKey(String taskId) {
+        return "task:lock:" + taskId;
+    }
+}
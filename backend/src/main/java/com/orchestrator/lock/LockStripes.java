@@ -0,0 +1,73 @@
+package com.orchestrator.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Node-local task locks: each key hashes onto one of a fixed set of
+ * ReentrantLocks, so memory does not grow with the number of tasks. Two keys
+ * on the same stripe exclude each other, which only costs waiting, never
+ * correctness.
+ */
+final class LockStripes {
+
+    private final ReentrantLock[] stripes;
+
+    // lockKey -> hold count; only the thread holding the key's stripe changes its entry
+    private final Map<String, Integer> holds = new ConcurrentHashMap<>();
+
+    LockStripes(int stripeCount) {
+        // Power of two, so a mask picks the stripe
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    int indexOf(String lockKey) {
+        int hash = lockKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    /** Take the key's stripe only if it is free right now */
+    boolean tryLock(String lockKey) {
+        return held(lockKey, stripes[indexOf(lockKey)].tryLock());
+    }
+
+    boolean tryLock(String lockKey, long waitNanos) throws InterruptedException {
+        return held(lockKey, stripes[indexOf(lockKey)].tryLock(waitNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /** Release if the calling thread holds the key; false otherwise */
+    boolean unlock(String lockKey) {
+        if (!isHeldByCurrentThread(lockKey)) {
+            return false;
+        }
+        holds.computeIfPresent(lockKey, (key, count) -> count == 1 ? null : count - 1);
+        stripes[indexOf(lockKey)].unlock();
+        return true;
+    }
+
+    boolean isHeldByCurrentThread(String lockKey) {
+        // Every held key on a stripe belongs to the stripe's single holder
+        return stripes[indexOf(lockKey)].isHeldByCurrentThread() && holds.containsKey(lockKey);
+    }
+
+    boolean isHeld(String lockKey) {
+        return holds.containsKey(lockKey);
+    }
+
+    int heldCount() {
+        return holds.size();
+    }
+
+    private boolean held(String lockKey, boolean acquired) {
+        if (acquired) {
+            holds.merge(lockKey, 1, Integer::sum);
+        }
+        return acquired;
+    }
+}
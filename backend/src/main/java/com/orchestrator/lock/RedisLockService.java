@@ -0,0 +1,68 @@
+package com.orchestrator.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task locks shared by every API node through Redisson. Locks are taken
+ * without a lease time, so Redisson's watchdog keeps renewing them while this
+ * node is alive and a dead node's locks expire after locks.watchdog-timeout-ms.
+ * Fencing tokens come from one Redis counter.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "locks.backend", havingValue = "redis", matchIfMissing = true)
+public class RedisLockService extends AbstractLockService {
+
+    private static final String FENCE_KEY = "task:lock:fence";
+
+    private final RedissonClient redissonClient;
+
+    private volatile boolean fenceSeeded;
+
+    public RedisLockService(
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${locks.stripes:1024}") int stripeCount) {
+        super(meterRegistry, stripeCount);
+        this.redissonClient = redissonClient;
+    }
+
+    @Override
+    protected boolean tryLockShared(String lockKey, long waitNanos) throws InterruptedException {
+        return redissonClient.getLock(lockKey).tryLock(TimeUnit.NANOSECONDS.toMillis(waitNanos), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void unlockShared(String lockKey) {
+        try {
+            redissonClient.getLock(lockKey).unlock();
+        } catch (IllegalMonitorStateException e) {
+            // The lease lapsed (watchdog could not reach Redis) and the lock may have moved on;
+            // writes made under it are refused by their fencing token
+            log.warn("Lock {} was no longer held at release", lockKey);
+        }
+    }
+
+    @Override
+    protected boolean isLockedShared(String lockKey) {
+        return redissonClient.getLock(lockKey).isLocked();
+    }
+
+    @Override
+    protected long reserveTokens(int count) {
+        RAtomicLong fence = redissonClient.getAtomicLong(FENCE_KEY);
+        if (!fenceSeeded) {
+            // Only moves a missing (new or flushed) counter
+            fence.compareAndSet(0, tokenSeed());
+            fenceSeeded = true;
+        }
+        return fence.addAndGet(count);
+    }
+}
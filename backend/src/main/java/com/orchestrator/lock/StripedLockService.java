@@ -0,0 +1,41 @@
+package com.orchestrator.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Task locks for a single node: the node-local stripes are the whole lock, so
+ * locking never leaves the JVM. There is no lease; release in a finally block.
+ */
+@Service
+@ConditionalOnProperty(name = "locks.backend", havingValue = "local")
+public class StripedLockService extends AbstractLockService {
+
+    private final AtomicLong fence = new AtomicLong(tokenSeed());
+
+    public StripedLockService(MeterRegistry meterRegistry, @Value("${locks.stripes:1024}") int stripeCount) {
+        super(meterRegistry, stripeCount);
+    }
+
+    @Override
+    protected boolean tryLockShared(String lockKey, long waitNanos) {
+        return true;
+    }
+
+    @Override
+    protected void unlockShared(String lockKey) {
+    }
+
+    @Override
+    protected boolean isLockedShared(String lockKey) {
+        return false;
+    }
+
+    @Override
+    protected long reserveTokens(int count) {
+        return fence.addAndGet(count);
+    }
+}
@@ -0,0 +1,9 @@
+package com.orchestrator.lock;
+
+/**
+ * A held task lock. The fencing token is larger than that of every earlier
+ * acquisition, so a holder whose lease lapsed carries a lower token than the
+ * task's next holder and its writes can be refused (TaskRepository.advanceFence).
+ */
+public record TaskLock(String taskId, String lockKey, long fencingToken, long acquiredAtNanos) {
+}
@@ -0,0 +1,13 @@
+package com.orchestrator.logging;
+
+/**
+ * What a caller does when the log buffer is full.
+ */
+public enum LogOverflowPolicy {
+    /** Discard the new entry; the caller never waits */
+    DROP_NEWEST,
+    /** Evict the oldest buffered entry to make room; the caller never waits */
+    DROP_OLDEST,
+    /** Wait for the writer to free a slot; nothing is lost but callers slow down with the database */
+    BLOCK
+}
@@ -0,0 +1,81 @@
+package com.orchestrator.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer / multi-consumer ring buffer.
+ * Each slot carries a sequence number that tells producers and consumers whose
+ * turn it is, so offer and poll are a single CAS on the uncontended path and
+ * never block. Capacity is rounded up to a power of two.
+ */
+public class LogRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> items;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong(); // next slot to consume
+    private final AtomicLong tail = new AtomicLong(); // next slot to produce
+
+    public LogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(1, requestedCapacity - 1)) << 1; // at least 2
+        this.mask = capacity - 1;
+        this.items = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /** Returns false when the buffer is full */
+    public boolean offer(E item) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long lag = sequences.get(index) - pos;
+            if (lag == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    items.set(index, item);
+                    sequences.set(index, pos + 1); // Publish to consumers
+                    return true;
+                }
+                pos = tail.get();
+            } else if (lag < 0) {
+                return false; // Slot still holds an unconsumed item from the previous lap
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /** Returns null when the buffer is empty */
+    public E poll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long lag = sequences.get(index) - (pos + 1);
+            if (lag == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E item = items.get(index);
+                    items.set(index, null);
+                    sequences.set(index, pos + mask + 1); // Free the slot for the next lap
+                    return item;
+                }
+                pos = head.get();
+            } else if (lag < 0) {
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    public int size() {
+        return (int) Math.max(0, Math.min(tail.get() - head.get(), mask + 1));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
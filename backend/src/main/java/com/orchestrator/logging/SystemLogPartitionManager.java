@@ -0,0 +1,129 @@
+package com.orchestrator.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps system_logs split into one partition per day: creates partitions a few
+ * days ahead by splitting the empty p_future catch-all, and enforces retention
+ * by dropping whole expired partitions, which is a metadata operation rather
+ * than a DELETE over millions of rows.
+ */
+@Component
+@ConditionalOnProperty(name = "log-retention.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SystemLogPartitionManager {
+
+    private static final String FUTURE = "p_future";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+    private final int daysAhead;
+    // Not synchronized: a virtual thread blocked on JDBC inside a monitor pins its carrier
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    public SystemLogPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            @Value("${log-retention.days:30}") int retentionDays,
+            @Value("${log-retention.partitions-ahead-days:7}") int daysAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+        this.daysAhead = daysAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${log-retention.cron:0 5 0 * * *}")
+    public void maintain() {
+        maintenanceLock.lock();
+        try {
+            List<Partition> partitions = loadPartitions();
+            if (partitions.isEmpty()) {
+                log.warn("system_logs is not partitioned; log retention is disabled");
+                return;
+            }
+            createAhead(partitions);
+            dropExpired(loadPartitions());
+        } catch (RuntimeException e) {
+            // Another node may be running the same maintenance; the next run catches up
+            log.warn("System log partition maintenance failed: {}", e.getMessage());
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private void createAhead(List<Partition> partitions) {
+        LocalDate lastBound = partitions.stream()
+            .filter(p -> p.upperBound() != null)
+            .map(p -> p.upperBound().toLocalDate())
+            .max(LocalDate::compareTo)
+            .orElse(LocalDate.now());
+        LocalDate target = LocalDate.now().plusDays(daysAhead + 1L);
+        
+        // After a long gap, the first new partition also absorbs the days since lastBound
+        LocalDate first = lastBound.plusDays(1).isAfter(LocalDate.now()) ? lastBound.plusDays(1) : LocalDate.now().plusDays(1);
+        List<String> definitions = new ArrayList<>();
+        for (LocalDate bound = first; !bound.isAfter(target); bound = bound.plusDays(1)) {
+            // Partition for day D holds rows < D + 1
+            definitions.add("PARTITION " + bound.minusDays(1).format(NAME_FORMAT)
+                + " VALUES LESS THAN ('" + bound.atStartOfDay().format(BOUND_FORMAT) + "')");
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+        definitions.add("PARTITION " + FUTURE + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE system_logs REORGANIZE PARTITION " + FUTURE
+            + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("Created {} daily system_logs partitions up to {}", definitions.size() - 1, target);
+    }
+
+    private void dropExpired(List<Partition> partitions) {
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        List<String> expired = partitions.stream()
+            .filter(p -> p.upperBound() != null && !p.upperBound().isAfter(cutoff))
+            .map(Partition::name)
+            .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE system_logs DROP PARTITION " + String.join(", ", expired));
+        log.info("Dropped expired system_logs partitions {}", expired);
+    }
+
+    private List<Partition> loadPartitions() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'system_logs' AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION");
+        List<Partition> partitions = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            String description = String.valueOf(row.get("PARTITION_DESCRIPTION")).replace("'", "");
+            LocalDateTime bound = "MAXVALUE".equals(description) ? null
+                : LocalDateTime.parse(description, BOUND_FORMAT);
+            partitions.add(new Partition((String) row.get("PARTITION_NAME"), bound));
+        }
+        return partitions;
+    }
+
+    /** upperBound is exclusive; null for the MAXVALUE catch-all */
+    private record Partition(String name, LocalDateTime upperBound) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.orchestrator.logging;
+
+import com.orchestrator.entity.SystemLog;
+import com.orchestrator.service.WebSocketNotificationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Takes SystemLog rows off the caller's thread. Callers enqueue into a
+ * lock-free ring buffer; a single writer thread drains it in batches, inserts
+ * each batch with one JDBC batch statement and publishes it as one /topic/logs frame.
+ * Whatever is still buffered is written on shutdown; rows offered after
+ * shutdown has begun are refused and counted as rejected.
+ */
+@Component
+@Slf4j
+public class SystemLogWriter {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO system_logs (message, type, task_id, worker_id, timestamp) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WebSocketNotificationService notificationService;
+    private final LogRingBuffer<SystemLog> buffer;
+    private final LogOverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private Thread writer;
+    private volatile boolean running;
+
+    // Callers between their running check and their offer; shutdown waits for them
+    private final AtomicInteger producers = new AtomicInteger();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public SystemLogWriter(
+            JdbcTemplate jdbcTemplate,
+            WebSocketNotificationService notificationService,
+            @Value("${log-writer.capacity:65536}") int capacity,
+            @Value("${log-writer.batch-size:500}") int batchSize,
+            @Value("${log-writer.flush-interval-ms:100}") long flushIntervalMs,
+            @Value("${log-writer.overflow-policy:DROP_NEWEST}") LogOverflowPolicy overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.notificationService = notificationService;
+        this.buffer = new LogRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "system-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Buffer a row for the writer. Returns false if it was dropped by the
+     * overflow policy or refused because the writer is stopped.
+     */
+    public boolean enqueue(SystemLog entry) {
+        producers.incrementAndGet();
+        try {
+            if (!running) {
+                rejected.increment();
+                return false;
+            }
+            boolean accepted = switch (overflowPolicy) {
+                case DROP_NEWEST -> buffer.offer(entry);
+                case DROP_OLDEST -> offerEvictingOldest(entry);
+                case BLOCK -> offerWaiting(entry);
+            };
+            if (!accepted) {
+                dropped.increment();
+                return false;
+            }
+        } finally {
+            producers.decrementAndGet();
+        }
+        enqueued.increment();
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    private boolean offerEvictingOldest(SystemLog entry) {
+        while (!buffer.offer(entry)) {
+            if (buffer.poll() != null) {
+                dropped.increment();
+            }
+        }
+        return true;
+    }
+
+    private boolean offerWaiting(SystemLog entry) {
+        while (!buffer.offer(entry)) {
+            if (!running) {
+                return false; // The writer drains what is buffered, not what is still waiting
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return true;
+    }
+
+    private void drainLoop() {
+        List<SystemLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (buffer.size() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            drain(batch);
+        }
+        // Every caller that saw running=true has finished its offer before the last drain
+        while (producers.get() > 0) {
+            Thread.onSpinWait();
+        }
+        drain(batch);
+    }
+
+    private void drain(List<SystemLog> batch) {
+        SystemLog entry;
+        while ((entry = buffer.poll()) != null) {
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                flush(batch);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<SystemLog> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, row) -> {
+                ps.setString(1, row.getMessage());
+                ps.setString(2, row.getType() != null ? row.getType().name() : null);
+                ps.setString(3, row.getTaskId());
+                ps.setString(4, row.getWorkerId());
+                ps.setTimestamp(5, Timestamp.valueOf(row.getTimestamp()));
+            });
+            written.add(batch.size());
+            batches.increment();
+            notificationService.broadcastLogBatch(new ArrayList<>(batch));
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.error("Failed to write {} system log rows: {}", batch.size(), e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("buffered", buffer.size());
+        stats.put("capacity", buffer.capacity());
+        stats.put("overflowPolicy", overflowPolicy);
+        stats.put("enqueued", enqueued.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("written", written.sum());
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("batches", batches.sum());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        log.info("System log writer stopped, {} rows written, {} rejected after shutdown",
+            written.sum(), rejected.sum());
+    }
+}
@@ -0,0 +1,133 @@
+package com.orchestrator.metrics;
+
+import com.orchestrator.datasource.ReadWriteRoutingDataSource;
+import com.orchestrator.entity.TaskStatus;
+import com.orchestrator.logging.SystemLogWriter;
+import com.orchestrator.service.EmployeeStatsService;
+import com.orchestrator.service.PrincipalCache;
+import com.orchestrator.service.TaskStatisticsService;
+import com.orchestrator.websocket.OutboundSessionRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Gauges and counters over state the services already keep. Every value is
+ * read at scrape time, so nothing here runs on a request or scheduler path.
+ * Tags are limited to fixed sets (status, route, state).
+ */
+@Component
+public class OrchestratorMetrics implements MeterBinder {
+
+    private static final long TASK_COUNTS_TTL_MS = 1000;
+
+    private final TaskStatisticsService statisticsService;
+    private final EmployeeStatsService employeeStatsService;
+    private final OutboundSessionRegistry outboundSessions;
+    private final SystemLogWriter logWriter;
+    private final PrincipalCache principalCache;
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+
+    // One counter snapshot serves every status gauge of a scrape
+    private volatile Map<String, Long> taskCounts = Map.of();
+    private volatile long taskCountsAt;
+
+    public OrchestratorMetrics(
+            TaskStatisticsService statisticsService,
+            EmployeeStatsService employeeStatsService,
+            OutboundSessionRegistry outboundSessions,
+            SystemLogWriter logWriter,
+            PrincipalCache principalCache,
+            ObjectProvider<ReadWriteRoutingDataSource> routingDataSource) {
+        this.statisticsService = statisticsService;
+        this.employeeStatsService = employeeStatsService;
+        this.outboundSessions = outboundSessions;
+        this.logWriter = logWriter;
+        this.principalCache = principalCache;
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TaskStatus status : TaskStatus.values()) {
+            String key = status.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("orchestrator.tasks", this, m -> m.taskCount(key))
+                .description("Tasks per status; pending is the assignment backlog")
+                .tag("status", key)
+                .register(registry);
+        }
+
+        // An employee holds at most one running task, so busy is the running count
+        Gauge.builder("orchestrator.employees", this,
+                m -> Math.max(0, employeeStatsService.getTrackedEmployees() - m.taskCount("running")))
+            .description("Employees by whether they hold an active task")
+            .tag("state", "idle")
+            .register(registry);
+        Gauge.builder("orchestrator.employees", this, m -> m.taskCount("running"))
+            .tag("state", "busy")
+            .register(registry);
+
+        Gauge.builder("orchestrator.websocket.sessions", outboundSessions, OutboundSessionRegistry::getSessionCount)
+            .register(registry);
+        Gauge.builder("orchestrator.websocket.queue.depth", outboundSessions, OutboundSessionRegistry::getTotalQueueDepth)
+            .description("Frames buffered for slow sessions")
+            .register(registry);
+        FunctionCounter.builder("orchestrator.websocket.frames", outboundSessions, OutboundSessionRegistry::getTotalSentFrames)
+            .description("STOMP frames written to sessions")
+            .tag("outcome", "sent")
+            .register(registry);
+        FunctionCounter.builder("orchestrator.websocket.frames", outboundSessions, OutboundSessionRegistry::getTotalDroppedFrames)
+            .tag("outcome", "dropped")
+            .register(registry);
+        FunctionCounter.builder("orchestrator.websocket.slow.disconnects", outboundSessions,
+                OutboundSessionRegistry::getSlowSessionsDisconnected)
+            .register(registry);
+
+        Gauge.builder("orchestrator.log.writer.buffered", logWriter, w -> stat(w.getStatistics(), "buffered"))
+            .register(registry);
+        for (String outcome : new String[] {"written", "dropped", "failed"}) {
+            FunctionCounter.builder("orchestrator.log.writer.rows", logWriter, w -> stat(w.getStatistics(), outcome))
+                .tag("outcome", outcome)
+                .register(registry);
+        }
+
+        Gauge.builder("orchestrator.principal.cache.size", principalCache, c -> stat(c.getStatistics(), "size"))
+            .register(registry);
+        for (String result : new String[] {"hits", "misses"}) {
+            FunctionCounter.builder("orchestrator.principal.cache.gets", principalCache, c -> stat(c.getStatistics(), result))
+                .tag("result", result.substring(0, result.length() - 1))
+                .register(registry);
+        }
+
+        ReadWriteRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing != null) {
+            for (String route : routing.getRoutes()) {
+                FunctionCounter.builder("orchestrator.datasource.connections", routing, r -> r.getConnectionCount(route))
+                    .description("Connections handed out per route")
+                    .tag("route", route)
+                    .register(registry);
+            }
+            FunctionCounter.builder("orchestrator.datasource.replica.fallbacks", routing,
+                    ReadWriteRoutingDataSource::getReplicaFallbacks)
+                .register(registry);
+        }
+    }
+
+    private double taskCount(String status) {
+        long now = System.currentTimeMillis();
+        if (now - taskCountsAt > TASK_COUNTS_TTL_MS) {
+            taskCounts = statisticsService.getStatistics();
+            taskCountsAt = now;
+        }
+        return taskCounts.getOrDefault(status, 0L);
+    }
+
+    private static double stat(Map<String, Object> stats, String key) {
+        return stats.get(key) instanceof Number n ? n.doubleValue() : Double.NaN;
+    }
+}
@@ -0,0 +1,39 @@
+package com.orchestrator.repository;
+
+import com.orchestrator.dto.DailyActivityItem;
+import com.orchestrator.entity.EmployeeDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface EmployeeDailyStatsRepository extends JpaRepository<EmployeeDailyStats, Long> {
+    
+    @Query("SELECT new com.orchestrator.dto.DailyActivityItem(d.activityDate, d.tasksCompleted, d.tasksFailed, d.completedMinutes) " +
+           "FROM EmployeeDailyStats d WHERE d.employee.id = :employeeId AND d.activityDate >= :since " +
+           "ORDER BY d.activityDate DESC")
+    List<DailyActivityItem> findActivitySince(@Param("employeeId") Long employeeId, @Param("since") LocalDate since);
+    
+    // Upserts on the (employee_id, activity_date) unique key, so the first completions of a
+    // day never race to insert the row. Native: JPQL has no upsert; H2 accepts this in MySQL mode.
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO employee_daily_stats " +
+                   "(employee_id, activity_date, tasks_completed, tasks_failed, completed_minutes) " +
+                   "VALUES (:employeeId, :date, 1, 0, :minutes) " +
+                   "ON DUPLICATE KEY UPDATE tasks_completed = tasks_completed + 1, " +
+                   "completed_minutes = completed_minutes + :minutes",
+           nativeQuery = true)
+    int recordCompleted(@Param("employeeId") Long employeeId, @Param("date") LocalDate date,
+                        @Param("minutes") long minutes);
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO employee_daily_stats " +
+                   "(employee_id, activity_date, tasks_completed, tasks_failed, completed_minutes) " +
+                   "VALUES (:employeeId, :date, 0, 1, 0) " +
+                   "ON DUPLICATE KEY UPDATE tasks_failed = tasks_failed + 1",
+           nativeQuery = true)
+    int recordFailed(@Param("employeeId") Long employeeId, @Param("date") LocalDate date);
+}
@@ -3,16 +3,54 @@ package com.orchestrator.repository;
 import com.orchestrator.entity.EmployeeStats;
 import com.orchestrator.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface EmployeeStatsRepository extends JpaRepository<EmployeeStats, Long> {
     Optional<EmployeeStats> findByEmployee(User employee);
     
+    Optional<EmployeeStats> findByEmployeeId(Long employeeId);
+    
     @Query("SELECT es FROM EmployeeStats es WHERE es.currentActiveTask = 0 ORDER BY es.priorityScore ASC, es.totalTasksAssigned ASC")
     List<EmployeeStats> findIdleEmployeesForFairDistribution();
     
-    @Query("SELECT COUNT(es) FROM EmployeeStats es WHERE es.currentActiveTask = 1")
-    Long countBusyEmployees();
+    // Atomic counter updates. Every SET expression reads only columns assigned after it
+    // (or not at all), so the result is the same whether the database evaluates the
+    // assignments left to right (MySQL) or against the old row (standard SQL).
+    
+    // Claims the employee: 0 rows when they are already busy (or have no stats row yet)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE EmployeeStats es SET es.currentActiveTask = 1, " +
+           "es.totalTasksAssigned = es.totalTasksAssigned + 1, " +
+           "es.lastTaskAssignedAt = :now, es.updatedAt = :now " +
+           "WHERE es.employee.id = :employeeId AND es.currentActiveTask = 0")
+    int markBusyIfIdle(@Param("employeeId") Long employeeId, @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE EmployeeStats es SET es.currentActiveTask = 0, es.updatedAt = :now " +
+           "WHERE es.employee.id = :employeeId")
+    int markIdle(@Param("employeeId") Long employeeId, @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE EmployeeStats es SET " +
+           "es.priorityScore = es.totalTasksAssigned - es.totalTasksCompleted - 1, " +
+           "es.averageCompletionTimeMinutes = " +
+           "(es.averageCompletionTimeMinutes * es.totalTasksCompleted + :minutes) / (es.totalTasksCompleted + 1), " +
+           "es.totalTasksCompleted = es.totalTasksCompleted + 1, " +
+           "es.currentActiveTask = 0, es.updatedAt = :now " +
+           "WHERE es.employee.id = :employeeId")
+    int recordCompleted(@Param("employeeId") Long employeeId, @Param("minutes") double minutes,
+                        @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE EmployeeStats es SET " +
+           "es.priorityScore = es.totalTasksAssigned - es.totalTasksCompleted, " +
+           "es.totalTasksFailed = es.totalTasksFailed + 1, " +
+           "es.currentActiveTask = 0, es.updatedAt = :now " +
+           "WHERE es.employee.id = :employeeId")
+    int recordFailed(@Param("employeeId") Long employeeId, @Param("now") LocalDateTime now);
 }
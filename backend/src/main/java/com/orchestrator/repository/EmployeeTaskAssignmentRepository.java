@@ -1,15 +1,36 @@
 package com.orchestrator.repository;
 
+import com.orchestrator.dto.AssignmentHistoryItem;
 import com.orchestrator.entity.EmployeeTaskAssignment;
+import com.orchestrator.entity.TaskStatus;
 import com.orchestrator.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface EmployeeTaskAssignmentRepository extends JpaRepository<EmployeeTaskAssignment, Long> {
-    List<EmployeeTaskAssignment> findByEmployee(User employee);
+    
+    /**
+     * Close the open assignment for a task in place; one index seek however long the history is
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE EmployeeTaskAssignment eta SET eta.completedAt = :completedAt, " +
+           "eta.finalStatus = :finalStatus, eta.timeSpentMinutes = :minutes " +
+           "WHERE eta.task.id = :taskId AND eta.employee.id = :employeeId AND eta.completedAt IS NULL")
+    int closeOpenAssignment(@Param("taskId") Long taskId, @Param("employeeId") Long employeeId,
+                            @Param("finalStatus") TaskStatus finalStatus,
+                            @Param("completedAt") LocalDateTime completedAt, @Param("minutes") int minutes);
     
     @Query("SELECT eta FROM EmployeeTaskAssignment eta WHERE eta.employee = :employee ORDER BY eta.assignedAt DESC")
     List<EmployeeTaskAssignment> findRecentAssignmentsByEmployee(@Param("employee") User employee);
+    
+    @Query("SELECT new com.orchestrator.dto.AssignmentHistoryItem(eta.id, t.taskId, t.name, t.priority, t.status, " +
+           "eta.assignedAt, eta.startedAt, eta.completedAt, eta.timeSpentMinutes, eta.finalStatus) " +
+           "FROM EmployeeTaskAssignment eta JOIN eta.task t " +
+           "WHERE eta.employee.id = :employeeId ORDER BY eta.assignedAt DESC")
+    List<AssignmentHistoryItem> findHistoryByEmployeeId(@Param("employeeId") Long employeeId, Pageable pageable);
 }
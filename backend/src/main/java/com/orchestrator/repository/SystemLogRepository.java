@@ -4,6 +4,6 @@ import com.orchestrator.entity.SystemLog;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
-public interface SystemLogRepository extends JpaRepository<SystemLog, Long> {
+public interface SystemLogRepository extends JpaRepository<SystemLog, Long>, SystemLogRepositoryCustom {
     List<SystemLog> findTop50ByOrderByTimestampDesc();
 }
\ No newline at end of file
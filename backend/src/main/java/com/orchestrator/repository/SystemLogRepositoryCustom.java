@@ -0,0 +1,9 @@
+package com.orchestrator.repository;
+
+import com.orchestrator.dto.LogQuery;
+import com.orchestrator.entity.SystemLog;
+import java.util.List;
+
+public interface SystemLogRepositoryCustom {
+    List<SystemLog> findPage(LogQuery query);
+}
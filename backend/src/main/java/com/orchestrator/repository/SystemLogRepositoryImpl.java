@@ -0,0 +1,63 @@
+package com.orchestrator.repository;
+
+import com.orchestrator.dto.LogQuery;
+import com.orchestrator.entity.SystemLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset-paginated log search. The time window prunes partitions and each
+ * optional filter column leads one of the (column, timestamp, id) indexes.
+ */
+public class SystemLogRepositoryImpl implements SystemLogRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<SystemLog> findPage(LogQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SystemLog> cq = cb.createQuery(SystemLog.class);
+        Root<SystemLog> log = cq.from(SystemLog.class);
+        Path<LocalDateTime> timestamp = log.get("timestamp");
+        
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.getTaskId() != null) {
+            predicates.add(cb.equal(log.get("taskId"), query.getTaskId()));
+        }
+        if (query.getWorkerId() != null) {
+            predicates.add(cb.equal(log.get("workerId"), query.getWorkerId()));
+        }
+        if (query.getType() != null) {
+            predicates.add(cb.equal(log.get("type"), query.getType()));
+        }
+        if (query.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(timestamp, query.getFrom()));
+        }
+        if (query.getTo() != null) {
+            predicates.add(cb.lessThan(timestamp, query.getTo()));
+        }
+        if (query.getAfterTimestamp() != null && query.getAfterId() != null) {
+            // (timestamp, id) < (cursor.timestamp, cursor.id), with a seekable <= bound as for tasks
+            predicates.add(cb.lessThanOrEqualTo(timestamp, query.getAfterTimestamp()));
+            predicates.add(cb.or(
+                cb.lessThan(timestamp, query.getAfterTimestamp()),
+                cb.and(
+                    cb.equal(timestamp, query.getAfterTimestamp()),
+                    cb.lessThan(log.get("id"), query.getAfterId())
+                )
+            ));
+        }
+        
+        cq.where(predicates.toArray(new Predicate[0]));
+        cq.orderBy(cb.desc(timestamp), cb.desc(log.get("id")));
+        
+        return entityManager.createQuery(cq)
+            .setMaxResults(query.getLimit())
+            .getResultList();
+    }
+}
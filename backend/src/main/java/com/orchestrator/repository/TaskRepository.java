@@ -3,13 +3,18 @@ package com.orchestrator.repository;
 import com.orchestrator.entity.Task;
 import com.orchestrator.entity.TaskStatus;
 import com.orchestrator.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
     Optional<Task> findByTaskId(String taskId);
     List<Task> findByStatus(TaskStatus status);
     List<Task> findByAssignedTo(User employee);
@@ -18,9 +23,32 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
     Long countByStatus(@Param("status") TaskStatus status);
     
+    @Query("SELECT t.status, t.priority, COUNT(t) FROM Task t GROUP BY t.status, t.priority")
+    List<Object[]> countGroupedByStatusAndPriority();
+    
     @Query("SELECT t FROM Task t WHERE t.status = 'PENDING' ORDER BY t.priority ASC, t.createdAt ASC")
     List<Task> findPendingTasksByPriority();
     
+    // Row lock on a task that is still pending; a concurrent claimer waits, then finds nothing
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND t.status = 'PENDING'")
+    Optional<Task> lockIfPending(@Param("id") Long id);
+    
+    // Same, but a task another transaction is claiming comes back empty instead of
+    // queueing every get-next behind the head of the queue (SKIP LOCKED on MySQL 8;
+    // dialects without it, such as H2, fall back to waiting)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND t.status = 'PENDING'")
+    Optional<Task> lockIfPendingSkipLocked(@Param("id") Long id);
+    
+    // Fencing check for a write under a task lock: raises the task's fence to the lock's
+    // token, or updates nothing (returns 0) when a later lock holder already wrote. The
+    // row lock it takes holds off other fenced writers until the transaction ends.
+    @Modifying
+    @Query("UPDATE Task t SET t.fenceToken = :token WHERE t.taskId = :taskId AND t.fenceToken <= :token")
+    int advanceFence(@Param("taskId") String taskId, @Param("token") long token);
+    
     @Query("SELECT t FROM Task t WHERE t.assignedTo = :employee AND t.status IN ('PENDING', 'RUNNING')")
     Optional<Task> findActiveTaskByEmployee(@Param("employee") User employee);
     
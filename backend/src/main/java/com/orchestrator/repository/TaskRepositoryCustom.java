@@ -0,0 +1,9 @@
+package com.orchestrator.repository;
+
+import com.orchestrator.dto.TaskListItem;
+import com.orchestrator.dto.TaskQuery;
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+    List<TaskListItem> findPage(TaskQuery query);
+}
@@ -0,0 +1,92 @@
+package com.orchestrator.repository;
+
+import com.orchestrator.dto.TaskListItem;
+import com.orchestrator.dto.TaskQuery;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset-paginated task listing. Only the requested columns are selected and
+ * the two user names come from left joins, so one statement serves a page.
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<TaskListItem> findPage(TaskQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListItem> cq = cb.createQuery(TaskListItem.class);
+        Root<Task> task = cq.from(Task.class);
+        Join<Task, User> createdBy = task.join("createdBy", JoinType.LEFT);
+        Join<Task, User> assignedTo = task.join("assignedTo", JoinType.LEFT);
+        
+        cq.select(cb.construct(TaskListItem.class,
+            task.get("id"),
+            task.get("taskId"),
+            task.get("name"),
+            task.get("status"),
+            task.get("priority"),
+            task.get("progress"),
+            createdBy.get("id"),
+            createdBy.get("fullName"),
+            assignedTo.get("id"),
+            assignedTo.get("fullName"),
+            task.get("workerId"),
+            task.get("retryCount"),
+            task.get("errorMessage"),
+            task.get("startTime"),
+            task.get("endTime"),
+            task.get("createdAt"),
+            query.isIncludeText() ? task.get("description") : cb.nullLiteral(String.class),
+            query.isIncludeText() ? task.get("completionMessage") : cb.nullLiteral(String.class)
+        ));
+        
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.getTaskId() != null) {
+            predicates.add(cb.equal(task.get("taskId"), query.getTaskId()));
+        }
+        if (query.getStatus() != null) {
+            predicates.add(cb.equal(task.get("status"), query.getStatus()));
+        }
+        if (query.getPriority() != null) {
+            predicates.add(cb.equal(task.get("priority"), query.getPriority()));
+        }
+        if (query.getAssigneeId() != null) {
+            predicates.add(cb.equal(task.get("assignedTo").get("id"), query.getAssigneeId()));
+        }
+        if (query.getCreatorId() != null) {
+            predicates.add(cb.equal(task.get("createdBy").get("id"), query.getCreatorId()));
+        }
+        if (query.getAfterCreatedAt() != null && query.getAfterId() != null) {
+            // (createdAt, id) < (cursor.createdAt, cursor.id); the redundant <= bound
+            // gives the index a range to seek to instead of filtering from the newest row
+            Path<LocalDateTime> createdAt = task.get("createdAt");
+            predicates.add(cb.lessThanOrEqualTo(createdAt, query.getAfterCreatedAt()));
+            predicates.add(cb.or(
+                cb.lessThan(createdAt, query.getAfterCreatedAt()),
+                cb.and(
+                    cb.equal(createdAt, query.getAfterCreatedAt()),
+                    cb.lessThan(task.get("id"), query.getAfterId())
+                )
+            ));
+        }
+        
+        cq.where(predicates.toArray(new Predicate[0]));
+        cq.orderBy(cb.desc(task.get("createdAt")), cb.desc(task.get("id")));
+        
+        TypedQuery<TaskListItem> typedQuery = entityManager.createQuery(cq);
+        if (query.getLimit() > 0) {
+            typedQuery.setMaxResults(query.getLimit());
+        }
+        return typedQuery.getResultList();
+    }
+}
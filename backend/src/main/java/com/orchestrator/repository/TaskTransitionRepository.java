@@ -0,0 +1,15 @@
+package com.orchestrator.repository;
+
+import com.orchestrator.dto.TaskTransitionItem;
+import com.orchestrator.entity.TaskTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface TaskTransitionRepository extends JpaRepository<TaskTransition, Long> {
+    
+    @Query("SELECT new com.orchestrator.dto.TaskTransitionItem(tt.type, tt.occurredAt, tt.employee.id) " +
+           "FROM TaskTransition tt WHERE tt.task.id = :taskId ORDER BY tt.id")
+    List<TaskTransitionItem> findTimeline(@Param("taskId") Long taskId);
+}
@@ -0,0 +1,16 @@
+package com.orchestrator.repository;
+
+import com.orchestrator.dto.EmployeeRosterItem;
+import com.orchestrator.dto.RosterQuery;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    /** Up to size + 1 rows, so the caller can tell whether another page exists */
+    List<EmployeeRosterItem> findRoster(RosterQuery query);
+    
+    Optional<EmployeeRosterItem> findRosterItem(Long employeeId);
+    
+    /** The first limit employees in LeaderboardEntry.RANKING order */
+    List<EmployeeRosterItem> findLeaderboard(int limit);
+}
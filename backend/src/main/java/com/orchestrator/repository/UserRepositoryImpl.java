@@ -0,0 +1,69 @@
+package com.orchestrator.repository;
+
+import com.orchestrator.dto.EmployeeRosterItem;
+import com.orchestrator.dto.RosterQuery;
+import com.orchestrator.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Employee roster in one statement: users left-joined with their stats row,
+ * sorted by a whitelisted expression and windowed in the database.
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+    
+    private static final String SELECT_ROSTER =
+        "SELECT new com.orchestrator.dto.EmployeeRosterItem(u.id, u.username, u.fullName, u.email, u.status, " +
+        "s.totalTasksAssigned, s.totalTasksCompleted, s.totalTasksFailed, s.currentActiveTask, " +
+        "s.averageCompletionTimeMinutes) " +
+        "FROM User u LEFT JOIN EmployeeStats s ON s.employee = u " +
+        "WHERE u.role = :role";
+    
+    private static final Map<RosterQuery.SortKey, String> SORT_EXPRESSIONS = new EnumMap<>(RosterQuery.SortKey.class);
+    
+    static {
+        SORT_EXPRESSIONS.put(RosterQuery.SortKey.NAME, "u.fullName");
+        SORT_EXPRESSIONS.put(RosterQuery.SortKey.COMPLETED, "COALESCE(s.totalTasksCompleted, 0)");
+        SORT_EXPRESSIONS.put(RosterQuery.SortKey.FAILED, "COALESCE(s.totalTasksFailed, 0)");
+        SORT_EXPRESSIONS.put(RosterQuery.SortKey.AVERAGE_TIME, "COALESCE(s.averageCompletionTimeMinutes, 0)");
+        SORT_EXPRESSIONS.put(RosterQuery.SortKey.UTILISATION,
+            "CASE WHEN COALESCE(s.totalTasksAssigned, 0) = 0 THEN 0.0 " +
+            "ELSE (s.totalTasksCompleted + s.totalTasksFailed) * 1.0 / s.totalTasksAssigned END");
+    }
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<EmployeeRosterItem> findRoster(RosterQuery query) {
+        String jpql = SELECT_ROSTER + " ORDER BY " + SORT_EXPRESSIONS.get(query.getSort())
+            + (query.isDescending() ? " DESC" : " ASC") + ", u.id ASC";
+        return entityManager.createQuery(jpql, EmployeeRosterItem.class)
+            .setParameter("role", UserRole.EMPLOYEE)
+            .setFirstResult(query.getPage() * query.getSize())
+            .setMaxResults(query.getSize() + 1)
+            .getResultList();
+    }
+    
+    @Override
+    public Optional<EmployeeRosterItem> findRosterItem(Long employeeId) {
+        return entityManager.createQuery(SELECT_ROSTER + " AND u.id = :id", EmployeeRosterItem.class)
+            .setParameter("role", UserRole.EMPLOYEE)
+            .setParameter("id", employeeId)
+            .getResultStream()
+            .findFirst();
+    }
+    
+    @Override
+    public List<EmployeeRosterItem> findLeaderboard(int limit) {
+        return entityManager.createQuery(SELECT_ROSTER + " ORDER BY COALESCE(s.totalTasksCompleted, 0) DESC, " +
+                "COALESCE(s.averageCompletionTimeMinutes, 0) ASC, u.id ASC", EmployeeRosterItem.class)
+            .setParameter("role", UserRole.EMPLOYEE)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.orchestrator.service;
 
+import com.orchestrator.datasource.ReadRouting;
+import com.orchestrator.dto.UserPrincipal;
 import com.orchestrator.entity.User;
 import com.orchestrator.entity.UserRole;
 import com.orchestrator.entity.UserStatus;
@@ -8,6 +10,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -17,6 +22,7 @@ public class AuthService {
     
     private final UserRepository userRepository;
     private final EmployeeStatsService employeeStatsService;
+    private final PrincipalCache principalCache;
     
     @Transactional
     public User register(String username, String password, String fullName, String email, UserRole role) {
@@ -47,7 +53,14 @@ public class AuthService {
     }
     
     public Optional<User> login(String username, String password) {
-        Optional<User> userOpt = userRepository.findByUsername(username);
+        Optional<User> userOpt;
+        // A user who just registered must be able to log in straight away
+        ReadRouting.pinPrimary();
+        try {
+            userOpt = userRepository.findByUsername(username);
+        } finally {
+            ReadRouting.unpinPrimary();
+        }
         
         if (userOpt.isPresent()) {
             User user = userOpt.get();
@@ -62,9 +75,68 @@ public class AuthService {
         return Optional.empty();
     }
     
+    /**
+     * The user from the principal cache, as a fresh detached copy without the password
+     */
     public User getUserById(Long userId) {
-        return userRepository.findById(userId)
+        // Misses are rare and decide whether a request is rejected, so they read the primary
+        return principalCache.get(userId, id -> {
+            ReadRouting.pinPrimary();
+            try {
+                return userRepository.findById(id)
+                    .map(UserPrincipal::from)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            } finally {
+                ReadRouting.unpinPrimary();
+            }
+        }).toUser();
+    }
+    
+    /**
+     * Resolve the caller named by the User-Id header; inactive users are rejected
+     */
+    public User resolvePrincipal(Long userId) {
+        User user = getUserById(userId);
+        if (user.getStatus() != UserStatus.ACTIVE) {
+            throw new RuntimeException("User account is not active");
+        }
+        return user;
+    }
+    
+    @Transactional
+    public User updateUserStatus(Long userId, UserStatus status) {
+        User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
+        user.setStatus(status);
+        user = userRepository.save(user);
+        invalidateAfterCommit(userId);
+        log.info("User {} status changed to {}", user.getUsername(), status);
+        return user;
+    }
+    
+    @Transactional
+    public User updateUserRole(Long userId, UserRole role) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        user.setRole(role);
+        user = userRepository.save(user);
+        invalidateAfterCommit(userId);
+        log.info("User {} role changed to {}", user.getUsername(), role);
+        return user;
+    }
+    
+    public Map<String, Object> getPrincipalCacheStatistics() {
+        return principalCache.getStatistics();
+    }
+    
+    private void invalidateAfterCommit(Long userId) {
+        // Invalidating before commit would let a concurrent request re-cache the old row
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                principalCache.invalidate(userId);
+            }
+        });
     }
     
     public User getUserByUsername(String username) {
@@ -1,44 +1,160 @@
 package com.orchestrator.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.orchestrator.cluster.ClusterEvent;
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.datasource.ReadRouting;
+import com.orchestrator.dto.EmployeeDashboardView;
+import com.orchestrator.dto.TaskListItem;
 import com.orchestrator.entity.EmployeeStats;
-import com.orchestrator.entity.Task;
+import com.orchestrator.entity.TaskStatus;
 import com.orchestrator.entity.User;
-import lombok.RequiredArgsConstructor;
+import com.orchestrator.event.EmployeeTaskChangedEvent;
+import com.orchestrator.websocket.DeliveryPolicy;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import java.util.HashMap;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Materialized employee dashboards. Each view is built once with a bounded
+ * query, then updated in place from task lifecycle events, so serving it is a
+ * map lookup regardless of how many tasks the employee has had. Other nodes
+ * drop their copy when an event happens here.
+ */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class EmployeeDashboardService {
     
-    private final TaskAssignmentService assignmentService;
+    public static final String INVALIDATE_DESTINATION = ClusterEvent.INTERNAL_PREFIX + "dashboard-invalidate";
+    
     private final TaskService taskService;
     private final EmployeeStatsService employeeStatsService;
+    private final ClusterEventBus clusterEventBus;
+    private final int recentLimit;
+    private final Cache<Long, EmployeeDashboardView> views;
+    
+    // Versions are unique per node, so an ETag from another node never matches by accident
+    private final String versionPrefix = Long.toHexString(ThreadLocalRandom.current().nextLong()) + "-";
+    private final AtomicLong versions = new AtomicLong();
+    
+    public EmployeeDashboardService(
+            TaskService taskService,
+            EmployeeStatsService employeeStatsService,
+            ClusterEventBus clusterEventBus,
+            @Value("${dashboard.recent-tasks:20}") int recentLimit,
+            @Value("${dashboard.cache.max-size:10000}") long maxSize,
+            @Value("${dashboard.cache.ttl-ms:300000}") long ttlMs) {
+        this.taskService = taskService;
+        this.employeeStatsService = employeeStatsService;
+        this.clusterEventBus = clusterEventBus;
+        this.recentLimit = recentLimit;
+        this.views = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMs)) // Bounds staleness if an update is ever missed
+            .build();
+    }
+    
+    @PostConstruct
+    void subscribeToCluster() {
+        clusterEventBus.subscribe(event -> {
+            if (INVALIDATE_DESTINATION.equals(event.getDestination())) {
+                views.invalidate(Long.valueOf(String.valueOf(event.getPayload())));
+            }
+        });
+    }
     
     /**
      * Get complete dashboard data for employee
      */
-    public Map<String, Object> getEmployeeDashboard(User employee) {
-        Map<String, Object> dashboard = new HashMap<>();
-        
-        // Current active task
-        Task currentTask = assignmentService.getCurrentTaskForEmployee(employee);
-        dashboard.put("currentTask", currentTask);
-        
-        // Employee statistics
-        EmployeeStats stats = employeeStatsService.getEmployeeStats(employee);
-        dashboard.put("stats", Map.of(
-            "totalAssigned", stats.getTotalTasksAssigned(),
-            "totalCompleted", stats.getTotalTasksCompleted(),
-            "totalFailed", stats.getTotalTasksFailed(),
-            "isWorking", stats.getCurrentActiveTask() > 0,
-            "averageTimeMinutes", stats.getAverageCompletionTimeMinutes()
-        ));
+    public EmployeeDashboardView getEmployeeDashboard(User employee) {
+        return views.get(employee.getId(), id -> build(employee));
+    }
+    
+    /**
+     * Strong ETag for the view as served by this node
+     */
+    public String etagOf(EmployeeDashboardView view) {
+        return "\"" + view.version() + "\"";
+    }
+    
+    @TransactionalEventListener
+    public void onEmployeeTaskChanged(EmployeeTaskChangedEvent event) {
+        clusterEventBus.publish(ClusterEvent.of(INVALIDATE_DESTINATION, String.valueOf(event.employeeId()),
+            DeliveryPolicy.RELIABLE, "dashboard:" + event.employeeId()));
         
-        // Recent task history
-        dashboard.put("recentTasks", taskService.getTasksByEmployee(employee));
+        // The change just committed on the primary; a replica may not have it yet
+        ReadRouting.pinPrimary();
+        try {
+            applyChange(event);
+        } finally {
+            ReadRouting.unpinPrimary();
+        }
+    }
+    
+    private void applyChange(EmployeeTaskChangedEvent event) {
+        EmployeeDashboardView current = views.getIfPresent(event.employeeId());
+        if (current == null) {
+            // Waits out a build in flight, which may have read the rows before this commit
+            views.invalidate(event.employeeId());
+            return;
+        }
+        TaskListItem task = taskService.getTaskItem(event.taskId());
+        if (task == null) {
+            views.invalidate(event.employeeId());
+            return;
+        }
+        // Progress leaves the counters alone; every other transition moves them
+        Map<String, Object> stats = event.status() == TaskStatus.RUNNING && current.currentTask() != null
+                && current.currentTask().getTaskId().equals(event.taskId())
+            ? current.stats()
+            : employeeStatsService.findEmployeeStats(event.employeeId()).map(this::summarize).orElse(current.stats());
         
-        return dashboard;
+        // Only fold into the view the task was read against. If another change landed in between,
+        // the task read here may predate it (after-commit listeners run in any order), so rebuild instead
+        EmployeeDashboardView updated = current.withTask(task, stats, recentLimit, nextVersion());
+        if (!views.asMap().replace(event.employeeId(), current, updated)) {
+            views.invalidate(event.employeeId());
+        }
+    }
+    
+    /**
+     * Read from the primary; the view is then kept current from events, so a lagging
+     * replica would leave it behind until the next change or the TTL
+     */
+    private EmployeeDashboardView build(User employee) {
+        ReadRouting.pinPrimary();
+        try {
+            return new EmployeeDashboardView(
+                taskService.getActiveTaskItem(employee),
+                summarize(employeeStatsService.getEmployeeStats(employee)),
+                taskService.getRecentTasksByEmployee(employee, recentLimit),
+                nextVersion()
+            );
+        } finally {
+            ReadRouting.unpinPrimary();
+        }
+    }
+    
+    private Map<String, Object> summarize(EmployeeStats stats) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("totalAssigned", stats.getTotalTasksAssigned());
+        summary.put("totalCompleted", stats.getTotalTasksCompleted());
+        summary.put("totalFailed", stats.getTotalTasksFailed());
+        summary.put("isWorking", stats.getCurrentActiveTask() > 0);
+        summary.put("averageTimeMinutes", stats.getAverageCompletionTimeMinutes());
+        return Collections.unmodifiableMap(summary);
+    }
+    
+    private String nextVersion() {
+        return versionPrefix + versions.incrementAndGet();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,170 @@
+package com.orchestrator.service;
+
+import com.orchestrator.cluster.ClusterEvent;
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.dto.PresenceUpdate;
+import com.orchestrator.websocket.DeliveryPolicy;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory record of which employees currently hold a live STOMP session,
+ * on this node or (via the cluster bus) on any other node.
+ * All lookups are single hash-map reads; nothing here touches the database.
+ */
+@Service
+@Slf4j
+public class EmployeePresenceService {
+    
+    public static final String PRESENCE_DESTINATION = ClusterEvent.INTERNAL_PREFIX + "presence";
+    
+    private final ClusterEventBus clusterEventBus;
+    private final long ttlMs;
+    private final boolean enforceForAssignment;
+    
+    private final Map<String, Long> sessionUsers = new ConcurrentHashMap<>();
+    private final Map<Long, LocalPresence> localPresence = new ConcurrentHashMap<>();
+    private final Map<Long, Long> remotePresence = new ConcurrentHashMap<>(); // userId -> expires at
+    
+    public EmployeePresenceService(
+            ClusterEventBus clusterEventBus,
+            @Value("${presence.ttl-ms:30000}") long ttlMs,
+            @Value("${presence.enforce-for-assignment:true}") boolean enforceForAssignment) {
+        this.clusterEventBus = clusterEventBus;
+        this.ttlMs = ttlMs;
+        this.enforceForAssignment = enforceForAssignment;
+    }
+    
+    @PostConstruct
+    void subscribeToCluster() {
+        clusterEventBus.subscribe(event -> {
+            if (PRESENCE_DESTINATION.equals(event.getDestination())
+                    && event.getPayload() instanceof PresenceUpdate update) {
+                applyRemote(update);
+            }
+        });
+    }
+    
+    /**
+     * STOMP CONNECT carrying a User-Id header
+     */
+    public void sessionConnected(String sessionId, Long userId) {
+        sessionUsers.put(sessionId, userId);
+        boolean[] firstSession = {false};
+        localPresence.compute(userId, (id, presence) -> {
+            if (presence == null) {
+                presence = new LocalPresence();
+                firstSession[0] = true;
+            }
+            presence.sessions.incrementAndGet();
+            presence.lastSeen = System.currentTimeMillis();
+            return presence;
+        });
+        if (firstSession[0]) {
+            log.info("Employee {} is now present", userId);
+            publish(List.of(userId), List.of());
+        }
+    }
+    
+    /**
+     * Any inbound frame or heartbeat from the session
+     */
+    public void sessionActive(String sessionId) {
+        Long userId = sessionUsers.get(sessionId);
+        if (userId == null) {
+            return;
+        }
+        LocalPresence presence = localPresence.get(userId);
+        if (presence != null) {
+            presence.lastSeen = System.currentTimeMillis();
+        }
+    }
+    
+    public void sessionDisconnected(String sessionId) {
+        Long userId = sessionUsers.remove(sessionId);
+        if (userId == null) {
+            return;
+        }
+        boolean[] lastSession = {false};
+        localPresence.computeIfPresent(userId, (id, presence) -> {
+            if (presence.sessions.decrementAndGet() <= 0) {
+                lastSession[0] = true;
+                return null;
+            }
+            return presence;
+        });
+        if (lastSession[0]) {
+            log.info("Employee {} is no longer present", userId);
+            publish(List.of(), List.of(userId));
+        }
+    }
+    
+    public boolean isPresent(Long userId) {
+        long now = System.currentTimeMillis();
+        LocalPresence presence = localPresence.get(userId);
+        if (presence != null && now - presence.lastSeen <= ttlMs) {
+            return true;
+        }
+        Long expiresAt = remotePresence.get(userId);
+        return expiresAt != null && expiresAt > now;
+    }
+    
+    /**
+     * Whether the scheduler may hand this employee work
+     */
+    public boolean isAvailableForAssignment(Long userId) {
+        return !enforceForAssignment || isPresent(userId);
+    }
+    
+    /**
+     * Re-assert local presence to other nodes before their entries expire
+     */
+    @Scheduled(fixedDelayString = "${presence.broadcast-interval-ms:10000}")
+    public void broadcastSnapshot() {
+        long now = System.currentTimeMillis();
+        List<Long> online = new ArrayList<>();
+        localPresence.forEach((userId, presence) -> {
+            if (now - presence.lastSeen <= ttlMs) {
+                online.add(userId);
+            }
+        });
+        remotePresence.values().removeIf(expiresAt -> expiresAt <= now);
+        if (!online.isEmpty()) {
+            clusterEventBus.publish(ClusterEvent.of(PRESENCE_DESTINATION,
+                new PresenceUpdate(online, List.of(), ttlMs), DeliveryPolicy.RELIABLE, "presence-snapshot"));
+        }
+    }
+    
+    private void publish(List<Long> online, List<Long> offline) {
+        clusterEventBus.publish(ClusterEvent.of(PRESENCE_DESTINATION,
+            new PresenceUpdate(online, offline, ttlMs), DeliveryPolicy.RELIABLE, null));
+    }
+    
+    private void applyRemote(PresenceUpdate update) {
+        long expiresAt = System.currentTimeMillis() + update.getTtlMs();
+        if (update.getOnline() != null) {
+            for (Long userId : update.getOnline()) {
+                remotePresence.merge(userId, expiresAt, Math::max);
+            }
+        }
+        if (update.getOffline() != null) {
+            // If the employee is still connected elsewhere, that node's next snapshot restores them
+            for (Long userId : update.getOffline()) {
+                remotePresence.remove(userId);
+            }
+        }
+    }
+    
+    private static final class LocalPresence {
+        private final AtomicInteger sessions = new AtomicInteger();
+        private volatile long lastSeen;
+    }
+}
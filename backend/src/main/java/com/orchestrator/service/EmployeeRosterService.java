@@ -0,0 +1,250 @@
+package com.orchestrator.service;
+
+import com.orchestrator.cluster.ClusterEvent;
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.dto.EmployeeRosterItem;
+import com.orchestrator.dto.LeaderboardDelta;
+import com.orchestrator.dto.LeaderboardEntry;
+import com.orchestrator.dto.RosterPage;
+import com.orchestrator.dto.RosterQuery;
+import com.orchestrator.repository.UserRepository;
+import com.orchestrator.websocket.DeliveryPolicy;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Employee roster (one joined query per page) and a leaderboard kept sorted in
+ * memory. Only the top leaderboard.max-size employees are held; a completion
+ * moves a single entry in the ranking, so reading the top K never touches the
+ * database, and a periodic rebuild corrects any drift.
+ */
+@Service
+@Slf4j
+public class EmployeeRosterService {
+    
+    public static final String LEADERBOARD_DESTINATION = ClusterEvent.INTERNAL_PREFIX + "leaderboard";
+    
+    private static final int MAX_PAGE_SIZE = 20000;
+    private static final long UNKNOWN_TOTAL = -1;
+    
+    private final UserRepository userRepository;
+    private final ClusterEventBus clusterEventBus;
+    private final int maxLeaderboardSize;
+    
+    // Swapped as a pair on rebuild so readers never see a half-filled ranking
+    private volatile Map<Long, LeaderboardEntry> entries = new ConcurrentHashMap<>();
+    private volatile NavigableSet<LeaderboardEntry> ranking = new ConcurrentSkipListSet<>(LeaderboardEntry.RANKING);
+    // Not a monitor: apply() may load an entry from the database, which would pin a virtual thread
+    private final ReentrantLock updateLock = new ReentrantLock();
+    // Non-null while a rebuild is reading; guarded by updateLock
+    private List<AppliedDelta> appliedDuringRebuild;
+    
+    public EmployeeRosterService(
+            UserRepository userRepository,
+            ClusterEventBus clusterEventBus,
+            @Value("${leaderboard.max-size:100}") int maxLeaderboardSize) {
+        this.userRepository = userRepository;
+        this.clusterEventBus = clusterEventBus;
+        this.maxLeaderboardSize = maxLeaderboardSize;
+    }
+    
+    @PostConstruct
+    void subscribeToCluster() {
+        clusterEventBus.subscribe(event -> {
+            if (LEADERBOARD_DESTINATION.equals(event.getDestination())
+                    && event.getPayload() instanceof LeaderboardDelta delta) {
+                apply(delta);
+            }
+        });
+    }
+    
+    /**
+     * One page of the roster
+     */
+    @Transactional(readOnly = true)
+    public RosterPage getRoster(RosterQuery query) {
+        query.setSize(Math.max(1, Math.min(query.getSize(), MAX_PAGE_SIZE)));
+        query.setPage(Math.max(0, query.getPage()));
+        
+        List<EmployeeRosterItem> items = userRepository.findRoster(query);
+        boolean hasNext = items.size() > query.getSize();
+        if (hasNext) {
+            items = new ArrayList<>(items.subList(0, query.getSize()));
+        }
+        return new RosterPage(items, query.getPage(), query.getSize(), hasNext);
+    }
+    
+    /**
+     * Top employees, best first
+     */
+    public List<LeaderboardEntry> getLeaderboard(int limit) {
+        int size = Math.max(1, Math.min(limit, maxLeaderboardSize));
+        List<LeaderboardEntry> top = new ArrayList<>(size);
+        for (LeaderboardEntry entry : ranking) {
+            if (top.size() == size) {
+                break;
+            }
+            top.add(entry);
+        }
+        return top;
+    }
+    
+    /**
+     * Apply a finished task here and on every other node. Call after the stats update commits.
+     */
+    public void recordTaskFinished(Long employeeId, boolean success, int timeSpentMinutes) {
+        LeaderboardDelta delta = new LeaderboardDelta(employeeId, success, timeSpentMinutes);
+        apply(delta);
+        clusterEventBus.publish(ClusterEvent.of(LEADERBOARD_DESTINATION, delta, DeliveryPolicy.RELIABLE, null));
+    }
+    
+    private void apply(LeaderboardDelta delta) {
+        updateLock.lock();
+        try {
+            long totalBefore = applyLocked(delta);
+            if (appliedDuringRebuild != null) {
+                appliedDuringRebuild.add(new AppliedDelta(delta, totalBefore));
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+    
+    /**
+     * Returns the employee's finished-task total before this delta, or UNKNOWN_TOTAL
+     * when the employee was not ranked here
+     */
+    private long applyLocked(LeaderboardDelta delta) {
+        LeaderboardEntry current = entries.get(delta.getEmployeeId());
+        if (current != null) {
+            ranking.remove(current);
+            put(current.with(delta.isSuccess(), delta.getTimeSpentMinutes()));
+            return finished(current);
+        }
+        if (delta.isSuccess()) {
+            // Outside the top K (or registered since the last rebuild); its row already includes this task
+            loadInto(delta.getEmployeeId());
+        }
+        // A failure never moves anyone up the ranking
+        return UNKNOWN_TOTAL;
+    }
+    
+    private void loadInto(Long employeeId) {
+        userRepository.findRosterItem(employeeId)
+            .map(LeaderboardEntry::from)
+            .ifPresent(this::offer);
+    }
+    
+    /** Add or replace an entry if it ranks within the top K, evicting the entry it pushes out */
+    private void offer(LeaderboardEntry entry) {
+        LeaderboardEntry previous = entries.remove(entry.employeeId());
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        if (ranking.size() >= maxLeaderboardSize) {
+            LeaderboardEntry last = ranking.last();
+            if (LeaderboardEntry.RANKING.compare(entry, last) >= 0) {
+                return;
+            }
+            ranking.remove(last);
+            entries.remove(last.employeeId());
+        }
+        put(entry);
+    }
+    
+    private void put(LeaderboardEntry entry) {
+        entries.put(entry.employeeId(), entry);
+        ranking.add(entry);
+    }
+    
+    private static long finished(LeaderboardEntry entry) {
+        return (long) entry.totalCompleted() + entry.totalFailed();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuildLeaderboard();
+    }
+    
+    /**
+     * Reload the top K from the database. Deltas applied while the query runs
+     * may or may not be in its rows, so they are recorded and replayed after the
+     * swap onto any reloaded entry that does not include them yet.
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.rebuild-interval-ms:300000}",
+               initialDelayString = "${leaderboard.rebuild-interval-ms:300000}")
+    public void rebuildLeaderboard() {
+        updateLock.lock();
+        try {
+            appliedDuringRebuild = new ArrayList<>();
+        } finally {
+            updateLock.unlock();
+        }
+        
+        Map<Long, LeaderboardEntry> loadedEntries = new ConcurrentHashMap<>();
+        NavigableSet<LeaderboardEntry> loadedRanking = new ConcurrentSkipListSet<>(LeaderboardEntry.RANKING);
+        try {
+            userRepository.findLeaderboard(maxLeaderboardSize).stream().map(LeaderboardEntry::from).forEach(entry -> {
+                loadedEntries.put(entry.employeeId(), entry);
+                loadedRanking.add(entry);
+            });
+        } catch (RuntimeException e) {
+            updateLock.lock();
+            try {
+                appliedDuringRebuild = null;
+            } finally {
+                updateLock.unlock();
+            }
+            throw e;
+        }
+        
+        updateLock.lock();
+        try {
+            entries = loadedEntries;
+            ranking = loadedRanking;
+            List<AppliedDelta> replay = appliedDuringRebuild;
+            appliedDuringRebuild = null;
+            for (AppliedDelta applied : replay) {
+                replay(applied);
+            }
+            log.debug("Leaderboard rebuilt with {} employees, {} deltas replayed", loadedEntries.size(), replay.size());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+    
+    private void replay(AppliedDelta applied) {
+        LeaderboardDelta delta = applied.delta();
+        LeaderboardEntry loaded = entries.get(delta.getEmployeeId());
+        if (loaded == null) {
+            if (delta.isSuccess()) {
+                loadInto(delta.getEmployeeId());
+            }
+            return;
+        }
+        if (applied.totalBefore() == UNKNOWN_TOTAL) {
+            // Not ranked when the delta arrived; its row is the only reference
+            loadInto(delta.getEmployeeId());
+        } else if (finished(loaded) <= applied.totalBefore()) {
+            // The query read the row before this task finished
+            ranking.remove(loaded);
+            put(loaded.with(delta.isSuccess(), delta.getTimeSpentMinutes()));
+        }
+    }
+    
+    private record AppliedDelta(LeaderboardDelta delta, long totalBefore) {
+    }
+}
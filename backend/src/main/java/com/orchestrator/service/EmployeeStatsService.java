@@ -1,16 +1,25 @@
 package com.orchestrator.service;
 
+import com.orchestrator.dto.DailyActivityItem;
 import com.orchestrator.entity.EmployeeStats;
 import com.orchestrator.entity.User;
+import com.orchestrator.repository.EmployeeDailyStatsRepository;
 import com.orchestrator.repository.EmployeeStatsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 
 @Service
 @RequiredArgsConstructor
@@ -19,12 +28,29 @@ import java.util.List;
 public class EmployeeStatsService {
     
     private final EmployeeStatsRepository statsRepository;
+    private final EmployeeDailyStatsRepository dailyStatsRepository;
+    private final EmployeeRosterService rosterService;
+    
+    // Employees with a stats row, for the idle gauge: counted here as rows are created and
+    // re-read on the reconcile interval to pick up other nodes' registrations
+    private final AtomicLong trackedEmployees = new AtomicLong();
     
     @Transactional
     public EmployeeStats initializeEmployeeStats(User employee) {
         EmployeeStats stats = new EmployeeStats();
         stats.setEmployee(employee);
-        return statsRepository.save(stats);
+        EmployeeStats saved = statsRepository.save(stats);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    trackedEmployees.incrementAndGet();
+                }
+            });
+        } else {
+            trackedEmployees.incrementAndGet();
+        }
+        return saved;
     }
     
     @Transactional
@@ -33,57 +59,95 @@ public class EmployeeStatsService {
             .orElseGet(() -> initializeEmployeeStats(employee));
     }
     
+    /**
+     * Mark the employee busy only if they are idle right now. False when a
+     * concurrent get-next or another node's assignment cycle got them first.
+     */
     @Transactional
-    public void markEmployeeBusy(User employee) {
-        EmployeeStats stats = getOrCreateStats(employee);
-        stats.setCurrentActiveTask(1);
-        stats.setTotalTasksAssigned(stats.getTotalTasksAssigned() + 1);
-        stats.setLastTaskAssignedAt(LocalDateTime.now());
-        statsRepository.save(stats);
+    public boolean claimIdleEmployee(User employee) {
+        LocalDateTime now = LocalDateTime.now();
+        if (statsRepository.markBusyIfIdle(employee.getId(), now) == 0) {
+            if (statsRepository.findByEmployee(employee).isPresent()) {
+                return false;
+            }
+            initializeEmployeeStats(employee);
+            if (statsRepository.markBusyIfIdle(employee.getId(), now) == 0) {
+                return false;
+            }
+        }
         log.info("Employee {} marked as busy", employee.getUsername());
+        return true;
     }
     
     @Transactional
     public void markEmployeeIdle(User employee) {
-        EmployeeStats stats = getOrCreateStats(employee);
-        stats.setCurrentActiveTask(0);
-        statsRepository.save(stats);
+        updateOrCreate(employee, () -> statsRepository.markIdle(employee.getId(), LocalDateTime.now()));
         log.info("Employee {} marked as idle", employee.getUsername());
     }
     
+    /**
+     * Count a finished task and mark the employee idle in one UPDATE, then add it
+     * to today's rollup row in one upsert.
+     * Only successful tasks contribute to the average completion time.
+     * Priority score (assigned - completed) drives fair distribution; lower gets the next task.
+     */
     @Transactional
     public void recordTaskCompletion(User employee, boolean success, int timeSpentMinutes) {
-        EmployeeStats stats = getOrCreateStats(employee);
-        
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
         if (success) {
-            stats.setTotalTasksCompleted(stats.getTotalTasksCompleted() + 1);
+            updateOrCreate(employee, () -> statsRepository.recordCompleted(employee.getId(), timeSpentMinutes, now));
+            dailyStatsRepository.recordCompleted(employee.getId(), today, timeSpentMinutes);
         } else {
-            stats.setTotalTasksFailed(stats.getTotalTasksFailed() + 1);
+            updateOrCreate(employee, () -> statsRepository.recordFailed(employee.getId(), now));
+            dailyStatsRepository.recordFailed(employee.getId(), today);
         }
         
-        // Update average completion time
-        Double currentAvg = stats.getAverageCompletionTimeMinutes();
-        Integer totalCompleted = stats.getTotalTasksCompleted();
-        if (totalCompleted > 0) {
-            stats.setAverageCompletionTimeMinutes(
-                ((currentAvg * (totalCompleted - 1)) + timeSpentMinutes) / totalCompleted
-            );
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rosterService.recordTaskFinished(employee.getId(), success, timeSpentMinutes);
+            }
+        });
+    }
+    
+    /**
+     * Run an atomic UPDATE, creating the stats row first if the employee has none yet
+     */
+    private void updateOrCreate(User employee, IntSupplier update) {
+        if (update.getAsInt() == 0) {
+            getOrCreateStats(employee);
+            update.getAsInt();
         }
-        
-        // Calculate priority score for fair distribution
-        // Lower score = higher priority to get next task
-        int priorityScore = stats.getTotalTasksAssigned() - stats.getTotalTasksCompleted();
-        stats.setPriorityScore(priorityScore);
-        
-        statsRepository.save(stats);
+    }
+    
+    /**
+     * Per-day totals for the last {@code days} days, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<DailyActivityItem> getDailyActivity(Long employeeId, int days) {
+        LocalDate since = LocalDate.now().minusDays(Math.max(0, days - 1));
+        return dailyStatsRepository.findActivitySince(employeeId, since);
     }
     
     public List<EmployeeStats> getIdleEmployees() {
         return statsRepository.findIdleEmployeesForFairDistribution();
     }
     
-    public Long countBusyEmployees() {
-        return statsRepository.countBusyEmployees();
+    /**
+     * Employees with a stats row, as of the last refresh plus rows created on this node since
+     */
+    public long getTrackedEmployees() {
+        return trackedEmployees.get();
+    }
+    
+    @Scheduled(fixedDelayString = "${statistics.reconcile-interval-ms:60000}")
+    public void refreshTrackedEmployees() {
+        trackedEmployees.set(statsRepository.count());
+    }
+    
+    public Optional<EmployeeStats> findEmployeeStats(Long employeeId) {
+        return statsRepository.findByEmployeeId(employeeId);
     }
     
     public EmployeeStats getEmployeeStats(User employee) {
@@ -1,29 +1,56 @@
 package com.orchestrator.service;
 
+import com.orchestrator.dto.LogPage;
+import com.orchestrator.dto.LogQuery;
 import com.orchestrator.entity.LogType;
 import com.orchestrator.entity.SystemLog;
+import com.orchestrator.logging.SystemLogWriter;
 import com.orchestrator.repository.SystemLogRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class LoggingService {
     
     private final SystemLogRepository logRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SystemLogWriter logWriter;
     
+    private static final int MAX_PAGE_SIZE = 1000;
+    
+    /**
+     * Record a log line. Returns immediately; the row is persisted and
+     * broadcast to /topic/logs by the background writer. Inside a transaction
+     * the line is only handed over once it commits, so a rolled-back change
+     * leaves no log of having happened.
+     */
     public void log(String message, LogType type, String taskId, String workerId) {
         SystemLog log = new SystemLog();
         log.setMessage(message);
         log.setType(type);
         log.setTaskId(taskId);
         log.setWorkerId(workerId);
+        log.setTimestamp(LocalDateTime.now());
         
-        logRepository.save(log);
-        messagingTemplate.convertAndSend("/topic/logs", log);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    logWriter.enqueue(log);
+                }
+            });
+        } else {
+            logWriter.enqueue(log);
+        }
     }
     
     public void log(String message, LogType type) {
@@ -33,4 +60,46 @@ public class LoggingService {
     public List<SystemLog> getRecentLogs() {
         return logRepository.findTop50ByOrderByTimestampDesc();
     }
+    
+    /**
+     * One page of logs, newest first, continuing after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public LogPage searchLogs(LogQuery query, String cursor) {
+        query.setLimit(Math.max(1, Math.min(query.getLimit(), MAX_PAGE_SIZE)));
+        if (cursor != null && !cursor.isBlank()) {
+            decodeCursor(cursor, query);
+        }
+        
+        int limit = query.getLimit();
+        query.setLimit(limit + 1); // One extra row tells us whether another page exists
+        List<SystemLog> items = logRepository.findPage(query);
+        
+        String nextCursor = null;
+        if (items.size() > limit) {
+            items = new ArrayList<>(items.subList(0, limit));
+            nextCursor = encodeCursor(items.get(limit - 1));
+        }
+        return new LogPage(items, nextCursor);
+    }
+    
+    public Map<String, Object> getWriterStatistics() {
+        return logWriter.getStatistics();
+    }
+    
+    private String encodeCursor(SystemLog last) {
+        String position = last.getTimestamp() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private void decodeCursor(String cursor, LogQuery query) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('|');
+            query.setAfterTimestamp(LocalDateTime.parse(position.substring(0, separator)));
+            query.setAfterId(Long.valueOf(position.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
 }
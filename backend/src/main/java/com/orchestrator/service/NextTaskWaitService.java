@@ -0,0 +1,177 @@
+package com.orchestrator.service;
+
+import com.orchestrator.cluster.ClusterEvent;
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.dto.TaskListItem;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.User;
+import com.orchestrator.event.TaskAvailableEvent;
+import com.orchestrator.websocket.DeliveryPolicy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Parks get-next requests that found nothing to do and completes them, oldest
+ * first, as soon as a task becomes available on any node. A parked request is
+ * only a DeferredResult in a queue; no servlet thread is held while it waits.
+ */
+@Service
+@Slf4j
+public class NextTaskWaitService {
+    
+    public static final String TASK_AVAILABLE_DESTINATION = ClusterEvent.INTERNAL_PREFIX + "task-available";
+    
+    private final TaskAssignmentService assignmentService;
+    private final ClusterEventBus clusterEventBus;
+    private final long defaultTimeoutMs;
+    private final long maxTimeoutMs;
+    
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Waiter> waiterByEmployee = new ConcurrentHashMap<>();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "get-next-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    public NextTaskWaitService(
+            TaskAssignmentService assignmentService,
+            ClusterEventBus clusterEventBus,
+            @Value("${get-next.wait.default-timeout-ms:30000}") long defaultTimeoutMs,
+            @Value("${get-next.wait.max-timeout-ms:120000}") long maxTimeoutMs) {
+        this.assignmentService = assignmentService;
+        this.clusterEventBus = clusterEventBus;
+        this.defaultTimeoutMs = defaultTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+    }
+    
+    @PostConstruct
+    void subscribeToCluster() {
+        clusterEventBus.subscribe(event -> {
+            if (TASK_AVAILABLE_DESTINATION.equals(event.getDestination())) {
+                scheduleDispatch();
+            }
+        });
+    }
+    
+    /**
+     * Return the employee's next task, waiting up to timeoutMs for one to appear
+     */
+    public DeferredResult<ResponseEntity<?>> waitForNextTask(User employee, Long timeoutMs) {
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(resolveTimeout(timeoutMs),
+            () -> ResponseEntity.ok(Map.of("message", "No tasks available")));
+        
+        Task task = assignmentService.getNextTaskForEmployee(employee);
+        if (task != null) {
+            result.setResult(ResponseEntity.ok(TaskListItem.fromTask(task)));
+            return result;
+        }
+        
+        Waiter waiter = new Waiter(employee, result);
+        result.onCompletion(() -> {
+            waiter.done.set(true);
+            waiterByEmployee.remove(employee.getId(), waiter);
+        });
+        
+        // One parked request per employee; a newer one replaces the older
+        Waiter previous = waiterByEmployee.put(employee.getId(), waiter);
+        if (previous != null && previous.done.compareAndSet(false, true)) {
+            previous.result.setResult(ResponseEntity.ok(Map.of("message", "Superseded by a newer request")));
+        }
+        waiters.add(waiter);
+        // Covers a task that was created between the check above and parking
+        scheduleDispatch();
+        return result;
+    }
+    
+    /**
+     * Clamp the requested wait to [1 ms, max]; servlet async treats 0 as never timing out
+     */
+    long resolveTimeout(Long timeoutMs) {
+        if (timeoutMs == null) {
+            return defaultTimeoutMs;
+        }
+        return Math.min(Math.max(timeoutMs, 1), maxTimeoutMs);
+    }
+    
+    public int getWaitingCount() {
+        return waiterByEmployee.size();
+    }
+    
+    @TransactionalEventListener
+    public void onTaskAvailable(TaskAvailableEvent event) {
+        scheduleDispatch();
+        clusterEventBus.publish(ClusterEvent.of(TASK_AVAILABLE_DESTINATION, event.taskId(),
+            DeliveryPolicy.RELIABLE, "task-available"));
+    }
+    
+    private void scheduleDispatch() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+    
+    /**
+     * Hand pending tasks to waiters in arrival order until either runs out
+     */
+    private void dispatch() {
+        dispatchScheduled.set(false);
+        Waiter waiter;
+        while ((waiter = waiters.peek()) != null) {
+            if (waiter.done.get()) {
+                waiters.poll();
+                continue;
+            }
+            Task task;
+            try {
+                task = assignmentService.getNextTaskForEmployee(waiter.employee);
+            } catch (Exception e) {
+                log.error("Failed to hand next task to employee {}", waiter.employee.getUsername(), e);
+                waiters.poll();
+                if (waiter.done.compareAndSet(false, true)) {
+                    waiter.result.setResult(ResponseEntity.badRequest().body(Map.of("error", e.getMessage())));
+                }
+                continue;
+            }
+            if (task == null) {
+                return; // Queue drained; the waiter keeps its place
+            }
+            waiters.poll();
+            // If the request timed out meanwhile, the task stays assigned and the
+            // employee's next get-next returns it as their active task
+            if (waiter.done.compareAndSet(false, true)) {
+                waiter.result.setResult(ResponseEntity.ok(TaskListItem.fromTask(task)));
+            }
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+    
+    private static final class Waiter {
+        private final User employee;
+        private final DeferredResult<ResponseEntity<?>> result;
+        private final AtomicBoolean done = new AtomicBoolean();
+        
+        private Waiter(User employee, DeferredResult<ResponseEntity<?>> result) {
+            this.employee = employee;
+            this.result = result;
+        }
+    }
+}
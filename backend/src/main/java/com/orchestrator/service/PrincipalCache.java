@@ -0,0 +1,81 @@
+package com.orchestrator.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.orchestrator.cluster.ClusterEvent;
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.dto.UserPrincipal;
+import com.orchestrator.websocket.DeliveryPolicy;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-limited cache of users resolved from the User-Id header.
+ * Invalidations are relayed to every node over the cluster bus, so a role or
+ * status change takes effect everywhere within one bus batch window; the TTL
+ * caps staleness if an invalidation is ever lost.
+ * Entries are immutable UserPrincipals, never entities, so no password hash
+ * or persistence state is kept in memory.
+ */
+@Service
+@Slf4j
+public class PrincipalCache {
+    
+    public static final String INVALIDATE_DESTINATION = ClusterEvent.INTERNAL_PREFIX + "principal-invalidate";
+    
+    private final ClusterEventBus clusterEventBus;
+    private final Cache<Long, UserPrincipal> users;
+    
+    public PrincipalCache(
+            ClusterEventBus clusterEventBus,
+            @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+            @Value("${auth.principal-cache.ttl-ms:60000}") long ttlMs) {
+        this.clusterEventBus = clusterEventBus;
+        this.users = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .recordStats()
+            .build();
+    }
+    
+    @PostConstruct
+    void subscribeToCluster() {
+        clusterEventBus.subscribe(event -> {
+            if (INVALIDATE_DESTINATION.equals(event.getDestination())) {
+                users.invalidate(Long.valueOf(String.valueOf(event.getPayload())));
+            }
+        });
+    }
+    
+    public UserPrincipal get(Long userId, Function<Long, UserPrincipal> loader) {
+        return users.get(userId, loader);
+    }
+    
+    /**
+     * Drop the user here and on every other node
+     */
+    public void invalidate(Long userId) {
+        users.invalidate(userId);
+        clusterEventBus.publish(ClusterEvent.of(INVALIDATE_DESTINATION, String.valueOf(userId),
+            DeliveryPolicy.RELIABLE, "principal:" + userId));
+        log.debug("Invalidated cached principal {}", userId);
+    }
+    
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = users.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", users.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+}
@@ -0,0 +1,209 @@
+package com.orchestrator.service;
+
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.dto.LatencySummary;
+import com.orchestrator.dto.TaskAnalyticsSnapshot;
+import com.orchestrator.stats.MinuteCounter;
+import com.orchestrator.stats.RollingHistogram;
+import com.orchestrator.stats.TaskCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rolling latency and throughput analytics for tasks handled by this node.
+ * Queue wait (created to started) and service time (started to ended) go into
+ * per-priority HdrHistograms, service time also per employee; created, assigned,
+ * completed and failed tasks are counted per minute.
+ *
+ * The record methods run on the lifecycle path and do not allocate once an
+ * employee's histogram exists. They are called inline rather than after commit,
+ * so a rare rollback at commit leaves one extra sample in a distribution.
+ * An employee's histogram (~45 KB) is dropped once a whole window passes
+ * without a sample, so memory follows recently active employees only.
+ */
+@Service
+@Slf4j
+public class TaskAnalyticsService {
+    
+    private static final long MAX_TRACKED_MS = 24L * 60 * 60 * 1000;
+    
+    private final WebSocketNotificationService notificationService;
+    private final String nodeId;
+    private final int slots;
+    private final long windowMinutes;
+    
+    private final RollingHistogram[] queueWaitByPriority = new RollingHistogram[TaskCounters.PRIORITY_LEVELS];
+    private final RollingHistogram[] serviceTimeByPriority = new RollingHistogram[TaskCounters.PRIORITY_LEVELS];
+    private final Map<Long, RollingHistogram> serviceTimeByEmployee = new ConcurrentHashMap<>();
+    
+    private final MinuteCounter created;
+    private final MinuteCounter assigned;
+    private final MinuteCounter completed;
+    private final MinuteCounter failed;
+    
+    private final AtomicBoolean changed = new AtomicBoolean();
+    
+    // Recomputed when the window rotates; histograms do not change in between
+    private volatile Map<Integer, LatencySummary> queueWaitSummary = Collections.emptyMap();
+    private volatile Map<Integer, LatencySummary> serviceTimeSummary = Collections.emptyMap();
+    
+    public TaskAnalyticsService(
+            WebSocketNotificationService notificationService,
+            ClusterEventBus clusterEventBus,
+            @Value("${analytics.slot-ms:300000}") long slotMs,
+            @Value("${analytics.slots:12}") int slots,
+            @Value("${analytics.throughput-minutes:60}") int throughputMinutes) {
+        this.notificationService = notificationService;
+        this.nodeId = clusterEventBus.getNodeId();
+        this.slots = slots;
+        this.windowMinutes = slotMs * slots / 60_000;
+        for (int i = 0; i < TaskCounters.PRIORITY_LEVELS; i++) {
+            queueWaitByPriority[i] = new RollingHistogram(MAX_TRACKED_MS, 2, slots);
+            serviceTimeByPriority[i] = new RollingHistogram(MAX_TRACKED_MS, 2, slots);
+        }
+        this.created = new MinuteCounter(throughputMinutes);
+        this.assigned = new MinuteCounter(throughputMinutes);
+        this.completed = new MinuteCounter(throughputMinutes);
+        this.failed = new MinuteCounter(throughputMinutes);
+    }
+    
+    public void recordCreated() {
+        created.increment(System.currentTimeMillis());
+        changed.set(true);
+    }
+    
+    /**
+     * Task picked up by an employee; queue wait is created to started
+     */
+    public void recordAssigned(Integer priority, LocalDateTime createdAt, LocalDateTime startTime) {
+        assigned.increment(System.currentTimeMillis());
+        if (createdAt != null && startTime != null) {
+            queueWaitByPriority[indexOf(priority)].record(epochMillis(startTime) - epochMillis(createdAt));
+        }
+        changed.set(true);
+    }
+    
+    /**
+     * Task completed or failed; service time is started to ended
+     */
+    public void recordFinished(Long employeeId, Integer priority, LocalDateTime startTime,
+                               LocalDateTime endTime, boolean success) {
+        (success ? completed : failed).increment(System.currentTimeMillis());
+        if (startTime != null && endTime != null) {
+            long serviceMs = epochMillis(endTime) - epochMillis(startTime);
+            serviceTimeByPriority[indexOf(priority)].record(serviceMs);
+            if (employeeId != null) {
+                employeeHistogram(employeeId).record(serviceMs);
+            }
+        }
+        changed.set(true);
+    }
+    
+    public TaskAnalyticsSnapshot getSnapshot() {
+        long now = System.currentTimeMillis();
+        Map<String, long[]> throughput = new LinkedHashMap<>();
+        throughput.put("created", created.lastMinutes(now));
+        throughput.put("assigned", assigned.lastMinutes(now));
+        throughput.put("completed", completed.lastMinutes(now));
+        throughput.put("failed", failed.lastMinutes(now));
+        
+        TaskAnalyticsSnapshot snapshot = new TaskAnalyticsSnapshot();
+        snapshot.setNodeId(nodeId);
+        snapshot.setWindowMinutes(windowMinutes);
+        snapshot.setGeneratedAt(LocalDateTime.now().toString());
+        snapshot.setQueueWaitByPriority(queueWaitSummary);
+        snapshot.setServiceTimeByPriority(serviceTimeSummary);
+        snapshot.setThroughputPerMinute(throughput);
+        return snapshot;
+    }
+    
+    /**
+     * Service time per employee over the histogram window, keyed by employee id
+     */
+    public Map<Long, LatencySummary> getEmployeeServiceTimes() {
+        Map<Long, LatencySummary> summaries = new TreeMap<>();
+        serviceTimeByEmployee.forEach((id, histogram) -> summaries.put(id, LatencySummary.from(histogram.snapshot())));
+        return summaries;
+    }
+    
+    /**
+     * Employees with a service-time histogram held in memory
+     */
+    int trackedEmployees() {
+        return serviceTimeByEmployee.size();
+    }
+    
+    public LatencySummary getEmployeeServiceTime(Long employeeId) {
+        RollingHistogram histogram = serviceTimeByEmployee.get(employeeId);
+        return histogram != null ? LatencySummary.from(histogram.snapshot()) : new LatencySummary();
+    }
+    
+    /**
+     * Close the current slot of every histogram and refresh the cached percentiles
+     */
+    @Scheduled(fixedRateString = "${analytics.slot-ms:300000}", initialDelayString = "${analytics.slot-ms:300000}")
+    public void rotate() {
+        for (int i = 0; i < TaskCounters.PRIORITY_LEVELS; i++) {
+            queueWaitByPriority[i].rotate();
+            serviceTimeByPriority[i].rotate();
+        }
+        serviceTimeByEmployee.forEach((id, histogram) -> {
+            histogram.rotate();
+            if (histogram.isEmpty()) {
+                // A sample recorded between the rotate and the removal is lost; it would be
+                // the first in a whole window for this employee
+                serviceTimeByEmployee.remove(id, histogram);
+            }
+        });
+        
+        queueWaitSummary = summarize(queueWaitByPriority);
+        serviceTimeSummary = summarize(serviceTimeByPriority);
+        changed.set(true);
+    }
+    
+    /**
+     * Push throughput and percentiles to admin dashboards when anything was recorded since the last push
+     */
+    @Scheduled(fixedDelayString = "${analytics.broadcast-interval-ms:5000}")
+    public void broadcastIfChanged() {
+        if (changed.getAndSet(false)) {
+            notificationService.broadcastAnalyticsUpdate(nodeId, getSnapshot());
+        }
+    }
+    
+    private RollingHistogram employeeHistogram(Long employeeId) {
+        RollingHistogram histogram = serviceTimeByEmployee.get(employeeId);
+        if (histogram == null) {
+            // One significant digit keeps a per-employee window to a few KB
+            histogram = serviceTimeByEmployee.computeIfAbsent(employeeId,
+                id -> new RollingHistogram(MAX_TRACKED_MS, 1, slots));
+        }
+        return histogram;
+    }
+    
+    private static Map<Integer, LatencySummary> summarize(RollingHistogram[] byPriority) {
+        Map<Integer, LatencySummary> summary = new LinkedHashMap<>();
+        for (int i = 0; i < byPriority.length; i++) {
+            summary.put(i + TaskCounters.MIN_PRIORITY, LatencySummary.from(byPriority[i].snapshot()));
+        }
+        return Collections.unmodifiableMap(summary);
+    }
+    
+    private static int indexOf(Integer priority) {
+        return TaskCounters.priorityIndex(priority != null ? priority : TaskCounters.MAX_PRIORITY);
+    }
+    
+    private static long epochMillis(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1000 + time.getNano() / 1_000_000;
+    }
+}
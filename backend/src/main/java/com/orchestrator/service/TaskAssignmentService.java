@@ -1,16 +1,24 @@
 package com.orchestrator.service;
 
+import com.orchestrator.dto.TaskSummaryMessage;
 import com.orchestrator.entity.*;
+import com.orchestrator.event.EmployeeTaskChangedEvent;
+import com.orchestrator.lock.TaskLock;
 import com.orchestrator.repository.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -20,28 +28,66 @@ public class TaskAssignmentService {
     private final UserRepository userRepository;
     private final EmployeeStatsService employeeStatsService;
     private final EmployeeTaskAssignmentRepository assignmentRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketNotificationService notificationService;
+    private final EmployeePresenceService presenceService;
+    private final TaskStatisticsService statisticsService;
+    private final LoggingService loggingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskAnalyticsService analyticsService;
+    private final TaskTimelineService timelineService;
+    private final TaskFenceService fenceService;
+    private final Timer assignmentCycleTimer;
+    private final Counter assignedCounter;
 
     public TaskAssignmentService(
             TaskRepository taskRepository, 
             UserRepository userRepository, 
             @Lazy EmployeeStatsService employeeStatsService, // Use @Lazy here
             EmployeeTaskAssignmentRepository assignmentRepository, 
-            SimpMessagingTemplate messagingTemplate) {
+            WebSocketNotificationService notificationService,
+            EmployeePresenceService presenceService,
+            TaskStatisticsService statisticsService,
+            LoggingService loggingService,
+            ApplicationEventPublisher eventPublisher,
+            TaskAnalyticsService analyticsService,
+            TaskTimelineService timelineService,
+            TaskFenceService fenceService,
+            MeterRegistry meterRegistry) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.employeeStatsService = employeeStatsService;
         this.assignmentRepository = assignmentRepository;
-        this.messagingTemplate = messagingTemplate;
+        this.notificationService = notificationService;
+        this.presenceService = presenceService;
+        this.statisticsService = statisticsService;
+        this.loggingService = loggingService;
+        this.eventPublisher = eventPublisher;
+        this.analyticsService = analyticsService;
+        this.timelineService = timelineService;
+        this.fenceService = fenceService;
+        this.assignmentCycleTimer = Timer.builder("orchestrator.assignment.cycle")
+            .description("One autoAssignTasks run, excluding its commit")
+            .register(meterRegistry);
+        this.assignedCounter = Counter.builder("orchestrator.tasks.assigned")
+            .register(meterRegistry);
     }
     
     /**
      * Automatically assign tasks from priority queue to idle employees
-     * Runs every 5 seconds
+     * Runs every assignment.interval-ms (5 seconds)
      */
-    @Scheduled(fixedDelay = 5000)
+    @Scheduled(fixedDelayString = "${assignment.interval-ms:5000}")
     @Transactional
     public void autoAssignTasks() {
+        long start = System.nanoTime();
+        try {
+            runAssignmentCycle();
+        } finally {
+            assignmentCycleTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private void runAssignmentCycle() {
         // Get pending tasks ordered by priority (1=highest) and creation time
         List<Task> pendingTasks = taskRepository.findPendingTasksByPriority();
         
@@ -49,26 +95,46 @@ public class TaskAssignmentService {
             return;
         }
         
-        // Get idle employees ordered by fair distribution algorithm
-        List<EmployeeStats> idleEmployees = employeeStatsService.getIdleEmployees();
+        // Get connected idle employees ordered by fair distribution algorithm
+        List<EmployeeStats> idleEmployees = getPresentIdleEmployees();
         
         if (idleEmployees.isEmpty()) {
             log.debug("No idle employees available for task assignment");
             return;
         }
         
-        // Assign tasks to idle employees
+        // Assign tasks to idle employees; both sides are claimed, so a concurrent
+        // get-next or another node's cycle can take either without double-assigning.
+        // A task whose lock is held is skipped like a locked row.
         int assignmentCount = 0;
+        int next = 0;
         for (Task task : pendingTasks) {
-            if (assignmentCount >= idleEmployees.size()) {
+            if (next >= idleEmployees.size()) {
                 break; // No more idle employees
             }
+            TaskLock lock = fenceService.tryLockForTransaction(task.getTaskId());
+            if (lock == null) {
+                continue;
+            }
+            if (taskRepository.lockIfPendingSkipLocked(task.getId()).isEmpty()) {
+                fenceService.release(lock);
+                continue; // Picked up, or being picked up, since the queue was read
+            }
             
-            EmployeeStats employeeStats = idleEmployees.get(assignmentCount);
-            User employee = employeeStats.getEmployee();
+            User employee = null;
+            while (employee == null && next < idleEmployees.size()) {
+                User candidate = idleEmployees.get(next++).getEmployee();
+                if (employeeStatsService.claimIdleEmployee(candidate)) {
+                    employee = candidate;
+                }
+            }
+            if (employee == null) {
+                fenceService.release(lock);
+                break;
+            }
             
             // Assign task
-            assignTaskToEmployee(task, employee);
+            assignClaimedTask(task, employee, lock);
             assignmentCount++;
             
             log.info("Auto-assigned task {} (priority: {}) to employee {}", 
@@ -85,10 +151,11 @@ public class TaskAssignmentService {
      */
     @Transactional
     public void manualAssignTask(String taskId, Long employeeId) {
+        TaskLock lock = fenceService.lockForTransaction(taskId);
         Task task = taskRepository.findByTaskId(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
         
-        if (task.getStatus() != TaskStatus.PENDING) {
+        if (taskRepository.lockIfPending(task.getId()).isEmpty()) {
             throw new RuntimeException("Only pending tasks can be assigned");
         }
         
@@ -100,29 +167,32 @@ public class TaskAssignmentService {
         }
         
         // Check if employee already has an active task
-        EmployeeStats stats = employeeStatsService.getEmployeeStats(employee);
-        if (stats.getCurrentActiveTask() > 0) {
+        if (!employeeStatsService.claimIdleEmployee(employee)) {
             throw new RuntimeException("Employee is already working on a task");
         }
         
-        assignTaskToEmployee(task, employee);
+        assignClaimedTask(task, employee, lock);
         log.info("Admin manually assigned task {} to employee {}", taskId, employee.getUsername());
     }
     
     /**
-     * Core task assignment logic
+     * Core task assignment logic. The caller holds the task's lock and then
+     * its row lock (a lockIfPending query), and has already claimed the employee.
      */
-    @Transactional
-    public void assignTaskToEmployee(Task task, User employee) {
+    private void assignClaimedTask(Task task, User employee, TaskLock lock) {
+        fenceService.verify(lock);
+        
         // Update task
+        TaskStatus previousStatus = task.getStatus();
         task.setAssignedTo(employee);
         task.setStatus(TaskStatus.RUNNING);
         task.setStartTime(LocalDateTime.now());
         task.setWorkerId("employee-" + employee.getId());
         taskRepository.save(task);
-        
-        // Mark employee as busy
-        employeeStatsService.markEmployeeBusy(employee);
+        statisticsService.recordTransition(previousStatus, TaskStatus.RUNNING, task.getPriority());
+        analyticsService.recordAssigned(task.getPriority(), task.getCreatedAt(), task.getStartTime());
+        assignedCounter.increment();
+        timelineService.record(task, TaskTransitionType.ASSIGNED, employee);
         
         // Create assignment record
         EmployeeTaskAssignment assignment = new EmployeeTaskAssignment();
@@ -136,6 +206,8 @@ public class TaskAssignmentService {
         sendWebSocketUpdate("task.updated", task);
         
         log.info("Task {} assigned to employee {}", task.getTaskId(), employee.getUsername());
+        loggingService.log("Task assigned to " + employee.getUsername(), LogType.INFO, task.getTaskId(), task.getWorkerId());
+        eventPublisher.publishEvent(new EmployeeTaskChangedEvent(employee.getId(), task.getTaskId(), TaskStatus.RUNNING));
     }
     
     /**
@@ -150,11 +222,22 @@ public class TaskAssignmentService {
             return taskRepository.findActiveTaskByEmployee(employee).orElse(null);
         }
         
-        // Get highest priority pending task
-        List<Task> pendingTasks = taskRepository.findPendingTasksByPriority();
-        if (!pendingTasks.isEmpty()) {
-            Task task = pendingTasks.get(0);
-            assignTaskToEmployee(task, employee);
+        // Get highest priority pending task that nobody else has claimed meanwhile
+        for (Task task : taskRepository.findPendingTasksByPriority()) {
+            TaskLock lock = fenceService.tryLockForTransaction(task.getTaskId());
+            if (lock == null) {
+                continue;
+            }
+            if (taskRepository.lockIfPendingSkipLocked(task.getId()).isEmpty()) {
+                fenceService.release(lock);
+                continue;
+            }
+            if (!employeeStatsService.claimIdleEmployee(employee)) {
+                // Auto-assign got to this employee first
+                fenceService.release(lock);
+                return taskRepository.findActiveTaskByEmployee(employee).orElse(null);
+            }
+            assignClaimedTask(task, employee, lock);
             return task;
         }
         
@@ -165,7 +248,7 @@ public class TaskAssignmentService {
      * Find best employee for a task using fair distribution algorithm
      */
     public User findBestEmployeeForTask(Task task) {
-        List<EmployeeStats> idleEmployees = employeeStatsService.getIdleEmployees();
+        List<EmployeeStats> idleEmployees = getPresentIdleEmployees();
         
         if (idleEmployees.isEmpty()) {
             return null;
@@ -198,7 +281,20 @@ public class TaskAssignmentService {
         return taskRepository.findActiveTaskByEmployee(employee).orElse(null);
     }
     
+    /**
+     * Idle employees, narrowed to those holding a live session when presence is enforced
+     */
+    private List<EmployeeStats> getPresentIdleEmployees() {
+        return employeeStatsService.getIdleEmployees().stream()
+            .filter(stats -> presenceService.isAvailableForAssignment(stats.getEmployee().getId()))
+            .collect(Collectors.toList());
+    }
+    
     private void sendWebSocketUpdate(String destination, Object payload) {
-        messagingTemplate.convertAndSend("/topic/" + destination, payload);
+        if (payload instanceof Task t) {
+            // Never put the entity (and its lazy proxies) on the wire
+            payload = TaskSummaryMessage.fromTask(t);
+        }
+        notificationService.sendTopicUpdate("/topic/" + destination, payload);
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.orchestrator.service;
+
+import com.orchestrator.lock.DistributedLockService;
+import com.orchestrator.lock.TaskLock;
+import com.orchestrator.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Fencing-token check for writes made under a task lock (TaskRepository.advanceFence),
+ * and task locks held for the rest of the caller's transaction.
+ * <p>
+ * Lock order is always the task lock first, then the task's row: callers take
+ * the lock before any locking read or update of the task.
+ */
+@Service
+@Slf4j
+public class TaskFenceService {
+
+    private final TaskRepository taskRepository;
+    private final DistributedLockService lockService;
+    private final Counter staleFenceCounter;
+
+    public TaskFenceService(TaskRepository taskRepository, DistributedLockService lockService, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.lockService = lockService;
+        this.staleFenceCounter = Counter.builder("orchestrator.lock.fence.rejected")
+            .description("Writes refused because a later lock holder had already written the task")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Refuse the write if the task has already been written under a later
+     * lock, i.e. this holder's lease lapsed and someone else took the task.
+     * Runs in the caller's transaction, whose row lock then holds off other fenced writers.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void verify(TaskLock lock) {
+        if (taskRepository.advanceFence(lock.taskId(), lock.fencingToken()) == 0) {
+            staleFenceCounter.increment();
+            log.warn("Stale lock on task {} (token {}); write refused", lock.taskId(), lock.fencingToken());
+            throw new RuntimeException("Lock on task " + lock.taskId() + " was lost to another holder");
+        }
+    }
+
+    /**
+     * Take the task's lock, waiting as acquireLock does, and hold it until the
+     * caller's transaction has ended. Fails if another holder kept it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public TaskLock lockForTransaction(String taskId) {
+        TaskLock lock = lockService.acquireLock(taskId);
+        if (lock == null) {
+            throw new RuntimeException("Task is locked by another operation");
+        }
+        releaseAfterCompletion(lock);
+        return lock;
+    }
+
+    /**
+     * Take the task's lock only if it is free right now, and hold it until the
+     * caller's transaction has ended; null if someone holds it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public TaskLock tryLockForTransaction(String taskId) {
+        TaskLock lock = lockService.tryAcquireLock(taskId);
+        if (lock != null) {
+            releaseAfterCompletion(lock);
+        }
+        return lock;
+    }
+
+    /**
+     * Give a lock back before the transaction ends, once the caller knows it
+     * will not write the task; the release at completion then does nothing
+     */
+    public void release(TaskLock lock) {
+        lockService.releaseLock(lock);
+    }
+
+    private void releaseAfterCompletion(TaskLock lock) {
+        // Commit and rollback both run on the acquiring thread, which owns the lock
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lockService.releaseLock(lock);
+            }
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.orchestrator.service;
+
+import com.orchestrator.entity.LogType;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.TaskStatus;
+import com.orchestrator.entity.TaskTransitionType;
+import com.orchestrator.event.TaskAvailableEvent;
+import com.orchestrator.lock.TaskLock;
+import com.orchestrator.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin retry of failed tasks (FAILED -> RETRYING -> PENDING). Each retry
+ * closes the failed attempt in the task's timeline and queues it again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskRetryService {
+    
+    private final TaskRepository taskRepository;
+    private final TaskFenceService fenceService;
+    private final TaskStatisticsService statisticsService;
+    private final TaskTimelineService timelineService;
+    private final LoggingService loggingService;
+    private final WebSocketNotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Admin puts a failed task back in the queue.
+     * The caller holds the task's lock until this transaction has committed.
+     */
+    @Transactional
+    public Task retryTask(TaskLock lock) {
+        return retryTasks(List.of(lock)).get(0);
+    }
+    
+    /**
+     * Bulk retry under the tasks' locks: every task is checked (found, fencing
+     * token current, FAILED) before any of them changes, so a bad one leaves
+     * the whole batch untouched.
+     */
+    @Transactional
+    public List<Task> retryTasks(List<TaskLock> locks) {
+        List<Task> tasks = new ArrayList<>(locks.size());
+        for (TaskLock lock : locks) {
+            Task task = taskRepository.findByTaskId(lock.taskId())
+                .orElseThrow(() -> new RuntimeException("Task not found: " + lock.taskId()));
+            fenceService.verify(lock);
+            if (task.getStatus() != TaskStatus.FAILED) {
+                throw new RuntimeException("Only failed tasks can be retried: " + lock.taskId());
+            }
+            tasks.add(task);
+        }
+        
+        List<Task> retried = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            retried.add(requeue(task));
+        }
+        return retried;
+    }
+    
+    private Task requeue(Task task) {
+        String taskId = task.getTaskId();
+        // The previous assignee must not see the task as active again
+        task.setStatus(TaskStatus.PENDING);
+        // retryCount was already bumped when the task failed
+        task.setProgress(0);
+        task.setAssignedTo(null);
+        task.setWorkerId(null);
+        task.setStartTime(null);
+        task.setEndTime(null);
+        timelineService.record(task, TaskTransitionType.RETRIED, null);
+        timelineService.record(task, TaskTransitionType.QUEUED, null);
+        task = taskRepository.save(task);
+        statisticsService.recordTransition(TaskStatus.FAILED, TaskStatus.PENDING, task.getPriority());
+        
+        log.info("Task {} queued for retry {}", taskId, task.getRetryCount());
+        loggingService.log("Task queued for retry " + task.getRetryCount(), LogType.WARNING, taskId, null);
+        Map<String, Object> update = new HashMap<>();
+        update.put("taskId", taskId);
+        update.put("status", task.getStatus());
+        update.put("name", task.getName());
+        notificationService.sendTopicUpdate("/topic/task.updated", update);
+        eventPublisher.publishEvent(new TaskAvailableEvent(taskId, task.getPriority()));
+        
+        return task;
+    }
+}
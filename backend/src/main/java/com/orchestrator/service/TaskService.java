@@ -1,13 +1,23 @@
 package com.orchestrator.service;
 
+import com.orchestrator.datasource.ReadRouting;
+import com.orchestrator.dto.AssignmentHistoryItem;
+import com.orchestrator.dto.TaskListItem;
+import com.orchestrator.dto.TaskPage;
+import com.orchestrator.dto.TaskQuery;
 import com.orchestrator.entity.*;
+import com.orchestrator.event.EmployeeTaskChangedEvent;
+import com.orchestrator.event.TaskAvailableEvent;
+import com.orchestrator.lock.TaskLock;
 import com.orchestrator.repository.*;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -19,17 +29,37 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final EmployeeTaskAssignmentRepository assignmentRepository;
     private final EmployeeStatsService employeeStatsService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketNotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskStatisticsService statisticsService;
+    private final LoggingService loggingService;
+    private final TaskAnalyticsService analyticsService;
+    private final TaskTimelineService timelineService;
+    private final TaskFenceService fenceService;
+    
+    private static final int MAX_PAGE_SIZE = 500;
 
     public TaskService(
                 TaskRepository taskRepository, 
                 EmployeeTaskAssignmentRepository assignmentRepository, 
                 @Lazy EmployeeStatsService employeeStatsService, // BREAKS THE CIRCULAR LOOP
-                SimpMessagingTemplate messagingTemplate) {
+                WebSocketNotificationService notificationService,
+                ApplicationEventPublisher eventPublisher,
+                TaskStatisticsService statisticsService,
+                LoggingService loggingService,
+                TaskAnalyticsService analyticsService,
+                TaskTimelineService timelineService,
+                TaskFenceService fenceService) {
             this.taskRepository = taskRepository;
             this.assignmentRepository = assignmentRepository;
             this.employeeStatsService = employeeStatsService;
-            this.messagingTemplate = messagingTemplate;
+            this.notificationService = notificationService;
+            this.eventPublisher = eventPublisher;
+            this.statisticsService = statisticsService;
+            this.loggingService = loggingService;
+            this.analyticsService = analyticsService;
+            this.timelineService = timelineService;
+            this.fenceService = fenceService;
         }
     
     /**
@@ -54,22 +84,30 @@ public class TaskService {
         task.setCreatedBy(admin);
         
         task = taskRepository.save(task);
+        statisticsService.recordTransition(null, TaskStatus.PENDING, priority);
+        analyticsService.recordCreated();
+        timelineService.recordCreated(task);
         
         log.info("Admin {} created task {} with priority {}", admin.getUsername(), task.getTaskId(), priority);
+        loggingService.log("Task '" + name + "' created by " + admin.getUsername() + " with priority " + priority,
+            LogType.INFO, task.getTaskId(), null);
         sendWebSocketUpdate("task.created", task);
+        eventPublisher.publishEvent(new TaskAvailableEvent(task.getTaskId(), task.getPriority()));
         
         return task;
     }
     
     /**
-     * Employee marks task as completed with a message
+     * Employee marks task as completed with a message, under the task's lock
      */
     @Transactional
     public Task completeTask(String taskId, User employee, String completionMessage) {
+        TaskLock lock = fenceService.lockForTransaction(taskId);
         Task task = taskRepository.findByTaskId(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
         
         validateEmployeeTaskAccess(task, employee);
+        fenceService.verify(lock);
         
         if (task.getStatus() != TaskStatus.RUNNING) {
             throw new RuntimeException("Only running tasks can be completed");
@@ -82,31 +120,38 @@ public class TaskService {
         task.setCompletionMessage(completionMessage);
         
         task = taskRepository.save(task);
+        statisticsService.recordTransition(TaskStatus.RUNNING, TaskStatus.COMPLETED, task.getPriority());
+        analyticsService.recordFinished(employee.getId(), task.getPriority(), task.getStartTime(), task.getEndTime(), true);
+        timelineService.record(task, TaskTransitionType.COMPLETED, employee);
         
-        // Update assignment record
-        updateAssignmentRecord(task, employee, TaskStatus.COMPLETED);
-        
-        // Update employee stats
+        // Close the assignment record
         int timeSpent = calculateTimeSpent(task.getStartTime(), task.getEndTime());
+        closeAssignment(task, employee, TaskStatus.COMPLETED, timeSpent);
+        
+        // Update employee stats (also marks the employee idle)
         employeeStatsService.recordTaskCompletion(employee, true, timeSpent);
-        employeeStatsService.markEmployeeIdle(employee);
         
         log.info("Employee {} completed task {}", employee.getUsername(), taskId);
+        loggingService.log("Task completed by " + employee.getUsername() + " in " + timeSpent + " min",
+            LogType.SUCCESS, taskId, task.getWorkerId());
         sendWebSocketUpdate("task.completed", task);
         sendWebSocketUpdate("employee.task.completed." + employee.getId(), task);
+        eventPublisher.publishEvent(new EmployeeTaskChangedEvent(employee.getId(), taskId, TaskStatus.COMPLETED));
         
         return task;
     }
     
     /**
-     * Employee marks task as failed with error message
+     * Employee marks task as failed with error message, under the task's lock
      */
     @Transactional
     public Task failTask(String taskId, User employee, String errorMessage) {
+        TaskLock lock = fenceService.lockForTransaction(taskId);
         Task task = taskRepository.findByTaskId(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
         
         validateEmployeeTaskAccess(task, employee);
+        fenceService.verify(lock);
         
         if (task.getStatus() != TaskStatus.RUNNING) {
             throw new RuntimeException("Only running tasks can be marked as failed");
@@ -119,75 +164,173 @@ public class TaskService {
         task.setRetryCount(task.getRetryCount() + 1);
         
         task = taskRepository.save(task);
+        statisticsService.recordTransition(TaskStatus.RUNNING, TaskStatus.FAILED, task.getPriority());
+        analyticsService.recordFinished(employee.getId(), task.getPriority(), task.getStartTime(), task.getEndTime(), false);
+        timelineService.record(task, TaskTransitionType.FAILED, employee);
         
         // Update assignment record
-        updateAssignmentRecord(task, employee, TaskStatus.FAILED);
-        
-        // Update employee stats
         int timeSpent = calculateTimeSpent(task.getStartTime(), task.getEndTime());
+        closeAssignment(task, employee, TaskStatus.FAILED, timeSpent);
+        
+        // Update employee stats (also marks the employee idle)
         employeeStatsService.recordTaskCompletion(employee, false, timeSpent);
-        employeeStatsService.markEmployeeIdle(employee);
         
         log.warn("Employee {} marked task {} as failed: {}", employee.getUsername(), taskId, errorMessage);
+        loggingService.log("Task failed by " + employee.getUsername() + ": " + errorMessage,
+            LogType.ERROR, taskId, task.getWorkerId());
         sendWebSocketUpdate("task.failed", task);
         sendWebSocketUpdate("employee.task.failed." + employee.getId(), task);
+        eventPublisher.publishEvent(new EmployeeTaskChangedEvent(employee.getId(), taskId, TaskStatus.FAILED));
         
         return task;
     }
     
     /**
-     * Update task progress (called by employee)
+     * Update task progress (called by employee), under the task's lock
      */
     @Transactional
     public void updateProgress(String taskId, User employee, int progress) {
+        TaskLock lock = fenceService.lockForTransaction(taskId);
         Task task = taskRepository.findByTaskId(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
         
         validateEmployeeTaskAccess(task, employee);
+        fenceService.verify(lock);
         
+        boolean firstProgress = (task.getProgress() == null || task.getProgress() == 0) && progress > 0;
         task.setProgress(Math.min(progress, 100));
         taskRepository.save(task);
+        if (firstProgress && task.getStatus() == TaskStatus.RUNNING) {
+            timelineService.record(task, TaskTransitionType.FIRST_PROGRESS, employee);
+        }
         sendWebSocketUpdate("task.progress", task);
+        eventPublisher.publishEvent(new EmployeeTaskChangedEvent(employee.getId(), taskId, task.getStatus()));
+    }
+    
+    /**
+     * One page of tasks, newest first, continuing after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public TaskPage getTaskPage(TaskQuery query, String cursor) {
+        query.setLimit(Math.max(1, Math.min(query.getLimit(), MAX_PAGE_SIZE)));
+        if (cursor != null && !cursor.isBlank()) {
+            decodeCursor(cursor, query);
+        }
+        
+        int limit = query.getLimit();
+        query.setLimit(limit + 1); // One extra row tells us whether another page exists
+        List<TaskListItem> items = taskRepository.findPage(query);
+        
+        String nextCursor = null;
+        if (items.size() > limit) {
+            items = new ArrayList<>(items.subList(0, limit));
+            nextCursor = encodeCursor(items.get(limit - 1));
+        }
+        return new TaskPage(items, nextCursor);
+    }
+    
+    /**
+     * One page of the tasks created by this admin, newest first
+     */
+    @Transactional(readOnly = true)
+    public TaskPage getTasksByAdmin(User admin, String cursor, int limit) {
+        TaskQuery query = new TaskQuery();
+        query.setCreatorId(admin.getId());
+        query.setLimit(limit);
+        return getTaskPage(query, cursor);
     }
     
     /**
-     * Get all tasks (Admin view)
+     * One page of the tasks assigned to this employee, newest first
      */
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    @Transactional(readOnly = true)
+    public TaskPage getTasksByEmployee(User employee, String cursor, int limit) {
+        TaskQuery query = new TaskQuery();
+        query.setAssigneeId(employee.getId());
+        query.setIncludeText(true);
+        query.setLimit(limit);
+        return getTaskPage(query, cursor);
     }
     
     /**
-     * Get tasks created by specific admin
+     * One task as a projection, or null
      */
-    public List<Task> getTasksByAdmin(User admin) {
-        return taskRepository.findTasksByAdmin(admin);
+    @Transactional(readOnly = true)
+    public TaskListItem getTaskItem(String taskId) {
+        TaskQuery query = new TaskQuery();
+        query.setTaskId(taskId);
+        query.setIncludeText(true);
+        query.setLimit(1);
+        List<TaskListItem> items = taskRepository.findPage(query);
+        return items.isEmpty() ? null : items.get(0);
     }
     
     /**
-     * Get tasks assigned to specific employee
+     * The employee's most recent tasks, newest first
      */
-    public List<Task> getTasksByEmployee(User employee) {
-        return taskRepository.findByAssignedTo(employee);
+    @Transactional(readOnly = true)
+    public List<TaskListItem> getRecentTasksByEmployee(User employee, int limit) {
+        TaskQuery query = new TaskQuery();
+        query.setAssigneeId(employee.getId());
+        query.setIncludeText(true);
+        query.setLimit(limit);
+        return taskRepository.findPage(query);
+    }
+    
+    /**
+     * Employee's running task as a projection, or null.
+     * Read from the primary: it is polled right after get-next assigns the task.
+     */
+    @Transactional(readOnly = true)
+    public TaskListItem getActiveTaskItem(User employee) {
+        ReadRouting.pinPrimary();
+        try {
+            return findActiveTaskItem(employee);
+        } finally {
+            ReadRouting.unpinPrimary();
+        }
+    }
+    
+    private TaskListItem findActiveTaskItem(User employee) {
+        TaskQuery query = new TaskQuery();
+        query.setAssigneeId(employee.getId());
+        query.setStatus(TaskStatus.RUNNING);
+        query.setIncludeText(true);
+        query.setLimit(1);
+        List<TaskListItem> items = taskRepository.findPage(query);
+        return items.isEmpty() ? null : items.get(0);
     }
     
     /**
      * Get task statistics
      */
     public Map<String, Long> getStatistics() {
-        Map<String, Long> stats = new HashMap<>();
-        stats.put("pending", taskRepository.countByStatus(TaskStatus.PENDING));
-        stats.put("running", taskRepository.countByStatus(TaskStatus.RUNNING));
-        stats.put("completed", taskRepository.countByStatus(TaskStatus.COMPLETED));
-        stats.put("failed", taskRepository.countByStatus(TaskStatus.FAILED));
-        return stats;
+        return statisticsService.getStatistics();
     }
     
     /**
-     * Get employee's assignment history
+     * Get employee's most recent assignments, newest first
      */
-    public List<EmployeeTaskAssignment> getEmployeeHistory(User employee) {
-        return assignmentRepository.findRecentAssignmentsByEmployee(employee);
+    @Transactional(readOnly = true)
+    public List<AssignmentHistoryItem> getEmployeeHistory(User employee, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return assignmentRepository.findHistoryByEmployeeId(employee.getId(), PageRequest.of(0, size));
+    }
+    
+    private String encodeCursor(TaskListItem last) {
+        String position = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private void decodeCursor(String cursor, TaskQuery query) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('|');
+            query.setAfterCreatedAt(LocalDateTime.parse(position.substring(0, separator)));
+            query.setAfterId(Long.valueOf(position.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
     }
     
     private void validateEmployeeTaskAccess(Task task, User employee) {
@@ -196,17 +339,16 @@ public class TaskService {
         }
     }
     
-    private void updateAssignmentRecord(Task task, User employee, TaskStatus finalStatus) {
-        List<EmployeeTaskAssignment> assignments = assignmentRepository.findByEmployee(employee);
-        assignments.stream()
-            .filter(a -> a.getTask().getId().equals(task.getId()) && a.getCompletedAt() == null)
-            .findFirst()
-            .ifPresent(assignment -> {
-                assignment.setCompletedAt(LocalDateTime.now());
-                assignment.setFinalStatus(finalStatus);
-                assignment.setTimeSpentMinutes(calculateTimeSpent(assignment.getStartedAt(), assignment.getCompletedAt()));
-                assignmentRepository.save(assignment);
-            });
+    /**
+     * Close the task's open assignment. The assignment starts with the task, so the
+     * task's own start/end times give its duration without reading the row first.
+     */
+    private void closeAssignment(Task task, User employee, TaskStatus finalStatus, int timeSpent) {
+        int closed = assignmentRepository.closeOpenAssignment(
+            task.getId(), employee.getId(), finalStatus, task.getEndTime(), timeSpent);
+        if (closed == 0) {
+            log.warn("No open assignment for task {} and employee {}", task.getTaskId(), employee.getUsername());
+        }
     }
     
     private int calculateTimeSpent(LocalDateTime start, LocalDateTime end) {
@@ -221,9 +363,9 @@ public class TaskService {
             map.put("taskId", t.getTaskId());
             map.put("status", t.getStatus());
             map.put("name", t.getName());
-            messagingTemplate.convertAndSend("/topic/" + destination, map);
+            notificationService.sendTopicUpdate("/topic/" + destination, map);
         } else {
-            messagingTemplate.convertAndSend("/topic/" + destination, payload);
+            notificationService.sendTopicUpdate("/topic/" + destination, payload);
         }
     }
 }
@@ -0,0 +1,137 @@
+package com.orchestrator.service;
+
+import com.orchestrator.entity.TaskStatus;
+import com.orchestrator.repository.TaskRepository;
+import com.orchestrator.stats.TaskCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Task statistics served from incrementally maintained counters instead of
+ * per-request COUNT queries. Every status change is applied once its
+ * transaction commits; a periodic GROUP BY reconciliation corrects any drift.
+ */
+@Service
+@Slf4j
+public class TaskStatisticsService {
+    
+    private final TaskCounters counters;
+    private final TaskRepository taskRepository;
+    private final WebSocketNotificationService notificationService;
+    
+    private final AtomicBoolean changed = new AtomicBoolean();
+    
+    public TaskStatisticsService(
+            TaskCounters counters,
+            TaskRepository taskRepository,
+            WebSocketNotificationService notificationService) {
+        this.counters = counters;
+        this.taskRepository = taskRepository;
+        this.notificationService = notificationService;
+    }
+    
+    /**
+     * Record a task moving between statuses; from is null for a newly created task
+     */
+    public void recordTransition(TaskStatus from, TaskStatus to, Integer priority) {
+        int p = priority != null ? priority : TaskCounters.MAX_PRIORITY;
+        Runnable apply = () -> {
+            if (from != null) {
+                counters.add(from, p, -1);
+            }
+            if (to != null) {
+                counters.add(to, p, 1);
+            }
+            changed.set(true);
+        };
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A rolled-back transition must not move the counters
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+    
+    /**
+     * Count per status, keyed by lower-case status name
+     */
+    public Map<String, Long> getStatistics() {
+        long[][] counts = counters.snapshot();
+        Map<String, Long> stats = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            long total = 0;
+            for (long count : counts[status.ordinal()]) {
+                total += count;
+            }
+            stats.put(status.name().toLowerCase(Locale.ROOT), total);
+        }
+        return stats;
+    }
+    
+    /**
+     * Count per priority for the given status, keyed by priority (1 = highest)
+     */
+    public Map<Integer, Long> getPriorityCounts(TaskStatus status) {
+        long[] row = counters.snapshot()[status.ordinal()];
+        Map<Integer, Long> byPriority = new LinkedHashMap<>();
+        for (int i = 0; i < row.length; i++) {
+            byPriority.put(i + TaskCounters.MIN_PRIORITY, row[i]);
+        }
+        return byPriority;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+    
+    /**
+     * Align the counters with one GROUP BY over the tasks table
+     */
+    @Scheduled(fixedDelayString = "${statistics.reconcile-interval-ms:60000}",
+               initialDelayString = "${statistics.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        // Taken before the query, so moves made while it runs can be told apart from drift
+        long[][] expected = counters.snapshot();
+        long[][] actual = TaskCounters.emptyCounts();
+        List<Object[]> rows = taskRepository.countGroupedByStatusAndPriority();
+        for (Object[] row : rows) {
+            TaskStatus status = (TaskStatus) row[0];
+            Integer priority = (Integer) row[1];
+            int p = TaskCounters.priorityIndex(priority != null ? priority : TaskCounters.MAX_PRIORITY);
+            actual[status.ordinal()][p] += ((Number) row[2]).longValue();
+        }
+        
+        long drift = counters.reconcile(expected, actual);
+        if (drift > 0) {
+            log.info("Task statistics reconciled, corrected drift of {}", drift);
+            changed.set(true);
+        }
+    }
+    
+    /**
+     * Push the statistics to admin dashboards when they changed since the last push
+     */
+    @Scheduled(fixedDelayString = "${statistics.broadcast-interval-ms:1000}")
+    public void broadcastIfChanged() {
+        if (changed.getAndSet(false)) {
+            notificationService.broadcastStatisticsUpdate(getStatistics());
+        }
+    }
+}
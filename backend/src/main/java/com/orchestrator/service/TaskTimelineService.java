@@ -0,0 +1,149 @@
+package com.orchestrator.service;
+
+import com.orchestrator.dto.TaskTimeline;
+import com.orchestrator.dto.TaskTransitionItem;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.TaskTransition;
+import com.orchestrator.entity.TaskTransitionType;
+import com.orchestrator.entity.User;
+import com.orchestrator.repository.TaskRepository;
+import com.orchestrator.repository.TaskTransitionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-task lifecycle timeline. Each transition appends one row in the
+ * caller's transaction; when a transition closes a phase, the phase's
+ * duration also goes to the {@code orchestrator.task.phase} timer. The
+ * previous transition is read from the task row (lastTransition), never from
+ * task_transitions, so recording is a single INSERT.
+ */
+@Service
+@Slf4j
+public class TaskTimelineService {
+    
+    public static final String QUEUE_WAIT = "queueWait";
+    public static final String STARTUP = "startup";
+    public static final String RUNNING = "running";
+    public static final String RETRY_DELAY = "retryDelay";
+    
+    private final TaskTransitionRepository transitionRepository;
+    private final TaskRepository taskRepository;
+    private final Map<String, Timer> phaseTimers = new LinkedHashMap<>();
+    
+    public TaskTimelineService(
+            TaskTransitionRepository transitionRepository,
+            TaskRepository taskRepository,
+            MeterRegistry meterRegistry) {
+        this.transitionRepository = transitionRepository;
+        this.taskRepository = taskRepository;
+        for (String phase : List.of(QUEUE_WAIT, STARTUP, RUNNING, RETRY_DELAY)) {
+            phaseTimers.put(phase, Timer.builder("orchestrator.task.phase")
+                .description("Time tasks spend in each lifecycle phase")
+                .tag("phase", phase)
+                .register(meterRegistry));
+        }
+    }
+    
+    /**
+     * Rows for a task saved in this transaction, which Task.onCreate stamped as queued
+     */
+    @Transactional
+    public void recordCreated(Task task) {
+        append(task, TaskTransitionType.CREATED, task.getCreatedAt(), null);
+        append(task, TaskTransitionType.QUEUED, task.getLastTransitionAt(), null);
+    }
+    
+    /**
+     * Append a transition for a managed task; employee may be null. The task's
+     * lastTransition columns change too and are written with the caller's
+     * update of the task.
+     */
+    @Transactional
+    public void record(Task task, TaskTransitionType type, User employee) {
+        LocalDateTime now = LocalDateTime.now();
+        if (task.getLastTransition() != null && task.getLastTransitionAt() != null) {
+            recordPhase(task.getLastTransition(), type, Duration.between(task.getLastTransitionAt(), now));
+        }
+        task.setLastTransition(type);
+        task.setLastTransitionAt(now);
+        append(task, type, now, employee);
+    }
+    
+    private void append(Task task, TaskTransitionType type, LocalDateTime at, User employee) {
+        TaskTransition transition = new TaskTransition();
+        transition.setTask(task);
+        transition.setType(type);
+        transition.setOccurredAt(at);
+        transition.setEmployee(employee);
+        transitionRepository.save(transition);
+    }
+    
+    /**
+     * A task's transitions and phase breakdown
+     */
+    @Transactional(readOnly = true)
+    public TaskTimeline getTimeline(String taskId) {
+        Task task = taskRepository.findByTaskId(taskId)
+            .orElseThrow(() -> new RuntimeException("Task not found"));
+        List<TaskTransitionItem> transitions = transitionRepository.findTimeline(task.getId());
+        
+        Map<String, Long> phases = new LinkedHashMap<>();
+        phaseTimers.keySet().forEach(phase -> phases.put(phase, 0L));
+        int attempts = 0;
+        for (int i = 1; i < transitions.size(); i++) {
+            TaskTransitionItem previous = transitions.get(i - 1);
+            TaskTransitionItem current = transitions.get(i);
+            String phase = phaseOf(previous.getType(), current.getType());
+            if (phase != null) {
+                phases.merge(phase, Duration.between(previous.getAt(), current.getAt()).toMillis(), Long::sum);
+            }
+            if (current.getType() == TaskTransitionType.ASSIGNED) {
+                attempts++;
+            }
+        }
+        
+        TaskTimeline timeline = new TaskTimeline();
+        timeline.setTaskId(taskId);
+        timeline.setAttempts(attempts);
+        timeline.setPhasesMs(phases);
+        timeline.setTransitions(transitions);
+        if (!transitions.isEmpty()) {
+            TaskTransitionType last = transitions.get(transitions.size() - 1).getType();
+            boolean finished = last == TaskTransitionType.COMPLETED || last == TaskTransitionType.FAILED;
+            LocalDateTime end = finished ? transitions.get(transitions.size() - 1).getAt() : LocalDateTime.now();
+            timeline.setFinished(finished);
+            timeline.setTotalMs(Duration.between(transitions.get(0).getAt(), end).toMillis());
+        }
+        return timeline;
+    }
+    
+    private void recordPhase(TaskTransitionType from, TaskTransitionType to, Duration elapsed) {
+        String phase = phaseOf(from, to);
+        if (phase != null) {
+            phaseTimers.get(phase).record(elapsed);
+        }
+    }
+    
+    /**
+     * The phase that ends when a task moves from one transition to the next, or null
+     */
+    private static String phaseOf(TaskTransitionType from, TaskTransitionType to) {
+        return switch (to) {
+            case ASSIGNED -> from == TaskTransitionType.QUEUED ? QUEUE_WAIT : null;
+            case FIRST_PROGRESS -> from == TaskTransitionType.ASSIGNED ? STARTUP : null;
+            case COMPLETED, FAILED -> from == TaskTransitionType.ASSIGNED || from == TaskTransitionType.FIRST_PROGRESS
+                ? RUNNING : null;
+            case RETRIED -> from == TaskTransitionType.FAILED ? RETRY_DELAY : null;
+            default -> null;
+        };
+    }
+}
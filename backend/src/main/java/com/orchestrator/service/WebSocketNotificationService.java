@@ -1,16 +1,27 @@
 package com.orchestrator.service;
 
+import com.orchestrator.cluster.ClusterEvent;
+import com.orchestrator.cluster.ClusterEventBus;
 import com.orchestrator.dto.TaskAssignmentMessage;
 import com.orchestrator.dto.TaskCompletionMessage;
+import com.orchestrator.dto.TaskSummaryMessage;
 import com.orchestrator.dto.WebSocketMessage;
 import com.orchestrator.entity.Task;
 import com.orchestrator.entity.User;
+import com.orchestrator.websocket.DeliveryPolicy;
+import com.orchestrator.websocket.WebSocketPayloadCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +29,20 @@ import java.time.format.DateTimeFormatter;
 public class WebSocketNotificationService {
     
     private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketPayloadCodec payloadCodec;
+    private final ClusterEventBus clusterEventBus;
+    private final MeterRegistry meterRegistry;
+    
+    // Keyed by message type, a fixed set, so the tag stays low-cardinality
+    private final Map<String, Counter> publishedByType = new ConcurrentHashMap<>();
+    
+    /**
+     * Fan out events produced on other nodes to this node's sessions
+     */
+    @PostConstruct
+    void subscribeToCluster() {
+        clusterEventBus.subscribe(this::deliverLocally);
+    }
     
     /**
      * Notify specific employee about new task assignment
@@ -34,11 +59,7 @@ public class WebSocketNotificationService {
         );
         
         // Send to specific user's queue
-        messagingTemplate.convertAndSendToUser(
-            employee.getId().toString(),
-            "/queue/tasks",
-            wsMessage
-        );
+        sendToUser(employee.getId(), wsMessage);
         
         log.info("WebSocket notification sent to employee {} for task {}", 
             employee.getUsername(), task.getTaskId());
@@ -58,7 +79,7 @@ public class WebSocketNotificationService {
         );
         
         // Broadcast to all admins
-        messagingTemplate.convertAndSend("/topic/admin/tasks", wsMessage);
+        send("/topic/admin/tasks", wsMessage);
         
         log.info("WebSocket broadcast sent for task assignment: {}", task.getTaskId());
     }
@@ -84,14 +105,10 @@ public class WebSocketNotificationService {
         );
         
         // Broadcast to all admins
-        messagingTemplate.convertAndSend("/topic/admin/tasks", wsMessage);
+        send("/topic/admin/tasks", wsMessage);
         
         // Also send to the employee
-        messagingTemplate.convertAndSendToUser(
-            employee.getId().toString(),
-            "/queue/tasks",
-            wsMessage
-        );
+        sendToUser(employee.getId(), wsMessage);
         
         log.info("Task completed notification sent: {}", task.getTaskId());
     }
@@ -117,14 +134,10 @@ public class WebSocketNotificationService {
         );
         
         // Broadcast to all admins
-        messagingTemplate.convertAndSend("/topic/admin/tasks", wsMessage);
+        send("/topic/admin/tasks", wsMessage);
         
         // Also send to the employee
-        messagingTemplate.convertAndSendToUser(
-            employee.getId().toString(),
-            "/queue/tasks",
-            wsMessage
-        );
+        sendToUser(employee.getId(), wsMessage);
         
         log.warn("Task failed notification sent: {}", task.getTaskId());
     }
@@ -135,12 +148,12 @@ public class WebSocketNotificationService {
     public void broadcastTaskCreated(Task task) {
         WebSocketMessage wsMessage = new WebSocketMessage(
             "TASK_CREATED",
-            task,
+            TaskSummaryMessage.fromTask(task),
             null,
             getCurrentTimestamp()
         );
         
-        messagingTemplate.convertAndSend("/topic/admin/tasks", wsMessage);
+        send("/topic/admin/tasks", wsMessage);
         log.info("Task created broadcast sent: {}", task.getTaskId());
     }
     
@@ -150,12 +163,13 @@ public class WebSocketNotificationService {
     public void broadcastTaskProgress(Task task) {
         WebSocketMessage wsMessage = new WebSocketMessage(
             "TASK_PROGRESS",
-            task,
+            TaskSummaryMessage.fromTask(task),
             null,
             getCurrentTimestamp()
         );
         
-        messagingTemplate.convertAndSend("/topic/admin/tasks", wsMessage);
+        // Superseded by the next update, so slow sessions may drop it
+        send("/topic/admin/tasks", wsMessage, DeliveryPolicy.DROP_OLDEST, "progress:" + task.getTaskId());
     }
     
     /**
@@ -169,7 +183,83 @@ public class WebSocketNotificationService {
             getCurrentTimestamp()
         );
         
-        messagingTemplate.convertAndSend("/topic/admin/statistics", wsMessage);
+        send("/topic/admin/statistics", wsMessage, DeliveryPolicy.DROP_OLDEST, "statistics");
+    }
+    
+    /**
+     * Send this node's task analytics; each node's frame supersedes only its own previous one
+     */
+    public void broadcastAnalyticsUpdate(String nodeId, Object analytics) {
+        WebSocketMessage wsMessage = new WebSocketMessage(
+            "ANALYTICS_UPDATE",
+            analytics,
+            null,
+            getCurrentTimestamp()
+        );
+        
+        send("/topic/admin/statistics", wsMessage, DeliveryPolicy.DROP_OLDEST, "analytics:" + nodeId);
+    }
+    
+    /**
+     * Broadcast one frame per batch of persisted system log rows
+     */
+    public void broadcastLogBatch(List<?> logs) {
+        WebSocketMessage wsMessage = new WebSocketMessage(
+            "LOG_BATCH",
+            logs,
+            null,
+            getCurrentTimestamp()
+        );
+        
+        send("/topic/logs", wsMessage, DeliveryPolicy.DROP_OLDEST, null);
+    }
+    
+    /**
+     * Send a plain topic update (e.g. /topic/task.completed) to every node's subscribers
+     */
+    public void sendTopicUpdate(String destination, Object payload) {
+        published("TOPIC_UPDATE").increment();
+        messagingTemplate.convertAndSend(destination, payload);
+        clusterEventBus.publish(ClusterEvent.of(destination, payload, DeliveryPolicy.RELIABLE, null));
+    }
+    
+    private void send(String destination, WebSocketMessage wsMessage) {
+        send(destination, wsMessage, DeliveryPolicy.RELIABLE, null);
+    }
+    
+    /**
+     * Serialize once and hand the local broker a ready-made frame, then relay to other nodes
+     */
+    private void send(String destination, WebSocketMessage wsMessage, DeliveryPolicy policy, String coalesceKey) {
+        published(wsMessage.getType()).increment();
+        messagingTemplate.send(destination, payloadCodec.toMessage(wsMessage, policy));
+        clusterEventBus.publish(ClusterEvent.of(destination, wsMessage, policy, coalesceKey));
+    }
+    
+    private void deliverLocally(ClusterEvent event) {
+        if (ClusterEvent.isInternal(event.getDestination())) {
+            return;
+        }
+        if (event.getPayload() instanceof WebSocketMessage wsMessage) {
+            messagingTemplate.send(event.getDestination(), payloadCodec.toMessage(wsMessage, event.getPolicy()));
+        } else {
+            messagingTemplate.convertAndSend(event.getDestination(), event.getPayload());
+        }
+    }
+    
+    private Counter published(String type) {
+        Counter counter = publishedByType.get(type);
+        if (counter == null) {
+            counter = publishedByType.computeIfAbsent(type, t -> Counter.builder("orchestrator.stomp.published")
+                .description("STOMP messages published by this node, before per-session fan-out")
+                .tag("type", t)
+                .register(meterRegistry));
+        }
+        return counter;
+    }
+    
+    private void sendToUser(Long userId, WebSocketMessage wsMessage) {
+        send("/user/" + userId + "/queue/tasks", wsMessage);
     }
     
     private String getCurrentTimestamp() {
@@ -0,0 +1,57 @@
+package com.orchestrator.stats;
+
+import com.orchestrator.entity.TaskStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters held in this JVM. LongAdder stripes contended increments across
+ * cells, so concurrent transitions never serialize on a single counter.
+ * Only correct when this node sees every transition (a single API node).
+ */
+@Component
+@ConditionalOnProperty(name = "statistics.counters", havingValue = "local")
+public class LocalTaskCounters implements TaskCounters {
+
+    private final LongAdder[][] cells = new LongAdder[TaskStatus.values().length][PRIORITY_LEVELS];
+
+    public LocalTaskCounters() {
+        for (LongAdder[] row : cells) {
+            for (int p = 0; p < row.length; p++) {
+                row[p] = new LongAdder();
+            }
+        }
+    }
+
+    @Override
+    public void add(TaskStatus status, int priority, long delta) {
+        cells[status.ordinal()][TaskCounters.priorityIndex(priority)].add(delta);
+    }
+
+    @Override
+    public long[][] snapshot() {
+        long[][] counts = TaskCounters.emptyCounts();
+        for (int s = 0; s < cells.length; s++) {
+            for (int p = 0; p < PRIORITY_LEVELS; p++) {
+                counts[s][p] = cells[s][p].sum();
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public long reconcile(long[][] expected, long[][] actual) {
+        long drift = 0;
+        for (int s = 0; s < cells.length; s++) {
+            for (int p = 0; p < PRIORITY_LEVELS; p++) {
+                long delta = actual[s][p] - expected[s][p];
+                if (delta != 0 && cells[s][p].sum() == expected[s][p]) {
+                    cells[s][p].add(delta);
+                    drift += Math.abs(delta);
+                }
+            }
+        }
+        return drift;
+    }
+}
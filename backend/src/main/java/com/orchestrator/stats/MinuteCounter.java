@@ -0,0 +1,51 @@
+package com.orchestrator.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Event count per wall-clock minute over the last N minutes. Each cell packs
+ * {@code minute << 32 | count} so a stale cell is reset and incremented by the
+ * same CAS; incrementing never allocates.
+ */
+public class MinuteCounter {
+
+    private static final long MINUTE_MS = 60_000;
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final AtomicLongArray cells;
+
+    public MinuteCounter(int minutes) {
+        this.cells = new AtomicLongArray(minutes);
+    }
+
+    public void increment(long nowMillis) {
+        long minute = nowMillis / MINUTE_MS;
+        int index = (int) (minute % cells.length());
+        while (true) {
+            long cell = cells.get(index);
+            long cellMinute = cell >>> 32;
+            if (cellMinute > minute) {
+                return; // Clock stepped back past a newer minute in this cell
+            }
+            long next = cellMinute == minute ? cell + 1 : (minute << 32) | 1;
+            if (cells.compareAndSet(index, cell, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Counts for the last N minutes, oldest first; the last entry is the current, partial minute
+     */
+    public long[] lastMinutes(long nowMillis) {
+        long current = nowMillis / MINUTE_MS;
+        int size = cells.length();
+        long[] counts = new long[size];
+        for (int i = 0; i < size; i++) {
+            long minute = current - (size - 1) + i;
+            long cell = cells.get((int) (minute % size));
+            counts[i] = (cell >>> 32) == minute ? cell & COUNT_MASK : 0;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,97 @@
+package com.orchestrator.stats;
+
+import com.orchestrator.entity.TaskStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBatch;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Counters shared by every API node through one Redis key per cell.
+ * Increments are fire-and-forget INCRBYs; a snapshot is a single pipelined batch of GETs.
+ */
+@Component
+@ConditionalOnProperty(name = "statistics.counters", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisTaskCounters implements TaskCounters {
+
+    private static final String KEY_PREFIX = "orchestrator:task-counts:";
+    private static final String RECONCILE_LOCK = KEY_PREFIX + "reconcile";
+
+    private final RedissonClient redissonClient;
+
+    public RedisTaskCounters(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    @Override
+    public void add(TaskStatus status, int priority, long delta) {
+        redissonClient.getAtomicLong(key(status.ordinal(), TaskCounters.priorityIndex(priority)))
+            .addAndGetAsync(delta)
+            .whenComplete((value, error) -> {
+                if (error != null) {
+                    // Reconciliation will correct the missed delta
+                    log.warn("Failed to adjust task counter {}/{}: {}", status, priority, error.getMessage());
+                }
+            });
+    }
+
+    @Override
+    public long[][] snapshot() {
+        RBatch batch = redissonClient.createBatch();
+        int statuses = TaskStatus.values().length;
+        for (int s = 0; s < statuses; s++) {
+            for (int p = 0; p < PRIORITY_LEVELS; p++) {
+                batch.getAtomicLong(key(s, p)).getAsync();
+            }
+        }
+        BatchResult<?> result = batch.execute();
+        List<?> values = result.getResponses();
+        
+        long[][] counts = TaskCounters.emptyCounts();
+        for (int s = 0; s < statuses; s++) {
+            for (int p = 0; p < PRIORITY_LEVELS; p++) {
+                counts[s][p] = ((Number) values.get(s * PRIORITY_LEVELS + p)).longValue();
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Only one node reconciles at a time; otherwise two nodes seeing the same
+     * drift would both apply it.
+     */
+    @Override
+    public long reconcile(long[][] expected, long[][] actual) {
+        RLock lock = redissonClient.getLock(RECONCILE_LOCK);
+        if (!lock.tryLock()) {
+            return 0;
+        }
+        try {
+            long[][] current = snapshot();
+            long drift = 0;
+            for (int s = 0; s < current.length; s++) {
+                for (int p = 0; p < PRIORITY_LEVELS; p++) {
+                    long delta = actual[s][p] - expected[s][p];
+                    if (delta != 0 && current[s][p] == expected[s][p]) {
+                        RAtomicLong cell = redissonClient.getAtomicLong(key(s, p));
+                        cell.addAndGet(delta);
+                        drift += Math.abs(delta);
+                    }
+                }
+            }
+            return drift;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String key(int statusOrdinal, int priorityIndex) {
+        return KEY_PREFIX + TaskStatus.values()[statusOrdinal].name() + ":" + (priorityIndex + MIN_PRIORITY);
+    }
+}
@@ -0,0 +1,66 @@
+package com.orchestrator.stats;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * HdrHistogram over a sliding window of fixed-length slots. Writers record
+ * into a {@link Recorder}, which is wait-free and never allocates; {@link #rotate()}
+ * moves the finished interval into the oldest slot, recycling that slot's histogram.
+ * Snapshots cover completed slots only, so they trail live data by at most one slot.
+ */
+public class RollingHistogram {
+
+    private final long highestTrackableValue;
+    private final int significantDigits;
+    private final Recorder recorder;
+    private final Histogram[] slots;
+    private int oldest;
+
+    public RollingHistogram(long highestTrackableValue, int significantDigits, int slotCount) {
+        this.highestTrackableValue = highestTrackableValue;
+        this.significantDigits = significantDigits;
+        this.recorder = new Recorder(highestTrackableValue, significantDigits);
+        this.slots = new Histogram[slotCount];
+    }
+
+    /**
+     * Record one value, clamped to the trackable range
+     */
+    public void record(long value) {
+        recorder.recordValue(Math.max(0, Math.min(value, highestTrackableValue)));
+    }
+
+    /**
+     * Close the current interval and evict the oldest slot
+     */
+    public synchronized void rotate() {
+        slots[oldest] = recorder.getIntervalHistogram(slots[oldest]);
+        oldest = (oldest + 1) % slots.length;
+    }
+
+    /**
+     * True when no completed slot in the window holds a value
+     */
+    public synchronized boolean isEmpty() {
+        for (Histogram slot : slots) {
+            if (slot != null && slot.getTotalCount() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merge of every slot in the window
+     */
+    public synchronized Histogram snapshot() {
+        Histogram merged = new Histogram(highestTrackableValue, significantDigits);
+        for (Histogram slot : slots) {
+            if (slot != null) {
+                merged.add(slot);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,204 @@
+package com.orchestrator.websocket;
+
+import jakarta.websocket.Session;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-session send buffer in the spirit of ConcurrentWebSocketSessionDecorator,
+ * but aware of {@link DeliveryPolicy}: when the buffer overflows, the oldest
+ * droppable frames go first, and only if reliable frames alone still exceed
+ * the limit (or a single send exceeds the time limit) is the session closed.
+ */
+public class BackpressureSessionDecorator extends WebSocketSessionDecorator {
+
+    /** Tomcat's bound on one blocking write, 20 s unless set per session */
+    private static final String BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final int sendTimeLimit;
+    private final int bufferSizeLimit;
+
+    private final Queue<Frame> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder sentFrames = new LongAdder();
+    private final LongAdder droppedFrames = new LongAdder();
+
+    private volatile long sendStartTime;
+    private volatile boolean limitExceeded;
+    private volatile boolean closeInProgress;
+
+    private final Lock flushLock = new ReentrantLock();
+    private final Lock closeLock = new ReentrantLock();
+
+    public BackpressureSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit) {
+        super(delegate);
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        // A client that stops reading must not hold the flushing broker thread past the send time limit
+        Session nativeSession = (delegate instanceof NativeWebSocketSession adapter ? adapter.getNativeSession(Session.class) : null);
+        if (nativeSession != null) {
+            nativeSession.getUserProperties().put(BLOCKING_SEND_TIMEOUT, (long) sendTimeLimit);
+        }
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (shouldNotSend()) {
+            return;
+        }
+
+        buffer.add(new Frame(message, DeliveryPolicyInterceptor.current()));
+        bufferSize.addAndGet(message.getPayloadLength());
+        queueDepth.incrementAndGet();
+
+        do {
+            if (!tryFlushMessageBuffer()) {
+                checkSessionLimits();
+                break;
+            }
+        }
+        while (!buffer.isEmpty() && !shouldNotSend());
+    }
+
+    private boolean shouldNotSend() {
+        return limitExceeded || closeInProgress;
+    }
+
+    private boolean tryFlushMessageBuffer() throws IOException {
+        if (flushLock.tryLock()) {
+            try {
+                while (true) {
+                    Frame frame = buffer.poll();
+                    if (frame == null || shouldNotSend()) {
+                        break;
+                    }
+                    bufferSize.addAndGet(-frame.message.getPayloadLength());
+                    queueDepth.decrementAndGet();
+                    sendStartTime = System.currentTimeMillis();
+                    try {
+                        getDelegate().sendMessage(frame.message);
+                    } catch (IOException ex) {
+                        // The container gave up on the write; report it like any other slow session
+                        if (!limitExceeded && getTimeSinceSendStarted() >= sendTimeLimit) {
+                            limitExceeded("Send time " + getTimeSinceSendStarted() + " (ms) for session '"
+                                + getId() + "' exceeded the allowed limit " + sendTimeLimit);
+                        }
+                        throw ex;
+                    }
+                    sendStartTime = 0;
+                    sentFrames.increment();
+                }
+            } finally {
+                sendStartTime = 0;
+                flushLock.unlock();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void checkSessionLimits() {
+        if (!shouldNotSend() && closeLock.tryLock()) {
+            try {
+                if (getTimeSinceSendStarted() > sendTimeLimit) {
+                    limitExceeded("Send time " + getTimeSinceSendStarted() + " (ms) for session '"
+                        + getId() + "' exceeded the allowed limit " + sendTimeLimit);
+                }
+                if (bufferSize.get() > bufferSizeLimit) {
+                    dropOldest();
+                    if (bufferSize.get() > bufferSizeLimit) {
+                        limitExceeded("Buffer size " + bufferSize.get() + " bytes for session '"
+                            + getId() + "' exceeds the allowed limit " + bufferSizeLimit);
+                    }
+                }
+            } finally {
+                closeLock.unlock();
+            }
+        }
+    }
+
+    private void dropOldest() {
+        for (Frame frame : buffer) {
+            if (bufferSize.get() <= bufferSizeLimit) {
+                return;
+            }
+            // remove() may lose the race with the flushing thread, which already accounted for it
+            if (frame.policy == DeliveryPolicy.DROP_OLDEST && buffer.remove(frame)) {
+                bufferSize.addAndGet(-frame.message.getPayloadLength());
+                queueDepth.decrementAndGet();
+                droppedFrames.increment();
+            }
+        }
+    }
+
+    private void limitExceeded(String reason) {
+        limitExceeded = true;
+        droppedFrames.add(queueDepth.getAndSet(0));
+        buffer.clear();
+        bufferSize.set(0);
+        throw new SessionLimitExceededException(reason, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closeLock.lock();
+        try {
+            if (closeInProgress) {
+                return;
+            }
+            closeInProgress = true;
+            super.close(status);
+        } finally {
+            closeLock.unlock();
+        }
+    }
+
+    public long getTimeSinceSendStarted() {
+        long start = sendStartTime;
+        return (start > 0 ? (System.currentTimeMillis() - start) : 0);
+    }
+
+    public int getBufferSize() {
+        return bufferSize.get();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getSentFrames() {
+        return sentFrames.sum();
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    public boolean isLimitExceeded() {
+        // Tomcat closes the session from inside a timed-out write, before that write returns here
+        return limitExceeded || getTimeSinceSendStarted() >= sendTimeLimit;
+    }
+
+    /** Identity-compared so removal never hits an equal frame from another publish */
+    private static final class Frame {
+        private final WebSocketMessage<?> message;
+        private final DeliveryPolicy policy;
+
+        private Frame(WebSocketMessage<?> message, DeliveryPolicy policy) {
+            this.message = message;
+            this.policy = policy;
+        }
+    }
+}
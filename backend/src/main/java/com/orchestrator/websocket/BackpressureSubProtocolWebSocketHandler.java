@@ -0,0 +1,41 @@
+package com.orchestrator.websocket;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * Swaps Spring's default ConcurrentWebSocketSessionDecorator for
+ * {@link BackpressureSessionDecorator}, honouring the send time and buffer
+ * limits configured through WebSocketTransportRegistration.
+ */
+public class BackpressureSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final OutboundSessionRegistry sessionRegistry;
+
+    public BackpressureSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                                   SubscribableChannel clientOutboundChannel,
+                                                   OutboundSessionRegistry sessionRegistry) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        BackpressureSessionDecorator decorated =
+            new BackpressureSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit());
+        sessionRegistry.register(decorated);
+        return decorated;
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        try {
+            super.afterConnectionClosed(session, closeStatus);
+        } finally {
+            sessionRegistry.unregister(session.getId());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.orchestrator.websocket;
+
+/**
+ * How an outbound frame is treated when a session's send buffer is full.
+ */
+public enum DeliveryPolicy {
+    /** Never dropped; a session that cannot absorb it is disconnected */
+    RELIABLE,
+    /** Superseded by later frames, so the oldest ones are dropped first */
+    DROP_OLDEST;
+
+    /** Message header used to tag frames at publish time */
+    public static final String HEADER = "deliveryPolicy";
+}
@@ -0,0 +1,36 @@
+package com.orchestrator.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the delivery policy of the frame being handled on the outbound
+ * channel thread, so the session decorator can classify it when it is buffered.
+ */
+@Component
+public class DeliveryPolicyInterceptor implements ExecutorChannelInterceptor {
+
+    private static final ThreadLocal<DeliveryPolicy> CURRENT = new ThreadLocal<>();
+
+    public static DeliveryPolicy current() {
+        DeliveryPolicy policy = CURRENT.get();
+        return policy != null ? policy : DeliveryPolicy.RELIABLE;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        Object policy = message.getHeaders().get(DeliveryPolicy.HEADER);
+        if (policy instanceof DeliveryPolicy p) {
+            CURRENT.set(p);
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,84 @@
+package com.orchestrator.websocket;
+
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the buffered outbound side of every open WebSocket session
+ * and keeps totals that survive the sessions themselves.
+ */
+@Component
+public class OutboundSessionRegistry {
+
+    private final Map<String, BackpressureSessionDecorator> sessions = new ConcurrentHashMap<>();
+    private final LongAdder slowSessionsDisconnected = new LongAdder();
+    private final LongAdder droppedFramesClosedSessions = new LongAdder();
+    private final LongAdder sentFramesClosedSessions = new LongAdder();
+
+    public void register(BackpressureSessionDecorator session) {
+        sessions.put(session.getId(), session);
+    }
+
+    public void unregister(String sessionId) {
+        BackpressureSessionDecorator session = sessions.remove(sessionId);
+        if (session != null) {
+            droppedFramesClosedSessions.add(session.getDroppedFrames());
+            sentFramesClosedSessions.add(session.getSentFrames());
+            if (session.isLimitExceeded()) {
+                slowSessionsDisconnected.increment();
+            }
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public long getSlowSessionsDisconnected() {
+        return slowSessionsDisconnected.sum();
+    }
+
+    public long getTotalDroppedFrames() {
+        long total = droppedFramesClosedSessions.sum();
+        for (BackpressureSessionDecorator session : sessions.values()) {
+            total += session.getDroppedFrames();
+        }
+        return total;
+    }
+
+    public long getTotalSentFrames() {
+        long total = sentFramesClosedSessions.sum();
+        for (BackpressureSessionDecorator session : sessions.values()) {
+            total += session.getSentFrames();
+        }
+        return total;
+    }
+
+    public int getTotalQueueDepth() {
+        int total = 0;
+        for (BackpressureSessionDecorator session : sessions.values()) {
+            total += session.getQueueDepth();
+        }
+        return total;
+    }
+
+    public List<Map<String, Object>> snapshot() {
+        List<Map<String, Object>> result = new ArrayList<>(sessions.size());
+        for (BackpressureSessionDecorator session : sessions.values()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("sessionId", session.getId());
+            entry.put("queueDepth", session.getQueueDepth());
+            entry.put("bufferedBytes", session.getBufferSize());
+            entry.put("sentFrames", session.getSentFrames());
+            entry.put("droppedFrames", session.getDroppedFrames());
+            entry.put("timeSinceSendStartedMs", session.getTimeSinceSendStarted());
+            result.add(entry);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,17 @@
+package com.orchestrator.websocket;
+
+/**
+ * Wire encoding a STOMP session asked for in its CONNECT frame
+ * via the {@code payload-format} header.
+ */
+public enum PayloadFormat {
+    JSON,
+    COMPACT;
+
+    public static PayloadFormat fromHeader(String value) {
+        if (value != null && value.equalsIgnoreCase("compact")) {
+            return COMPACT;
+        }
+        return JSON;
+    }
+}
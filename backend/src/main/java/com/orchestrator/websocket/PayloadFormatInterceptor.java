@@ -0,0 +1,55 @@
+package com.orchestrator.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * Records the payload format each session negotiates on CONNECT (inbound) and
+ * swaps in the pre-encoded compact payload for those sessions (outbound).
+ */
+@Component
+@RequiredArgsConstructor
+public class PayloadFormatInterceptor implements ChannelInterceptor {
+
+    public static final String FORMAT_HEADER = "payload-format";
+
+    private final WebSocketPayloadCodec codec;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+
+        if (type == SimpMessageType.CONNECT && sessionId != null) {
+            String requested = NativeMessageHeaderAccessor.getFirstNativeHeader(FORMAT_HEADER, headers);
+            codec.registerSession(sessionId, PayloadFormat.fromHeader(requested));
+            return message;
+        }
+
+        if (type == SimpMessageType.MESSAGE
+                && headers.get(WebSocketPayloadCodec.COMPACT_PAYLOAD_HEADER) instanceof byte[] compact) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+            accessor.removeHeader(WebSocketPayloadCodec.COMPACT_PAYLOAD_HEADER);
+            byte[] payload = codec.formatOf(sessionId) == PayloadFormat.COMPACT
+                ? compact : (byte[]) message.getPayload();
+            return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        codec.removeSession(event.getSessionId());
+    }
+}
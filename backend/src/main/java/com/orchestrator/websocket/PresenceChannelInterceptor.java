@@ -0,0 +1,60 @@
+package com.orchestrator.websocket;
+
+import com.orchestrator.service.EmployeePresenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * Feeds inbound STOMP traffic into {@link EmployeePresenceService}. Clients
+ * identify themselves with the same User-Id header the REST API uses.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceChannelInterceptor implements ChannelInterceptor {
+
+    public static final String USER_ID_HEADER = "User-Id";
+
+    private final EmployeePresenceService presenceService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        if (sessionId == null || type == null) {
+            return message;
+        }
+
+        switch (type) {
+            case CONNECT -> {
+                String userId = NativeMessageHeaderAccessor.getFirstNativeHeader(USER_ID_HEADER, headers);
+                if (userId != null) {
+                    try {
+                        presenceService.sessionConnected(sessionId, Long.valueOf(userId));
+                    } catch (NumberFormatException e) {
+                        log.warn("Ignoring invalid User-Id '{}' on STOMP session {}", userId, sessionId);
+                    }
+                }
+            }
+            case DISCONNECT -> presenceService.sessionDisconnected(sessionId);
+            default -> presenceService.sessionActive(sessionId);
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        presenceService.sessionDisconnected(event.getSessionId());
+    }
+}
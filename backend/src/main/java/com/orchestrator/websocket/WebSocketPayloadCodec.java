@@ -0,0 +1,144 @@
+package com.orchestrator.websocket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.orchestrator.dto.TaskAssignmentMessage;
+import com.orchestrator.dto.TaskCompletionMessage;
+import com.orchestrator.dto.TaskSummaryMessage;
+import com.orchestrator.dto.WebSocketMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Encodes outbound WebSocket frames once per publish instead of once per
+ * subscriber, using writers resolved at startup and per-thread buffers.
+ * The compact variant is only produced while at least one session asked for it.
+ */
+@Component
+@Slf4j
+public class WebSocketPayloadCodec {
+
+    /** Non-native header carrying the compact encoding alongside the JSON payload */
+    public static final String COMPACT_PAYLOAD_HEADER = "compactPayload";
+
+    private static final ThreadLocal<ByteArrayBuilder> BUFFER =
+        ThreadLocal.withInitial(() -> new ByteArrayBuilder(1024));
+
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter compactWriter;
+    private final Map<String, PayloadFormat> sessionFormats = new ConcurrentHashMap<>();
+    private final AtomicInteger compactSessions = new AtomicInteger();
+
+    public WebSocketPayloadCodec(ObjectMapper objectMapper) {
+        this.jsonWriter = objectMapper.writerFor(WebSocketMessage.class);
+        this.compactWriter = objectMapper.copy()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .addMixIn(WebSocketMessage.class, CompactWebSocketMessage.class)
+            .addMixIn(TaskSummaryMessage.class, CompactTaskSummary.class)
+            .addMixIn(TaskAssignmentMessage.class, CompactTaskAssignment.class)
+            .addMixIn(TaskCompletionMessage.class, CompactTaskCompletion.class)
+            .writerFor(WebSocketMessage.class);
+    }
+
+    /**
+     * Build a ready-to-send frame. The payload is already serialized, so the
+     * broker's message converter is bypassed.
+     */
+    public Message<byte[]> toMessage(WebSocketMessage wsMessage, DeliveryPolicy policy) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setHeader(DeliveryPolicy.HEADER, policy);
+        if (compactSessions.get() > 0) {
+            accessor.setHeader(COMPACT_PAYLOAD_HEADER, write(compactWriter, wsMessage));
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(write(jsonWriter, wsMessage), accessor.getMessageHeaders());
+    }
+
+    public byte[] encode(WebSocketMessage wsMessage, PayloadFormat format) {
+        return write(format == PayloadFormat.COMPACT ? compactWriter : jsonWriter, wsMessage);
+    }
+
+    public void registerSession(String sessionId, PayloadFormat format) {
+        PayloadFormat previous = sessionFormats.put(sessionId, format);
+        if (format == PayloadFormat.COMPACT && previous != PayloadFormat.COMPACT) {
+            compactSessions.incrementAndGet();
+        }
+        log.debug("WebSocket session {} negotiated {} payloads", sessionId, format);
+    }
+
+    public void removeSession(String sessionId) {
+        if (sessionFormats.remove(sessionId) == PayloadFormat.COMPACT) {
+            compactSessions.decrementAndGet();
+        }
+    }
+
+    public PayloadFormat formatOf(String sessionId) {
+        return sessionId == null ? PayloadFormat.JSON
+            : sessionFormats.getOrDefault(sessionId, PayloadFormat.JSON);
+    }
+
+    private byte[] write(ObjectWriter writer, Object value) {
+        ByteArrayBuilder buffer = BUFFER.get();
+        try {
+            writer.writeValue(buffer, value);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode WebSocket payload", e);
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    // Short field names for the compact encoding
+
+    abstract static class CompactWebSocketMessage {
+        @JsonProperty("t") String type;
+        @JsonProperty("p") Object payload;
+        @JsonProperty("u") Long userId;
+        @JsonProperty("ts") String timestamp;
+    }
+
+    abstract static class CompactTaskSummary {
+        @JsonProperty("id") String taskId;
+        @JsonProperty("n") String name;
+        @JsonProperty("s") String status;
+        @JsonProperty("pr") Integer priority;
+        @JsonProperty("pg") Integer progress;
+        @JsonProperty("cb") Long createdById;
+        @JsonProperty("at") Long assignedToId;
+        @JsonProperty("st") String startTime;
+        @JsonProperty("et") String endTime;
+    }
+
+    abstract static class CompactTaskAssignment {
+        @JsonProperty("id") String taskId;
+        @JsonProperty("n") String taskName;
+        @JsonProperty("d") String description;
+        @JsonProperty("pr") Integer priority;
+        @JsonProperty("e") Long employeeId;
+        @JsonProperty("en") String employeeName;
+        @JsonProperty("m") String message;
+    }
+
+    abstract static class CompactTaskCompletion {
+        @JsonProperty("id") String taskId;
+        @JsonProperty("n") String taskName;
+        @JsonProperty("s") String status;
+        @JsonProperty("c") String comment;
+        @JsonProperty("e") Long employeeId;
+        @JsonProperty("en") String employeeName;
+    }
+}
@@ -0,0 +1,58 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Indexes for the log search filtered by task, worker or type
+ * (SystemLogRepository.findPage). The MySQL V3 migration created them along
+ * with the partitioning key; the H2 V3 is a no-op, so on H2 a filtered search
+ * walked the whole (timestamp, id) index. Created only where missing, with
+ * descending columns for the same reason as V7.
+ */
+public class V10__log_filter_indexes extends BaseJavaMigration {
+
+    private record LogIndex(String name, String columns) {
+    }
+
+    private static final List<LogIndex> INDEXES = List.of(
+        new LogIndex("idx_system_logs_task_timestamp", "task_id, timestamp DESC, id DESC"),
+        new LogIndex("idx_system_logs_worker_timestamp", "worker_id, timestamp DESC, id DESC"),
+        new LogIndex("idx_system_logs_type_timestamp", "type, timestamp DESC, id DESC"));
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        Set<String> existing = existingIndexes(connection, "system_logs");
+        try (Statement statement = connection.createStatement()) {
+            for (LogIndex index : INDEXES) {
+                if (!existing.contains(index.name())) {
+                    statement.execute("CREATE INDEX " + index.name() + " ON system_logs (" + index.columns() + ")");
+                }
+            }
+        }
+    }
+
+    private static Set<String> existingIndexes(Connection connection, String table) throws Exception {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Set<String> names = new HashSet<>();
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), name, false, false)) {
+            while (indexes.next()) {
+                String indexName = indexes.getString("INDEX_NAME");
+                if (indexName != null) {
+                    names.add(indexName.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return names;
+    }
+}
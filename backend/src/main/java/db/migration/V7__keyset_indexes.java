@@ -0,0 +1,61 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Indexes for the newest-first keyset pages (TaskRepository.findPage and the
+ * log search). Databases baselined from a ddl-auto build may already have the
+ * task indexes from the old entity annotations, and the MySQL V3 migration
+ * already created the log index, but neither MySQL nor a plain script can say
+ * CREATE INDEX IF NOT EXISTS, so each index is created only where it is missing.
+ * Columns are descending because H2 cannot walk an ascending index backwards;
+ * MySQL reads either direction.
+ */
+public class V7__keyset_indexes extends BaseJavaMigration {
+
+    private record KeysetIndex(String table, String name, String columns) {
+    }
+
+    private static final List<KeysetIndex> INDEXES = List.of(
+        new KeysetIndex("tasks", "idx_tasks_created_id", "created_at DESC, id DESC"),
+        new KeysetIndex("tasks", "idx_tasks_status_created_id", "status, created_at DESC, id DESC"),
+        new KeysetIndex("tasks", "idx_tasks_assigned_created_id", "assigned_to, created_at DESC, id DESC"),
+        new KeysetIndex("tasks", "idx_tasks_creator_created_id", "created_by, created_at DESC, id DESC"),
+        new KeysetIndex("system_logs", "idx_system_logs_timestamp_id", "timestamp DESC, id DESC"));
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            for (KeysetIndex index : INDEXES) {
+                if (!existingIndexes(connection, index.table()).contains(index.name())) {
+                    statement.execute("CREATE INDEX " + index.name() + " ON " + index.table() + " (" + index.columns() + ")");
+                }
+            }
+        }
+    }
+
+    private static Set<String> existingIndexes(Connection connection, String table) throws Exception {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Set<String> names = new HashSet<>();
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), name, false, false)) {
+            while (indexes.next()) {
+                String indexName = indexes.getString("INDEX_NAME");
+                if (indexName != null) {
+                    names.add(indexName.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return names;
+    }
+}
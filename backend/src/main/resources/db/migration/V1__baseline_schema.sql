@@ -0,0 +1,83 @@
+-- Schema as previously generated by hibernate ddl-auto=update.
+-- Existing databases are baselined at this version and skip it.
+
+CREATE TABLE users (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    username    VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    full_name   VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    role        ENUM('ADMIN', 'EMPLOYEE') NOT NULL,
+    status      ENUM('ACTIVE', 'INACTIVE', 'SUSPENDED'),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE tasks (
+    id                  BIGINT NOT NULL AUTO_INCREMENT,
+    task_id             VARCHAR(255) NOT NULL,
+    name                VARCHAR(255),
+    description         TEXT,
+    status              ENUM('PENDING', 'RUNNING', 'COMPLETED', 'FAILED', 'RETRYING'),
+    priority            INTEGER,
+    progress            INTEGER,
+    created_by          BIGINT,
+    assigned_to         BIGINT,
+    worker_id           VARCHAR(255),
+    lock_id             VARCHAR(255),
+    start_time          DATETIME(6),
+    end_time            DATETIME(6),
+    retry_count         INTEGER,
+    error_message       VARCHAR(255),
+    completion_message  TEXT,
+    payload             TEXT,
+    created_at          DATETIME(6),
+    updated_at          DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tasks_task_id UNIQUE (task_id),
+    CONSTRAINT fk_tasks_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_tasks_assigned_to FOREIGN KEY (assigned_to) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE employee_stats (
+    id                                BIGINT NOT NULL AUTO_INCREMENT,
+    employee_id                       BIGINT,
+    total_tasks_assigned              INTEGER,
+    total_tasks_completed             INTEGER,
+    total_tasks_failed                INTEGER,
+    current_active_task               INTEGER,
+    average_completion_time_minutes   FLOAT(53),
+    priority_score                    INTEGER,
+    last_task_assigned_at             DATETIME(6),
+    updated_at                        DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employee_stats_employee UNIQUE (employee_id),
+    CONSTRAINT fk_employee_stats_employee FOREIGN KEY (employee_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE employee_task_assignments (
+    id                  BIGINT NOT NULL AUTO_INCREMENT,
+    employee_id         BIGINT NOT NULL,
+    task_id             BIGINT NOT NULL,
+    assigned_at         DATETIME(6),
+    started_at          DATETIME(6),
+    completed_at        DATETIME(6),
+    time_spent_minutes  INTEGER,
+    final_status        ENUM('PENDING', 'RUNNING', 'COMPLETED', 'FAILED', 'RETRYING'),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_assignments_employee FOREIGN KEY (employee_id) REFERENCES users (id),
+    CONSTRAINT fk_assignments_task FOREIGN KEY (task_id) REFERENCES tasks (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE system_logs (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    message     VARCHAR(255),
+    type        ENUM('INFO', 'WARNING', 'ERROR', 'SUCCESS'),
+    task_id     VARCHAR(255),
+    worker_id   VARCHAR(255),
+    timestamp   DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,24 @@
+-- One index per hot repository query. InnoDB secondary indexes carry the
+-- primary key, so trailing id columns are free and keep ORDER BY ... id covered.
+
+-- TaskRepository.findPendingTasksByPriority: status = 'PENDING' ORDER BY priority, created_at
+CREATE INDEX idx_tasks_status_priority_created ON tasks (status, priority, created_at);
+
+-- TaskRepository.findActiveTaskByEmployee: assigned_to = ? AND status IN ('PENDING', 'RUNNING')
+CREATE INDEX idx_tasks_assigned_status ON tasks (assigned_to, status);
+
+-- TaskRepository.countGroupedByStatusAndPriority: answered from the index alone
+-- (covered by idx_tasks_status_priority_created)
+
+-- SystemLogRepository.findTop50ByOrderByTimestampDesc
+CREATE INDEX idx_system_logs_timestamp ON system_logs (timestamp);
+
+-- EmployeeTaskAssignmentRepository.findByEmployee / findRecentAssignmentsByEmployee / findHistoryByEmployeeId
+CREATE INDEX idx_assignments_employee_assigned ON employee_task_assignments (employee_id, assigned_at);
+
+-- EmployeeStatsRepository.findIdleEmployeesForFairDistribution: current_active_task = 0 ORDER BY priority_score, total_tasks_assigned
+CREATE INDEX idx_employee_stats_idle_fair
+    ON employee_stats (current_active_task, priority_score, total_tasks_assigned, employee_id);
+
+-- UserRepository.findByRole / findByRoleAndStatus
+CREATE INDEX idx_users_role_status ON users (role, status);
@@ -0,0 +1,30 @@
+-- TaskService closes an assignment with a keyed UPDATE on
+-- (task_id, employee_id, completed_at IS NULL) instead of loading the
+-- employee's whole history. MySQL has no partial indexes; NULL sorts first,
+-- so the open row is the first entry under its (task_id, employee_id) prefix.
+CREATE INDEX idx_assignments_task_employee_open
+    ON employee_task_assignments (task_id, employee_id, completed_at);
+
+-- Daily per-employee rollup, written as each assignment closes
+CREATE TABLE employee_daily_stats (
+    id                  BIGINT NOT NULL AUTO_INCREMENT,
+    employee_id         BIGINT NOT NULL,
+    activity_date       DATE NOT NULL,
+    tasks_completed     INTEGER,
+    tasks_failed        INTEGER,
+    completed_minutes   BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employee_daily_stats UNIQUE (employee_id, activity_date),
+    CONSTRAINT fk_employee_daily_stats_employee FOREIGN KEY (employee_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- Backfill from assignments closed before this migration
+INSERT INTO employee_daily_stats (employee_id, activity_date, tasks_completed, tasks_failed, completed_minutes)
+SELECT employee_id,
+       DATE(completed_at),
+       SUM(CASE WHEN final_status = 'COMPLETED' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN final_status = 'FAILED' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN final_status = 'COMPLETED' THEN COALESCE(time_spent_minutes, 0) ELSE 0 END)
+FROM employee_task_assignments
+WHERE completed_at IS NOT NULL
+GROUP BY employee_id, DATE(completed_at);
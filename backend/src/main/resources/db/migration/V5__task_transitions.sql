@@ -0,0 +1,15 @@
+-- Append-only per-task timeline, one row per lifecycle transition.
+-- About 32 bytes of column data per row. InnoDB row overhead and the
+-- (task_id, id) index bring it to roughly 80 bytes. employee_id deliberately
+-- has no foreign key, because that would need a second index on every row.
+CREATE TABLE task_transitions (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    task_id      BIGINT NOT NULL,
+    type         TINYINT NOT NULL,
+    occurred_at  DATETIME(3) NOT NULL,
+    employee_id  BIGINT,
+    PRIMARY KEY (id),
+    -- TaskTransitionRepository.findTimeline / findFirstByTaskIdOrderByIdDesc; also backs the foreign key
+    INDEX idx_task_transitions_task (task_id, id),
+    CONSTRAINT fk_task_transitions_task FOREIGN KEY (task_id) REFERENCES tasks (id)
+) ENGINE = InnoDB;
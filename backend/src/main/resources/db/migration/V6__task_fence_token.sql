@@ -0,0 +1,4 @@
+-- Highest lock fencing token a write to the task has carried
+-- (TaskRepository.advanceFence). A holder whose lock lapsed and was taken
+-- over has a lower token, and its writes are refused.
+ALTER TABLE tasks ADD COLUMN fence_token BIGINT NOT NULL DEFAULT 0;
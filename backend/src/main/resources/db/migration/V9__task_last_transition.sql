@@ -0,0 +1,5 @@
+-- Latest timeline entry of each task, kept on the task row so a transition can
+-- close the previous phase without reading task_transitions. Both columns are
+-- written by the UPDATE the transition makes to the task anyway.
+ALTER TABLE tasks ADD COLUMN last_transition TINYINT;
+ALTER TABLE tasks ADD COLUMN last_transition_at DATETIME(3);
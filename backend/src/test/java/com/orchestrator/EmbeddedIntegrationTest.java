@@ -0,0 +1,14 @@
+package com.orchestrator;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Base for tests that need the whole application: the embedded profile on an
+ * in-memory H2 database. Subclasses share one cached context, so each test
+ * creates its own users and tasks rather than relying on an empty database.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+public abstract class EmbeddedIntegrationTest {
+}
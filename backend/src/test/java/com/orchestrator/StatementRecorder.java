@@ -0,0 +1,36 @@
+package com.orchestrator;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate prepares on the calling thread while a block runs.
+ * Registered for the test profile in application-test.yaml; statements from
+ * schedulers and background writers on other threads are not counted.
+ */
+public class StatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    /** The statements prepared on this thread while work ran, in order */
+    public static List<String> record(Runnable work) {
+        List<String> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            work.run();
+            return List.copyOf(statements);
+        } finally {
+            RECORDING.remove();
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDING.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,72 @@
+package com.orchestrator.cluster;
+
+import com.orchestrator.websocket.DeliveryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two nodes side by side in one JVM. The batch window is long, so a batch
+ * only leaves when shutdown() flushes it and each test controls the timing.
+ */
+class InProcessClusterEventBusTest {
+
+    private final InProcessClusterEventBus a = new InProcessClusterEventBus("a", 60_000, 256);
+    private final InProcessClusterEventBus b = new InProcessClusterEventBus("b", 60_000, 256);
+    private final List<ClusterEvent> receivedByA = new CopyOnWriteArrayList<>();
+    private final List<ClusterEvent> receivedByB = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void listen() {
+        a.subscribe(receivedByA::add);
+        b.subscribe(receivedByB::add);
+    }
+
+    @AfterEach
+    void stopNodes() {
+        a.shutdown();
+        b.shutdown();
+    }
+
+    @Test
+    void eventsReachOtherNodesButNotTheirOrigin() {
+        a.publish(ClusterEvent.of("/topic/tasks", "created", DeliveryPolicy.RELIABLE, null));
+        a.publish(ClusterEvent.of("/topic/tasks", "assigned", DeliveryPolicy.RELIABLE, null));
+
+        a.shutdown();
+
+        assertThat(receivedByB).extracting(ClusterEvent::getPayload).containsExactly("created", "assigned");
+        assertThat(receivedByB).extracting(ClusterEvent::getSequence).isSorted();
+        assertThat(receivedByA).isEmpty();
+    }
+
+    @Test
+    void sameCoalesceKeyWithinAWindowKeepsOnlyTheLatest() {
+        a.publish(ClusterEvent.of("/topic/statistics", 1, DeliveryPolicy.DROP_OLDEST, "statistics"));
+        a.publish(ClusterEvent.of("/topic/tasks", "created", DeliveryPolicy.RELIABLE, null));
+        a.publish(ClusterEvent.of("/topic/statistics", 2, DeliveryPolicy.DROP_OLDEST, "statistics"));
+
+        a.shutdown();
+
+        // The replacement moves to the tail, so sequences stay increasing within the batch
+        assertThat(receivedByB).extracting(ClusterEvent::getPayload).containsExactly("created", 2);
+    }
+
+    @Test
+    void redeliveredEventsAreDropped() {
+        ClusterEvent event = ClusterEvent.of("/topic/tasks", "created", DeliveryPolicy.RELIABLE, null);
+        event.setSequence(7);
+        event.setPublishedAt(System.currentTimeMillis());
+        ClusterEventBatch batch = new ClusterEventBatch(a.getNodeId(), List.of(event));
+
+        b.receive(batch);
+        b.receive(batch);
+
+        assertThat(receivedByB).hasSize(1);
+        assertThat(b.getLatencyStats().snapshot().get("duplicatesDropped")).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,132 @@
+package com.orchestrator.config;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXPLAINs the SQL each hot repository method actually sends, against the
+ * fully migrated H2 schema seeded with a few thousand rows per table. A query
+ * or migration change that leaves a hot query without an index fails the build.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query-plans;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "schema.verify-query-plans=true"
+})
+@ActiveProfiles({"embedded", "test"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final int EMPLOYEES = 200;
+    private static final int TASKS = 5_000;
+    private static final int LOGS = 20_000;
+    private static final String[] FINISHED = {"COMPLETED", "COMPLETED", "COMPLETED", "FAILED"};
+    private static final String[] LOG_TYPES = {"INFO", "INFO", "SUCCESS", "WARNING", "ERROR"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryPlanVerifier verifier;
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime start = LocalDateTime.now().minusDays(60);
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, password, full_name, email, role, status, created_at) "
+                + "VALUES (?, 'x', ?, ?, ?, 'ACTIVE', ?)",
+            IntStream.rangeClosed(0, EMPLOYEES).mapToObj(i -> new Object[] {
+                "plan-" + i, "Plan " + i, "plan-" + i + "@example.com", i == 0 ? "ADMIN" : "EMPLOYEE", Timestamp.valueOf(start)
+            }).toList());
+        long admin = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'plan-0'", Long.class);
+        List<Long> employees = jdbcTemplate.queryForList(
+            "SELECT id FROM users WHERE username LIKE 'plan-%' AND role = 'EMPLOYEE' ORDER BY id", Long.class);
+
+        jdbcTemplate.batchUpdate("INSERT INTO employee_stats (employee_id, total_tasks_assigned, total_tasks_completed, "
+                + "total_tasks_failed, current_active_task, average_completion_time_minutes, priority_score) VALUES (?, 25, 20, 3, ?, 12.5, ?)",
+            IntStream.range(0, employees.size()).mapToObj(i -> new Object[] {employees.get(i), i % 10 == 0 ? 0 : 1, i % 7})
+                .toList());
+
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (task_id, name, description, status, priority, progress, created_by, "
+                + "assigned_to, worker_id, retry_count, created_at) VALUES (?, ?, 'd', ?, ?, 0, ?, ?, ?, 0, ?)",
+            IntStream.range(0, TASKS).mapToObj(i -> new Object[] {
+                // The newest task of each employee is the one they are working on
+                "PLAN-" + i, "Task " + i, i < TASKS - EMPLOYEES ? FINISHED[i % FINISHED.length] : "RUNNING", i % 5, admin, employees.get(i % employees.size()),
+                "worker-" + (i % 20), Timestamp.valueOf(start.plusMinutes(i * 15L))
+            }).toList());
+        List<Map<String, Object>> tasks = jdbcTemplate.queryForList(
+            "SELECT id, task_id, assigned_to, created_at FROM tasks WHERE task_id LIKE 'PLAN-%'");
+
+        List<Object[]> assignments = new ArrayList<>();
+        List<Object[]> transitions = new ArrayList<>();
+        for (Map<String, Object> task : tasks) {
+            Timestamp createdAt = (Timestamp) task.get("created_at");
+            Timestamp completedAt = Timestamp.valueOf(createdAt.toLocalDateTime().plusMinutes(10));
+            assignments.add(new Object[] {task.get("assigned_to"), task.get("id"), createdAt, createdAt, completedAt});
+            transitions.add(new Object[] {task.get("id"), 0, createdAt, null});
+            transitions.add(new Object[] {task.get("id"), 1, createdAt, task.get("assigned_to")});
+            transitions.add(new Object[] {task.get("id"), 2, completedAt, task.get("assigned_to")});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employee_task_assignments (employee_id, task_id, assigned_at, started_at, "
+            + "completed_at, time_spent_minutes, final_status) VALUES (?, ?, ?, ?, ?, 10, 'COMPLETED')", assignments);
+        jdbcTemplate.batchUpdate("INSERT INTO task_transitions (task_id, type, occurred_at, employee_id) VALUES (?, ?, ?, ?)",
+            transitions);
+
+        jdbcTemplate.batchUpdate("INSERT INTO employee_daily_stats (employee_id, activity_date, tasks_completed, "
+                + "tasks_failed, completed_minutes) VALUES (?, ?, 3, 0, 30)",
+            employees.stream().flatMap(employee -> IntStream.range(0, 60).mapToObj(day ->
+                new Object[] {employee, LocalDate.now().minusDays(day)})).toList());
+
+        jdbcTemplate.batchUpdate("INSERT INTO system_logs (message, type, task_id, worker_id, timestamp) VALUES ('m', ?, ?, ?, ?)",
+            IntStream.range(0, LOGS).mapToObj(i -> new Object[] {
+                LOG_TYPES[i % LOG_TYPES.length], "PLAN-" + (i % TASKS), "worker-" + (i % 20),
+                Timestamp.valueOf(start.plusMinutes(i * 4L))
+            }).toList());
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void everyHotQueryIsCapturedAsGenerated() {
+        Map<String, List<StatementCapture.Captured>> statements = verifier.captureHotQueries();
+
+        assertThat(statements).allSatisfy((name, captured) -> assertThat(captured).as(name).isNotEmpty());
+        // The listing's two LEFT JOINs and keyset predicate, as Hibernate writes them
+        String keysetPage = statements.get("findPage(after)").get(0).sql().toLowerCase();
+        assertThat(keysetPage.split("left join")).hasSize(3);
+        assertThat(keysetPage).contains(" or ");
+        assertThat(statements.get("findPage(after)").get(0).parameters()).isNotEmpty();
+    }
+
+    @Test
+    void noHotQueryScansAWholeTable() {
+        assertThat(verifier.findFullScans()).isEmpty();
+    }
+
+    @Test
+    void fullScanIsReported() {
+        // Guards the check itself: nothing indexes payload
+        assertThat(verifier.findFullScans(Map.of("byPayload", "SELECT * FROM tasks WHERE payload = 'x'")))
+            .containsExactly("byPayload: tasks");
+    }
+
+    @Test
+    void filteredIndexWalkIsReported() {
+        // Sorted by an index but filtered on a column it does not lead with
+        assertThat(verifier.findFullScans(Map.of("byMessage",
+            "SELECT * FROM system_logs WHERE message = 'x' ORDER BY timestamp DESC, id DESC LIMIT 10")))
+            .containsExactly("byMessage: system_logs");
+    }
+}
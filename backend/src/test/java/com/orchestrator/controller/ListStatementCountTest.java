@@ -0,0 +1,116 @@
+package com.orchestrator.controller;
+
+import com.orchestrator.EmbeddedIntegrationTest;
+import com.orchestrator.StatementRecorder;
+import com.orchestrator.dto.EmployeeDashboardView;
+import com.orchestrator.dto.TaskPage;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import com.orchestrator.service.AuthService;
+import com.orchestrator.service.TaskAssignmentService;
+import com.orchestrator.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL statements per list request. Each list must cost the same handful of
+ * statements however many rows it returns; a lazy association or a per-row
+ * lookup shows up here as a count that grows with ROWS.
+ */
+class ListStatementCountTest extends EmbeddedIntegrationTest {
+
+    private static final int ROWS = 12;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskAssignmentService assignmentService;
+
+    @Autowired
+    private AdminTaskController adminTaskController;
+
+    @Autowired
+    private EmployeeTaskController employeeTaskController;
+
+    @Test
+    void adminTaskList() {
+        User admin = register(UserRole.ADMIN);
+        User employee = register(UserRole.EMPLOYEE);
+        finishTasks(admin, employee, ROWS);
+
+        List<Object> bodies = new ArrayList<>();
+        List<String> statements = StatementRecorder.record(() ->
+            bodies.add(adminTaskController.getAllTasks(null, null, null, admin.getId(), null, ROWS, "full").getBody()));
+
+        assertThat(((TaskPage) bodies.get(0)).getItems()).hasSize(ROWS);
+        assertThat(statements).as("one keyset query, names joined in").hasSize(1);
+    }
+
+    @Test
+    void employeeTaskList() {
+        User admin = register(UserRole.ADMIN);
+        User employee = register(UserRole.EMPLOYEE);
+        finishTasks(admin, employee, ROWS);
+
+        List<Object> bodies = new ArrayList<>();
+        List<String> statements = StatementRecorder.record(() ->
+            bodies.add(adminTaskController.getAllTasks(null, null, employee.getId(), null, null, ROWS, "summary").getBody()));
+
+        assertThat(((TaskPage) bodies.get(0)).getItems()).hasSize(ROWS);
+        assertThat(statements).as("one keyset query, names joined in").hasSize(1);
+    }
+
+    @Test
+    void employeeHistory() {
+        User admin = register(UserRole.ADMIN);
+        User employee = register(UserRole.EMPLOYEE);
+        finishTasks(admin, employee, ROWS);
+
+        List<Object> bodies = new ArrayList<>();
+        List<String> statements = StatementRecorder.record(() ->
+            bodies.add(employeeTaskController.getTaskHistory(employee.getId(), ROWS).getBody()));
+
+        assertThat((List<?>) bodies.get(0)).hasSize(ROWS);
+        assertThat(statements).as("principal, then one projection joined to tasks").hasSize(2);
+    }
+
+    @Test
+    void employeeDashboard() {
+        User admin = register(UserRole.ADMIN);
+        User employee = register(UserRole.EMPLOYEE);
+        finishTasks(admin, employee, ROWS);
+
+        List<Object> bodies = new ArrayList<>();
+        List<String> statements = StatementRecorder.record(() ->
+            bodies.add(employeeTaskController.getDashboard(employee.getId(), null).getBody()));
+        List<String> cached = StatementRecorder.record(() ->
+            employeeTaskController.getDashboard(employee.getId(), null));
+
+        assertThat(((EmployeeDashboardView) bodies.get(0)).recentTasks()).hasSize(ROWS);
+        assertThat(statements).as("principal, active task, stats and recent tasks").hasSize(4);
+        assertThat(cached).as("served from the materialized view").isEmpty();
+    }
+
+    private void finishTasks(User admin, User employee, int count) {
+        for (int i = 0; i < count; i++) {
+            Task task = taskService.createTask(admin, "count-" + i, "text", 1);
+            assignmentService.manualAssignTask(task.getTaskId(), employee.getId());
+            taskService.completeTask(task.getTaskId(), employee, "done");
+        }
+    }
+
+    private User register(UserRole role) {
+        String name = "count-" + UUID.randomUUID();
+        return authService.register(name, "pw", name, name + "@example.com", role);
+    }
+}
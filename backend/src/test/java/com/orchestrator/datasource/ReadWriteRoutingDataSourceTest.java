@@ -0,0 +1,124 @@
+package com.orchestrator.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two H2 databases stand in for the primary and a replica; each holds one row
+ * naming itself, so a query shows which one served it.
+ */
+class ReadWriteRoutingDataSourceTest {
+    
+    private ReplicaLagMonitor lagMonitor;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate writes;
+    private TransactionTemplate reads;
+    
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica-0");
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isUsable(anyString())).thenReturn(true);
+        
+        routing = new ReadWriteRoutingDataSource(List.of("replica-0"), lagMonitor);
+        routing.setTargetDataSources(Map.of(ReadWriteRoutingDataSource.PRIMARY, primary, "replica-0", replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        writes = new TransactionTemplate(transactionManager);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+    }
+    
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertThat(readOnlyServedBy()).isEqualTo("replica-0");
+        assertThat(routing.getConnectionCount("replica-0")).isEqualTo(1);
+    }
+    
+    @Test
+    void writeTransactionsGoToThePrimary() {
+        String servedBy = writes.execute(status -> {
+            jdbc.update("INSERT INTO notes (body) VALUES ('written')");
+            return servedBy();
+        });
+        
+        assertThat(servedBy).isEqualTo("primary");
+        assertThat(routing.getConnectionCount("replica-0")).isZero();
+    }
+    
+    @Test
+    void pinnedReadsSeeTheirOwnWrites() {
+        writes.executeWithoutResult(status -> jdbc.update("INSERT INTO notes (body) VALUES ('fresh')"));
+        
+        // The replica never receives the row, like one that has not caught up yet
+        ReadRouting.pinPrimary();
+        try {
+            Integer seen = reads.execute(status ->
+                jdbc.queryForObject("SELECT COUNT(*) FROM notes WHERE body = 'fresh'", Integer.class));
+            assertThat(seen).isEqualTo(1);
+        } finally {
+            ReadRouting.unpinPrimary();
+        }
+        assertThat(ReadRouting.isPrimaryRequired()).isFalse();
+        assertThat(readOnlyServedBy()).isEqualTo("replica-0");
+    }
+    
+    @Test
+    void nestedPinsHoldUntilTheOutermostIsReleased() {
+        ReadRouting.pinPrimary();
+        try {
+            ReadRouting.pinPrimary();
+            ReadRouting.unpinPrimary();
+            assertThat(readOnlyServedBy()).isEqualTo("primary");
+        } finally {
+            ReadRouting.unpinPrimary();
+        }
+        assertThat(ReadRouting.isPrimaryRequired()).isFalse();
+    }
+    
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        when(lagMonitor.isUsable("replica-0")).thenReturn(false);
+        
+        assertThat(readOnlyServedBy()).isEqualTo("primary");
+        assertThat(routing.getReplicaFallbacks()).isEqualTo(1);
+    }
+    
+    private String readOnlyServedBy() {
+        return reads.execute(status -> servedBy());
+    }
+    
+    private String servedBy() {
+        return jdbc.queryForObject("SELECT name FROM whoami", String.class);
+    }
+    
+    private static DataSource database(String name) {
+        String url = "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        DataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE whoami (name VARCHAR(32))");
+        jdbc.execute("CREATE TABLE notes (body VARCHAR(32))");
+        jdbc.update("INSERT INTO whoami (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
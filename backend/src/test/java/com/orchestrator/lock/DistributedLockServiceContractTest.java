@@ -0,0 +1,208 @@
+package com.orchestrator.lock;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The DistributedLockService contract, run against each backend. Contenders
+ * are other threads, on a second node where the backend has more than one.
+ */
+abstract class DistributedLockServiceContractTest {
+
+    /** The node under test */
+    protected abstract DistributedLockService node();
+
+    /** Another node sharing the backend; the same node where there is only one */
+    protected abstract DistributedLockService otherNode();
+
+    @Test
+    void heldLockExcludesOtherHoldersUntilReleased() throws Exception {
+        String taskId = taskId();
+        TaskLock lock = node().acquireLock(taskId);
+
+        assertThat(lock).isNotNull();
+        assertThat(lock.taskId()).isEqualTo(taskId);
+        assertThat(onOtherThread(() -> otherNode().tryAcquireLock(taskId))).isNull();
+        assertThat(onOtherThread(() -> otherNode().isLocked(taskId))).isTrue();
+
+        node().releaseLock(lock);
+
+        assertThat(node().isLocked(taskId)).isFalse();
+        assertThat(onOtherThread(() -> {
+            TaskLock next = otherNode().tryAcquireLock(taskId);
+            otherNode().releaseLock(next);
+            return next;
+        })).isNotNull();
+    }
+
+    @Test
+    void acquireWaitsForTheHolderAndGetsALargerToken() throws Exception {
+        String taskId = taskId();
+        TaskLock first = node().acquireLock(taskId);
+        ExecutorService contender = Executors.newSingleThreadExecutor();
+        try {
+            Future<TaskLock> second = contender.submit(() -> {
+                TaskLock lock = otherNode().acquireLock(taskId);
+                otherNode().releaseLock(lock);
+                return lock;
+            });
+            Thread.sleep(200);
+            assertThat(second).isNotDone();
+
+            node().releaseLock(first);
+
+            TaskLock next = second.get(DistributedLockService.WAIT_SECONDS, TimeUnit.SECONDS);
+            assertThat(next).isNotNull();
+            assertThat(next.fencingToken()).isGreaterThan(first.fencingToken());
+        } finally {
+            contender.shutdownNow();
+        }
+    }
+
+    @Test
+    void tokensGrowAcrossAcquisitionsAndBatches() throws Exception {
+        long last = 0;
+        for (int i = 0; i < 5; i++) {
+            TaskLock lock = node().acquireLock(taskId());
+            node().releaseLock(lock);
+            assertThat(lock.fencingToken()).isGreaterThan(last);
+            last = lock.fencingToken();
+
+            TaskLock other = onOtherThread(() -> {
+                TaskLock l = otherNode().acquireLock(taskId());
+                otherNode().releaseLock(l);
+                return l;
+            });
+            assertThat(other.fencingToken()).isGreaterThan(last);
+            last = other.fencingToken();
+        }
+
+        List<TaskLock> batch = node().acquireLocks(List.of(taskId(), taskId(), taskId()));
+        node().releaseLocks(batch);
+        assertThat(batch).extracting(TaskLock::fencingToken).doesNotHaveDuplicates().allMatch(token -> token > 0);
+        assertThat(batch.stream().mapToLong(TaskLock::fencingToken).min().orElseThrow()).isGreaterThan(last);
+    }
+
+    @Test
+    void batchTakesAllLocksOrNoneWithinOneBudget() throws Exception {
+        String free1 = taskId();
+        String held = taskId();
+        String free2 = taskId();
+        Kept holder = keepOnOtherThread(held);
+        try {
+            long start = System.nanoTime();
+            List<TaskLock> batch = node().acquireLocks(List.of(free1, held, free2));
+            long waitedSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+
+            assertThat(batch).isNull();
+            assertThat(waitedSeconds).isBetween(DistributedLockService.WAIT_SECONDS - 1, DistributedLockService.WAIT_SECONDS + 2);
+            assertThat(onOtherThread(() -> otherNode().isLocked(free1))).isFalse();
+            assertThat(onOtherThread(() -> otherNode().isLocked(free2))).isFalse();
+        } finally {
+            holder.release();
+        }
+    }
+
+    @Test
+    void releaseFromAnotherThreadOrTwiceDoesNothing() throws Exception {
+        String taskId = taskId();
+        TaskLock lock = node().acquireLock(taskId);
+
+        onOtherThread(() -> {
+            node().releaseLock(lock);
+            otherNode().releaseLock(lock);
+            return null;
+        });
+        assertThat(onOtherThread(() -> otherNode().tryAcquireLock(taskId))).isNull();
+
+        node().releaseLock(lock);
+        Kept successor = keepOnOtherThread(taskId);
+        try {
+            node().releaseLock(lock);
+            assertThat(node().isLocked(taskId)).isTrue();
+            assertThat(onOtherThread(() -> node().tryAcquireLock(taskId))).isNull();
+        } finally {
+            successor.release();
+        }
+    }
+
+    @Test
+    void opposingBatchesDoNotDeadlock() throws Exception {
+        String a = taskId();
+        String b = taskId();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Integer>> runs = new ArrayList<>();
+            runs.add(pool.submit(() -> lockRepeatedly(node(), List.of(a, b))));
+            runs.add(pool.submit(() -> lockRepeatedly(otherNode(), List.of(b, a))));
+            for (Future<Integer> run : runs) {
+                assertThat(run.get(DistributedLockService.WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo(50);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static int lockRepeatedly(DistributedLockService service, List<String> taskIds) {
+        int acquired = 0;
+        for (int i = 0; i < 50; i++) {
+            List<TaskLock> locks = service.acquireLocks(taskIds);
+            if (locks != null) {
+                acquired++;
+                service.releaseLocks(locks);
+            }
+        }
+        return acquired;
+    }
+
+    /** Hold the task's lock on another node's thread until released */
+    private Kept keepOnOtherThread(String taskId) throws InterruptedException {
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread keeper = new Thread(() -> {
+            // Locks belong to their thread, so the keeper gives it back itself
+            TaskLock lock = otherNode().acquireLock(taskId);
+            acquired.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                otherNode().releaseLock(lock);
+            }
+        });
+        keeper.start();
+        assertThat(acquired.await(DistributedLockService.WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        return new Kept(keeper, release);
+    }
+
+    private record Kept(Thread keeper, CountDownLatch latch) {
+        void release() throws InterruptedException {
+            latch.countDown();
+            keeper.join();
+        }
+    }
+
+    private static <T> T onOtherThread(Callable<T> call) throws Exception {
+        ExecutorService thread = Executors.newSingleThreadExecutor();
+        try {
+            return thread.submit(call).get(DistributedLockService.WAIT_SECONDS + 5, TimeUnit.SECONDS);
+        } finally {
+            thread.shutdownNow();
+        }
+    }
+
+    private static String taskId() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.orchestrator.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * The Redis backend against a real Redis server, with two nodes that each
+ * have their own Redisson client and stripes.
+ */
+class RedisLockServiceTest extends DistributedLockServiceContractTest {
+
+    private static RedisServer server;
+    private static RedissonClient firstClient;
+    private static RedissonClient secondClient;
+    private static RedisLockService first;
+    private static RedisLockService second;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        firstClient = client(port);
+        secondClient = client(port);
+        first = new RedisLockService(firstClient, new SimpleMeterRegistry(), 1024);
+        second = new RedisLockService(secondClient, new SimpleMeterRegistry(), 1024);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (firstClient != null) {
+            firstClient.shutdown();
+        }
+        if (secondClient != null) {
+            secondClient.shutdown();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Override
+    protected DistributedLockService node() {
+        return first;
+    }
+
+    @Override
+    protected DistributedLockService otherNode() {
+        return second;
+    }
+
+    private static RedissonClient client(int port) {
+        Config config = new Config();
+        config.useSingleServer()
+            .setAddress("redis://127.0.0.1:" + port)
+            .setConnectionPoolSize(4)
+            .setConnectionMinimumIdleSize(1);
+        return Redisson.create(config);
+    }
+}
@@ -0,0 +1,21 @@
+package com.orchestrator.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The local backend: a single node, so contenders are other threads of it.
+ */
+class StripedLockServiceTest extends DistributedLockServiceContractTest {
+
+    private final StripedLockService service = new StripedLockService(new SimpleMeterRegistry(), 1024);
+
+    @Override
+    protected DistributedLockService node() {
+        return service;
+    }
+
+    @Override
+    protected DistributedLockService otherNode() {
+        return service;
+    }
+}
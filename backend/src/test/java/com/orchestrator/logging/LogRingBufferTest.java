@@ -0,0 +1,104 @@
+package com.orchestrator.logging;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogRingBufferTest {
+    
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 2;
+    private static final int ITEMS = 1_000_000;
+    private static final int PER_PRODUCER = ITEMS / PRODUCERS;
+    
+    @Test
+    void capacityRoundsUpToAPowerOfTwo() {
+        assertThat(new LogRingBuffer<>(1000).capacity()).isEqualTo(1024);
+        assertThat(new LogRingBuffer<>(1024).capacity()).isEqualTo(1024);
+        assertThat(new LogRingBuffer<>(2).capacity()).isEqualTo(2);
+        assertThat(new LogRingBuffer<>(1).capacity()).isEqualTo(2);
+    }
+    
+    @Test
+    void offerFailsWhenFullAndPollReturnsNullWhenEmpty() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+        
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.poll()).isEqualTo(i);
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+        
+        // Slots are reused on the next lap
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.poll()).isEqualTo(5);
+    }
+    
+    @Test
+    void fourProducersTwoConsumersMoveEveryItemExactlyOnce() throws Exception {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(1024);
+        AtomicIntegerArray seen = new AtomicIntegerArray(ITEMS);
+        AtomicLong consumed = new AtomicLong();
+        List<String> orderViolations = new ArrayList<>();
+        
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int first = p * PER_PRODUCER;
+            threads.add(new Thread(() -> {
+                for (int i = first; i < first + PER_PRODUCER; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            }, "producer-" + p));
+        }
+        for (int c = 0; c < CONSUMERS; c++) {
+            threads.add(new Thread(() -> {
+                // One consumer sees each producer's items in the order they were offered
+                int[] lastByProducer = new int[PRODUCERS];
+                Arrays.fill(lastByProducer, -1);
+                while (consumed.get() < ITEMS) {
+                    Integer item = buffer.poll();
+                    if (item == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    seen.incrementAndGet(item);
+                    consumed.incrementAndGet();
+                    int producer = item / PER_PRODUCER;
+                    if (item <= lastByProducer[producer]) {
+                        synchronized (orderViolations) {
+                            orderViolations.add(item + " after " + lastByProducer[producer]);
+                        }
+                    }
+                    lastByProducer[producer] = item;
+                }
+            }, "consumer-" + c));
+        }
+        
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join(120_000);
+            assertThat(thread.isAlive()).as(thread.getName() + " finished").isFalse();
+        }
+        
+        assertThat(consumed.get()).isEqualTo(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            if (seen.get(i) != 1) {
+                throw new AssertionError("item " + i + " consumed " + seen.get(i) + " times");
+            }
+        }
+        assertThat(orderViolations).isEmpty();
+        assertThat(buffer.poll()).isNull();
+    }
+}
@@ -0,0 +1,113 @@
+package com.orchestrator.logging;
+
+import com.orchestrator.entity.LogType;
+import com.orchestrator.entity.SystemLog;
+import com.orchestrator.service.WebSocketNotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SystemLogWriterTest {
+    
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final AtomicInteger inserted = new AtomicInteger();
+    private SystemLogWriter writer;
+    
+    @AfterEach
+    void stop() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+    
+    @Test
+    void everythingAcceptedBeforeShutdownIsWritten() throws InterruptedException {
+        writer = writer(LogOverflowPolicy.BLOCK);
+        writer.start();
+        
+        for (int i = 0; i < 2_000; i++) {
+            assertThat(writer.enqueue(entry(i))).isTrue();
+        }
+        writer.shutdown();
+        
+        assertThat(inserted.get()).isEqualTo(2_000);
+        assertThat(writer.getStatistics()).containsEntry("written", 2_000L);
+    }
+    
+    @Test
+    void entriesOfferedAfterShutdownAreRejectedAndCounted() throws InterruptedException {
+        writer = writer(LogOverflowPolicy.DROP_NEWEST);
+        writer.start();
+        writer.shutdown();
+        
+        assertThat(writer.enqueue(entry(1))).isFalse();
+        assertThat(writer.getStatistics())
+            .containsEntry("rejected", 1L)
+            .containsEntry("dropped", 0L)
+            .containsEntry("buffered", 0);
+    }
+    
+    @Test
+    void nothingIsAcceptedBeforeStart() {
+        writer = writer(LogOverflowPolicy.DROP_NEWEST);
+        
+        assertThat(writer.enqueue(entry(1))).isFalse();
+        assertThat(writer.getStatistics()).containsEntry("rejected", 1L);
+    }
+    
+    @Test
+    void dropNewestLosesOnlyWhatDidNotFitWhileTheDatabaseStalls() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        writer = writer(LogOverflowPolicy.DROP_NEWEST, stalled);
+        writer.start();
+        
+        int accepted = 0;
+        for (int i = 0; i < 500; i++) {
+            if (writer.enqueue(entry(i))) {
+                accepted++;
+            }
+        }
+        stalled.countDown();
+        writer.shutdown();
+        
+        assertThat(accepted).isLessThan(500);
+        assertThat(writer.getStatistics()).containsEntry("dropped", (long) (500 - accepted));
+        assertThat(inserted.get()).isEqualTo(accepted);
+    }
+    
+    private SystemLogWriter writer(LogOverflowPolicy policy) {
+        return writer(policy, new CountDownLatch(0));
+    }
+    
+    /** Inserts wait for the latch, like a database that has stopped answering */
+    @SuppressWarnings("unchecked")
+    private SystemLogWriter writer(LogOverflowPolicy policy, CountDownLatch database) {
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenAnswer(invocation -> {
+                database.await();
+                inserted.addAndGet(invocation.<Collection<?>>getArgument(1).size());
+                return new int[0][];
+            });
+        return new SystemLogWriter(jdbcTemplate, mock(WebSocketNotificationService.class), 64, 16, 5, policy);
+    }
+    
+    private static SystemLog entry(int i) {
+        SystemLog log = new SystemLog();
+        log.setMessage("entry " + i);
+        log.setType(LogType.INFO);
+        log.setTimestamp(LocalDateTime.now());
+        return log;
+    }
+}
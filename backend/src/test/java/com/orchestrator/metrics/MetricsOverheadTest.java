@@ -0,0 +1,136 @@
+package com.orchestrator.metrics;
+
+import com.orchestrator.EmbeddedIntegrationTest;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import com.orchestrator.service.AuthService;
+import com.orchestrator.service.TaskAssignmentService;
+import com.orchestrator.service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Metrics must stay off the database and cost under 1% of an assignment.
+ */
+class MetricsOverheadTest extends EmbeddedIntegrationTest {
+    
+    private static final int ASSIGNMENTS = 150;
+    private static final int PROBES = 200_000;
+    
+    @Autowired
+    private PrometheusMeterRegistry registry;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private TaskService taskService;
+    
+    @Autowired
+    private TaskAssignmentService assignmentService;
+    
+    @Test
+    void scrapeReadsNoTablesAndServesTheOrchestratorGauges() {
+        registry.scrape();
+        long queriesBefore = repositoryInvocations();
+        
+        String scrape = registry.scrape();
+        
+        assertThat(scrape).contains("orchestrator_employees{", "state=\"idle\"", "state=\"busy\"");
+        assertThat(scrape).contains("orchestrator_tasks{", "status=\"pending\"");
+        assertThat(repositoryInvocations()).isEqualTo(queriesBefore);
+    }
+    
+    @Test
+    void meterUpdatesCostUnderOnePercentOfAnAssignment() {
+        User admin = register(UserRole.ADMIN);
+        User employee = register(UserRole.EMPLOYEE);
+        
+        long assignNanos = 0;
+        long meterUpdates = 0;
+        int assigned = 0;
+        for (int i = 0; i < ASSIGNMENTS; i++) {
+            taskService.createTask(admin, "overhead-" + i, null, 1);
+            long updatesBefore = meterUpdates();
+            long start = System.nanoTime();
+            Task task = assignmentService.getNextTaskForEmployee(employee);
+            long elapsed = System.nanoTime() - start;
+            if (task == null) {
+                continue; // The scheduled cycle handed it to another test's employee
+            }
+            // The first calls pay for class loading and JIT; they would flatter the ratio
+            if (i >= ASSIGNMENTS / 3) {
+                assignNanos += elapsed;
+                meterUpdates += meterUpdates() - updatesBefore;
+                assigned++;
+            }
+            taskService.completeTask(task.getTaskId(), employee, "done");
+        }
+        
+        double nanosPerUpdate = nanosPerMeterUpdate();
+        double updatesPerAssignment = (double) meterUpdates / assigned;
+        double nanosPerAssignment = (double) assignNanos / assigned;
+        double overhead = updatesPerAssignment * nanosPerUpdate / nanosPerAssignment;
+        assertThat(assigned).isGreaterThan(ASSIGNMENTS / 2);
+        assertThat(overhead)
+            .as("assignment %.0f us, %.1f meter updates at %.0f ns each",
+                nanosPerAssignment / 1000, updatesPerAssignment, nanosPerUpdate)
+            .isLessThan(0.01);
+    }
+    
+    /**
+     * Same shape as Spring Data's per-invocation timer: the builder looks the
+     * tagged timer up in the registry, then records into it
+     */
+    private double nanosPerMeterUpdate() {
+        for (int i = 0; i < PROBES; i++) {
+            probe(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < PROBES; i++) {
+            probe(i);
+        }
+        return (double) (System.nanoTime() - start) / PROBES;
+    }
+    
+    private void probe(int i) {
+        Timer.builder("orchestrator.test.probe")
+            .tag("repository", "TaskRepository")
+            .tag("method", "findPendingTasksByPriority")
+            .tag("state", "SUCCESS")
+            .tag("exception", "None")
+            .register(registry)
+            .record(i & 1023, TimeUnit.MICROSECONDS);
+    }
+    
+    /** Timer records, plus increments of our own counters; JVM counters add byte amounts, not events */
+    private long meterUpdates() {
+        long total = 0;
+        for (Meter meter : registry.getMeters()) {
+            if (meter instanceof Timer timer) {
+                total += timer.count();
+            } else if (meter instanceof Counter counter && meter.getId().getName().startsWith("orchestrator.")) {
+                total += (long) counter.count();
+            }
+        }
+        return total;
+    }
+    
+    private long repositoryInvocations() {
+        return registry.find("spring.data.repository.invocations").timers().stream().mapToLong(Timer::count).sum();
+    }
+    
+    private User register(UserRole role) {
+        String name = "metrics-" + UUID.randomUUID();
+        return authService.register(name, "pw", name, name + "@example.com", role);
+    }
+}
@@ -0,0 +1,74 @@
+package com.orchestrator.service;
+
+import com.orchestrator.EmbeddedIntegrationTest;
+import com.orchestrator.dto.DailyActivityItem;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeDailyStatsTest extends EmbeddedIntegrationTest {
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private EmployeeStatsService employeeStatsService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void overlappingFirstCompletionsOfTheDayBothCount() throws Exception {
+        String name = "daily-" + UUID.randomUUID();
+        User employee = authService.register(name, "pw", "Daily Race", name + "@test", UserRole.EMPLOYEE);
+        
+        // The first completion creates today's row but has not committed when the second arrives
+        CompletableFuture<Void> second = transactionTemplate.execute(status -> {
+            employeeStatsService.recordTaskCompletion(employee, true, 3);
+            CompletableFuture<Void> concurrent = CompletableFuture.runAsync(
+                () -> employeeStatsService.recordTaskCompletion(employee, false, 0));
+            sleep(300);
+            return concurrent;
+        });
+        second.get(10, TimeUnit.SECONDS); // rethrows a duplicate-key failure
+        
+        List<DailyActivityItem> days = employeeStatsService.getDailyActivity(employee.getId(), 1);
+        assertThat(days).hasSize(1);
+        assertThat(days.get(0).getTasksCompleted()).isEqualTo(1);
+        assertThat(days.get(0).getTasksFailed()).isEqualTo(1);
+        assertThat(days.get(0).getCompletedMinutes()).isEqualTo(3L);
+    }
+    
+    @Test
+    void completionsAccumulateOnOneRowPerDay() {
+        String name = "daily-" + UUID.randomUUID();
+        User employee = authService.register(name, "pw", "Daily Sum", name + "@test", UserRole.EMPLOYEE);
+        
+        for (int i = 0; i < 5; i++) {
+            employeeStatsService.recordTaskCompletion(employee, true, 4);
+        }
+        employeeStatsService.recordTaskCompletion(employee, false, 9);
+        
+        List<DailyActivityItem> days = employeeStatsService.getDailyActivity(employee.getId(), 7);
+        assertThat(days).hasSize(1);
+        assertThat(days.get(0).getTasksCompleted()).isEqualTo(5);
+        assertThat(days.get(0).getTasksFailed()).isEqualTo(1);
+        assertThat(days.get(0).getAverageTimeMinutes()).isEqualTo(4.0);
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.orchestrator.service;
+
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.datasource.ReadRouting;
+import com.orchestrator.dto.EmployeeDashboardView;
+import com.orchestrator.dto.TaskListItem;
+import com.orchestrator.entity.EmployeeStats;
+import com.orchestrator.entity.TaskStatus;
+import com.orchestrator.entity.User;
+import com.orchestrator.event.EmployeeTaskChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeDashboardServiceTest {
+    
+    private static final String TASK_ID = "task-1";
+    
+    private final TaskService taskService = mock(TaskService.class);
+    private final EmployeeStatsService employeeStatsService = mock(EmployeeStatsService.class);
+    private final EmployeeDashboardService dashboards = new EmployeeDashboardService(
+        taskService, employeeStatsService, mock(ClusterEventBus.class), 20, 100, 300_000);
+    private final User employee = new User();
+    
+    @BeforeEach
+    void setUp() {
+        employee.setId(7L);
+        EmployeeStats stats = new EmployeeStats();
+        stats.setTotalTasksAssigned(1);
+        stats.setTotalTasksCompleted(0);
+        stats.setTotalTasksFailed(0);
+        stats.setCurrentActiveTask(1);
+        when(employeeStatsService.getEmployeeStats(any())).thenReturn(stats);
+        when(employeeStatsService.findEmployeeStats(7L)).thenReturn(Optional.of(stats));
+        when(taskService.getRecentTasksByEmployee(any(), anyInt())).thenReturn(List.of());
+    }
+    
+    @Test
+    void changeDuringABuildDiscardsTheBuild() throws Exception {
+        CountDownLatch buildReading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        when(taskService.getActiveTaskItem(any()))
+            .thenAnswer(invocation -> {
+                // Reads the task as RUNNING, then the completion commits before the view is cached
+                buildReading.countDown();
+                committed.await(5, TimeUnit.SECONDS);
+                return item(TaskStatus.RUNNING);
+            })
+            .thenReturn(null);
+        
+        CompletableFuture<EmployeeDashboardView> build = CompletableFuture.supplyAsync(() -> dashboards.getEmployeeDashboard(employee));
+        assertThat(buildReading.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread listener = new Thread(() ->
+            dashboards.onEmployeeTaskChanged(new EmployeeTaskChangedEvent(7L, TASK_ID, TaskStatus.COMPLETED)));
+        listener.start();
+        // The listener either waits on the build or has already returned
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (listener.getState() != Thread.State.BLOCKED && listener.getState() != Thread.State.TERMINATED
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        committed.countDown();
+        build.get(5, TimeUnit.SECONDS);
+        listener.join(5_000);
+        
+        assertThat(dashboards.getEmployeeDashboard(employee).currentTask()).isNull();
+    }
+    
+    @Test
+    void lateProgressEventDoesNotResurrectAFinishedTask() {
+        when(taskService.getActiveTaskItem(any())).thenReturn(item(TaskStatus.RUNNING), (TaskListItem) null);
+        EmployeeDashboardView initial = dashboards.getEmployeeDashboard(employee);
+        assertThat(initial.currentTask()).isNotNull();
+        
+        when(taskService.getTaskItem(TASK_ID))
+            .thenAnswer(invocation -> {
+                // The completion's listener runs to the end between the progress listener's read and its update
+                dashboards.onEmployeeTaskChanged(new EmployeeTaskChangedEvent(7L, TASK_ID, TaskStatus.COMPLETED));
+                return item(TaskStatus.RUNNING);
+            })
+            .thenReturn(item(TaskStatus.COMPLETED));
+        dashboards.onEmployeeTaskChanged(new EmployeeTaskChangedEvent(7L, TASK_ID, TaskStatus.RUNNING));
+        
+        EmployeeDashboardView view = dashboards.getEmployeeDashboard(employee);
+        assertThat(view.currentTask()).isNull();
+        assertThat(view.version()).isNotEqualTo(initial.version());
+    }
+    
+    @Test
+    void buildAndEventReadsArePinnedToThePrimary() {
+        List<String> unpinnedReads = new CopyOnWriteArrayList<>();
+        when(taskService.getActiveTaskItem(any())).thenAnswer(invocation -> {
+            recordUnpinned(unpinnedReads, "getActiveTaskItem");
+            return item(TaskStatus.RUNNING);
+        });
+        when(taskService.getRecentTasksByEmployee(any(), anyInt())).thenAnswer(invocation -> {
+            recordUnpinned(unpinnedReads, "getRecentTasksByEmployee");
+            return List.of();
+        });
+        when(taskService.getTaskItem(TASK_ID)).thenAnswer(invocation -> {
+            recordUnpinned(unpinnedReads, "getTaskItem");
+            return item(TaskStatus.COMPLETED);
+        });
+        when(employeeStatsService.findEmployeeStats(7L)).thenAnswer(invocation -> {
+            recordUnpinned(unpinnedReads, "findEmployeeStats");
+            return Optional.of(employeeStatsService.getEmployeeStats(employee));
+        });
+        
+        dashboards.getEmployeeDashboard(employee);
+        dashboards.onEmployeeTaskChanged(new EmployeeTaskChangedEvent(7L, TASK_ID, TaskStatus.COMPLETED));
+        
+        assertThat(unpinnedReads).isEmpty();
+        assertThat(ReadRouting.isPrimaryRequired()).isFalse();
+    }
+    
+    private static void recordUnpinned(List<String> unpinnedReads, String method) {
+        if (!ReadRouting.isPrimaryRequired()) {
+            unpinnedReads.add(method);
+        }
+    }
+    
+    private static TaskListItem item(TaskStatus status) {
+        TaskListItem item = new TaskListItem();
+        item.setId(1L);
+        item.setTaskId(TASK_ID);
+        item.setStatus(status);
+        item.setCreatedAt(LocalDateTime.of(2026, 10, 19, 9, 0));
+        return item;
+    }
+}
@@ -0,0 +1,99 @@
+package com.orchestrator.service;
+
+import com.orchestrator.cluster.InProcessClusterEventBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Presence on the node holding the session and, through the cluster bus, on another node.
+ */
+class EmployeePresenceServiceTest {
+
+    private static final long TTL_MS = 60_000;
+
+    private final InProcessClusterEventBus busA = new InProcessClusterEventBus("a", 5, 256);
+    private final InProcessClusterEventBus busB = new InProcessClusterEventBus("b", 5, 256);
+    private final EmployeePresenceService nodeA = node(busA, TTL_MS);
+    private final EmployeePresenceService nodeB = node(busB, TTL_MS);
+
+    @AfterEach
+    void stopNodes() {
+        busA.shutdown();
+        busB.shutdown();
+    }
+
+    @Test
+    void connectAndLastDisconnectReachTheOtherNode() throws InterruptedException {
+        nodeA.sessionConnected("s1", 1L);
+        nodeA.sessionConnected("s2", 1L);
+
+        assertThat(nodeA.isPresent(1L)).isTrue();
+        awaitTrue(() -> nodeB.isPresent(1L));
+
+        // One tab closed, the other is still open
+        nodeA.sessionDisconnected("s1");
+        assertThat(nodeA.isPresent(1L)).isTrue();
+
+        nodeA.sessionDisconnected("s2");
+        assertThat(nodeA.isPresent(1L)).isFalse();
+        awaitTrue(() -> !nodeB.isPresent(1L));
+    }
+
+    @Test
+    void silentSessionExpiresAfterTheTtlUnlessActive() throws InterruptedException {
+        EmployeePresenceService shortLived = node(busA, 300);
+        shortLived.sessionConnected("quiet", 1L);
+        shortLived.sessionConnected("busy", 2L);
+
+        for (int i = 0; i < 8; i++) {
+            Thread.sleep(50);
+            shortLived.sessionActive("busy");
+        }
+
+        assertThat(shortLived.isPresent(1L)).isFalse();
+        assertThat(shortLived.isPresent(2L)).isTrue();
+    }
+
+    @Test
+    void snapshotKeepsRemotePresenceAlive() throws InterruptedException {
+        EmployeePresenceService shortLivedA = node(busA, 200);
+        EmployeePresenceService shortLivedB = node(busB, 200);
+        shortLivedA.sessionConnected("s1", 1L);
+        awaitTrue(() -> shortLivedB.isPresent(1L));
+
+        Thread.sleep(250);
+        assertThat(shortLivedB.isPresent(1L)).isFalse();
+
+        shortLivedA.sessionActive("s1");
+        shortLivedA.broadcastSnapshot();
+        awaitTrue(() -> shortLivedB.isPresent(1L));
+    }
+
+    @Test
+    void assignmentOnlyRequiresPresenceWhenEnforced() {
+        EmployeePresenceService enforced = new EmployeePresenceService(busA, TTL_MS, true);
+
+        assertThat(nodeA.isAvailableForAssignment(1L)).isTrue();
+        assertThat(enforced.isAvailableForAssignment(1L)).isFalse();
+
+        enforced.sessionConnected("s1", 1L);
+        assertThat(enforced.isAvailableForAssignment(1L)).isTrue();
+    }
+
+    private static EmployeePresenceService node(InProcessClusterEventBus bus, long ttlMs) {
+        EmployeePresenceService presence = new EmployeePresenceService(bus, ttlMs, false);
+        presence.subscribeToCluster();
+        return presence;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 5 s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
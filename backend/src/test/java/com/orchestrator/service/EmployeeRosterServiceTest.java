@@ -0,0 +1,98 @@
+package com.orchestrator.service;
+
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.dto.EmployeeRosterItem;
+import com.orchestrator.dto.LeaderboardEntry;
+import com.orchestrator.entity.UserStatus;
+import com.orchestrator.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeRosterServiceTest {
+    
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EmployeeRosterService roster = new EmployeeRosterService(userRepository, mock(ClusterEventBus.class), 3);
+    
+    @BeforeEach
+    void loadBoard() {
+        when(userRepository.findLeaderboard(3)).thenReturn(List.of(row(1, 10), row(2, 5), row(3, 2)));
+        roster.rebuildLeaderboard();
+    }
+    
+    @Test
+    void holdsOnlyTheTopK() {
+        assertThat(ids(roster.getLeaderboard(100))).containsExactly(1L, 2L, 3L);
+    }
+    
+    @Test
+    void outsiderThatOvertakesTheLastEntryReplacesIt() {
+        when(userRepository.findRosterItem(4L)).thenReturn(Optional.of(row(4, 3)));
+        
+        roster.recordTaskFinished(4L, true, 10);
+        
+        assertThat(ids(roster.getLeaderboard(100))).containsExactly(1L, 2L, 4L);
+    }
+    
+    @Test
+    void outsiderBelowTheLastEntryStaysOut() {
+        when(userRepository.findRosterItem(4L)).thenReturn(Optional.of(row(4, 1)));
+        
+        roster.recordTaskFinished(4L, true, 10);
+        roster.recordTaskFinished(5L, false, 10);
+        
+        assertThat(ids(roster.getLeaderboard(100))).containsExactly(1L, 2L, 3L);
+        // A failure cannot move anyone up, so it is not looked up
+        verify(userRepository, never()).findRosterItem(5L);
+    }
+    
+    @Test
+    void completionDuringTheRebuildReadIsReplayed() {
+        when(userRepository.findLeaderboard(3)).thenAnswer(invocation -> {
+            // Finishes after the query read employee 3's row
+            roster.recordTaskFinished(3L, true, 10);
+            return List.of(row(1, 10), row(2, 5), row(3, 2));
+        });
+        
+        roster.rebuildLeaderboard();
+        
+        assertThat(completed(3L)).isEqualTo(3);
+    }
+    
+    @Test
+    void completionAlreadyInTheRebuildReadIsNotCountedTwice() {
+        when(userRepository.findLeaderboard(3)).thenAnswer(invocation -> {
+            // Committed before the query read employee 3's row
+            roster.recordTaskFinished(3L, true, 10);
+            return List.of(row(1, 10), row(2, 5), row(3, 3));
+        });
+        
+        roster.rebuildLeaderboard();
+        
+        assertThat(completed(3L)).isEqualTo(3);
+    }
+    
+    private int completed(long employeeId) {
+        return roster.getLeaderboard(100).stream()
+            .filter(entry -> entry.employeeId() == employeeId)
+            .findFirst()
+            .orElseThrow()
+            .totalCompleted();
+    }
+    
+    private static List<Long> ids(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::employeeId).toList();
+    }
+    
+    private static EmployeeRosterItem row(long id, int completed) {
+        return new EmployeeRosterItem(id, "user" + id, "User " + id, null, UserStatus.ACTIVE,
+            completed, completed, 0, 0, 10.0);
+    }
+}
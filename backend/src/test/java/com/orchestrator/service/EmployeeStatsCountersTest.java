@@ -0,0 +1,116 @@
+package com.orchestrator.service;
+
+import com.orchestrator.EmbeddedIntegrationTest;
+import com.orchestrator.entity.EmployeeStats;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * The EmployeeStats counters are single atomic UPDATEs, so parallel writers
+ * must never lose an increment.
+ */
+class EmployeeStatsCountersTest extends EmbeddedIntegrationTest {
+    
+    private static final int EMPLOYEES = 4;
+    private static final int COMPLETIONS = 1000;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private EmployeeStatsService employeeStatsService;
+    
+    @Test
+    void parallelCompletionsAreAllCounted() throws Exception {
+        List<User> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(register());
+        }
+        
+        // Every 5th finish fails; completed tasks alternate between 2 and 4 minutes
+        List<Callable<Void>> finishes = new ArrayList<>();
+        for (int i = 0; i < COMPLETIONS; i++) {
+            User employee = employees.get(i % EMPLOYEES);
+            boolean success = i % 5 != 0;
+            int minutes = i % 2 == 0 ? 2 : 4;
+            finishes.add(() -> {
+                employeeStatsService.recordTaskCompletion(employee, success, minutes);
+                return null;
+            });
+        }
+        runConcurrently(finishes);
+        
+        int perEmployee = COMPLETIONS / EMPLOYEES;
+        int failedPerEmployee = perEmployee / 5;
+        for (User employee : employees) {
+            EmployeeStats stats = employeeStatsService.findEmployeeStats(employee.getId()).orElseThrow();
+            int completed = perEmployee - failedPerEmployee;
+            assertThat(stats.getTotalTasksCompleted()).isEqualTo(completed);
+            assertThat(stats.getTotalTasksFailed()).isEqualTo(failedPerEmployee);
+            assertThat(stats.getPriorityScore()).isEqualTo(-completed);
+            assertThat(stats.getCurrentActiveTask()).isZero();
+        }
+        
+        // Employee 0 finishes only even-numbered tasks (2 minutes), employee 1 only odd ones (4 minutes)
+        assertThat(employeeStatsService.findEmployeeStats(employees.get(0).getId()).orElseThrow()
+            .getAverageCompletionTimeMinutes()).isCloseTo(2.0, within(1e-9));
+        assertThat(employeeStatsService.findEmployeeStats(employees.get(1).getId()).orElseThrow()
+            .getAverageCompletionTimeMinutes()).isCloseTo(4.0, within(1e-9));
+    }
+    
+    @Test
+    void parallelClaimsOfOneIdleEmployeeHaveOneWinner() throws Exception {
+        User employee = register();
+        
+        List<Callable<Boolean>> claims = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            claims.add(() -> employeeStatsService.claimIdleEmployee(employee));
+        }
+        List<Boolean> results = runConcurrently(claims);
+        
+        assertThat(results).containsOnlyOnce(true);
+        EmployeeStats stats = employeeStatsService.findEmployeeStats(employee.getId()).orElseThrow();
+        assertThat(stats.getCurrentActiveTask()).isEqualTo(1);
+        assertThat(stats.getTotalTasksAssigned()).isEqualTo(1);
+    }
+    
+    private User register() {
+        String name = "counters-" + UUID.randomUUID();
+        return authService.register(name, "pw", "Counter Test", name + "@test", UserRole.EMPLOYEE);
+    }
+    
+    private static <T> List<T> runConcurrently(List<Callable<T>> calls) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> call : calls) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.orchestrator.service;
+
+import com.orchestrator.EmbeddedIntegrationTest;
+import com.orchestrator.dto.LogQuery;
+import com.orchestrator.entity.LogType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingServiceTest extends EmbeddedIntegrationTest {
+    
+    @Autowired
+    private LoggingService loggingService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void onlyCommittedTransactionsLeaveLogRows() throws InterruptedException {
+        String committed = "committed-" + UUID.randomUUID();
+        String rolledBack = "rolled-back-" + UUID.randomUUID();
+        String marker = "marker-" + UUID.randomUUID();
+        
+        transactionTemplate.executeWithoutResult(status ->
+            loggingService.log("Task created", LogType.INFO, committed, null));
+        transactionTemplate.executeWithoutResult(status -> {
+            loggingService.log("Task created", LogType.INFO, rolledBack, null);
+            status.setRollbackOnly();
+        });
+        // The writer is FIFO: once the marker is stored, anything enqueued before it is too
+        loggingService.log("Marker", LogType.INFO, marker, null);
+        awaitRow(marker);
+        
+        assertThat(rows(committed)).isEqualTo(1);
+        assertThat(rows(rolledBack)).isZero();
+    }
+    
+    private void awaitRow(String taskId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (rows(taskId) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(rows(taskId)).as("log row for " + taskId).isEqualTo(1);
+    }
+    
+    private int rows(String taskId) {
+        LogQuery query = new LogQuery();
+        query.setTaskId(taskId);
+        return loggingService.searchLogs(query, null).getItems().size();
+    }
+}
@@ -0,0 +1,121 @@
+package com.orchestrator.service;
+
+import com.orchestrator.cluster.ClusterEventBus;
+import com.orchestrator.dto.TaskListItem;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.User;
+import com.orchestrator.event.TaskAvailableEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NextTaskWaitServiceTest {
+
+    private final TaskAssignmentService assignmentService = mock(TaskAssignmentService.class);
+    private final NextTaskWaitService waits = new NextTaskWaitService(assignmentService, mock(ClusterEventBus.class), 30_000, 120_000);
+
+    /** Tasks the next getNextTaskForEmployee calls hand out, then nothing */
+    private final Queue<Task> pending = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void handOutPendingTasks() {
+        when(assignmentService.getNextTaskForEmployee(any())).thenAnswer(invocation -> pending.poll());
+    }
+
+    @AfterEach
+    void stopDispatcher() {
+        waits.shutdown();
+    }
+
+    @Test
+    void returnsATaskThatIsAlreadyPendingAtOnce() {
+        pending.add(task("T-1"));
+
+        DeferredResult<ResponseEntity<?>> result = waits.waitForNextTask(employee(1), null);
+
+        assertThat(taskIdOf(result)).isEqualTo("T-1");
+        assertThat(waits.getWaitingCount()).isZero();
+    }
+
+    @Test
+    void parkedRequestsAreServedOldestFirstWhenTasksAppear() throws InterruptedException {
+        DeferredResult<ResponseEntity<?>> first = waits.waitForNextTask(employee(1), null);
+        DeferredResult<ResponseEntity<?>> second = waits.waitForNextTask(employee(2), null);
+        assertThat(first.hasResult()).isFalse();
+        assertThat(waits.getWaitingCount()).isEqualTo(2);
+
+        pending.add(task("T-1"));
+        waits.onTaskAvailable(new TaskAvailableEvent("T-1", 1));
+        awaitResult(first);
+
+        assertThat(taskIdOf(first)).isEqualTo("T-1");
+        assertThat(second.hasResult()).isFalse();
+
+        pending.add(task("T-2"));
+        waits.onTaskAvailable(new TaskAvailableEvent("T-2", 1));
+        awaitResult(second);
+
+        assertThat(taskIdOf(second)).isEqualTo("T-2");
+    }
+
+    @Test
+    void aNewerRequestSupersedesTheEmployeesParkedOne() {
+        DeferredResult<ResponseEntity<?>> older = waits.waitForNextTask(employee(1), null);
+        DeferredResult<ResponseEntity<?>> newer = waits.waitForNextTask(employee(1), null);
+
+        assertThat(body(older)).isEqualTo(Map.of("message", "Superseded by a newer request"));
+        assertThat(newer.hasResult()).isFalse();
+        assertThat(waits.getWaitingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroOrNegativeTimeoutStillExpires() {
+        assertThat(waits.resolveTimeout(0L)).isEqualTo(1);
+        assertThat(waits.resolveTimeout(-500L)).isEqualTo(1);
+    }
+
+    @Test
+    void timeoutDefaultsWhenAbsentAndIsCappedAtTheMaximum() {
+        assertThat(waits.resolveTimeout(null)).isEqualTo(30_000);
+        assertThat(waits.resolveTimeout(5_000L)).isEqualTo(5_000);
+        assertThat(waits.resolveTimeout(600_000L)).isEqualTo(120_000);
+    }
+
+    private static void awaitResult(DeferredResult<?> result) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!result.hasResult() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static String taskIdOf(DeferredResult<ResponseEntity<?>> result) {
+        return ((TaskListItem) body(result)).getTaskId();
+    }
+
+    private static Object body(DeferredResult<ResponseEntity<?>> result) {
+        return ((ResponseEntity<?>) result.getResult()).getBody();
+    }
+
+    private static Task task(String taskId) {
+        Task task = new Task();
+        task.setTaskId(taskId);
+        return task;
+    }
+
+    private static User employee(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("employee-" + id);
+        return user;
+    }
+}
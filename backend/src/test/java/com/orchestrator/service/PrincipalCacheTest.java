@@ -0,0 +1,53 @@
+package com.orchestrator.service;
+
+import com.orchestrator.EmbeddedIntegrationTest;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import com.orchestrator.entity.UserStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrincipalCacheTest extends EmbeddedIntegrationTest {
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Test
+    void resolvedUsersAreFreshCopiesWithoutThePassword() {
+        User registered = register();
+        
+        User first = authService.resolvePrincipal(registered.getId());
+        User second = authService.resolvePrincipal(registered.getId());
+        
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getPassword()).isNull();
+        assertThat(first.getUsername()).isEqualTo(registered.getUsername());
+        assertThat(first.getRole()).isEqualTo(UserRole.EMPLOYEE);
+        
+        // A caller scribbling on its copy cannot leak into the next request
+        first.setRole(UserRole.ADMIN);
+        assertThat(authService.resolvePrincipal(registered.getId()).getRole()).isEqualTo(UserRole.EMPLOYEE);
+    }
+    
+    @Test
+    void roleAndStatusChangesInvalidateTheCachedPrincipal() {
+        User registered = register();
+        authService.resolvePrincipal(registered.getId());
+        
+        authService.updateUserRole(registered.getId(), UserRole.ADMIN);
+        assertThat(authService.resolvePrincipal(registered.getId()).getRole()).isEqualTo(UserRole.ADMIN);
+        
+        authService.updateUserStatus(registered.getId(), UserStatus.INACTIVE);
+        assertThatThrownBy(() -> authService.resolvePrincipal(registered.getId()))
+            .hasMessageContaining("not active");
+    }
+    
+    private User register() {
+        String name = "principal-" + UUID.randomUUID();
+        return authService.register(name, "pw", "Principal Test", name + "@test", UserRole.EMPLOYEE);
+    }
+}
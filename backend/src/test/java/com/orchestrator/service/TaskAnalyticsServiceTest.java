@@ -0,0 +1,68 @@
+package com.orchestrator.service;
+
+import com.orchestrator.cluster.ClusterEventBus;
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TaskAnalyticsServiceTest {
+    
+    private static final int SLOTS = 3;
+    
+    private final TaskAnalyticsService analytics = new TaskAnalyticsService(
+        mock(WebSocketNotificationService.class), mock(ClusterEventBus.class), 60_000, SLOTS, 60);
+    
+    private final LocalDateTime start = LocalDateTime.of(2026, 10, 19, 9, 0);
+    private final LocalDateTime end = start.plusMinutes(7);
+    
+    @Test
+    void employeeIdleForAWholeWindowIsDropped() {
+        analytics.recordFinished(1L, 2, start, end, true);
+        analytics.recordFinished(2L, 2, start, end, true);
+        analytics.rotate();
+        
+        for (int i = 1; i < SLOTS; i++) {
+            analytics.recordFinished(2L, 2, start, end, true);
+            analytics.rotate();
+            assertThat(analytics.trackedEmployees()).isEqualTo(2);
+        }
+        // Employee 1's only sample has left the window
+        analytics.recordFinished(2L, 2, start, end, true);
+        analytics.rotate();
+        
+        assertThat(analytics.trackedEmployees()).isEqualTo(1);
+        assertThat(analytics.getEmployeeServiceTimes()).containsOnlyKeys(2L);
+        assertThat(analytics.getEmployeeServiceTime(1L).getCount()).isZero();
+    }
+    
+    @Test
+    void recordingDoesNotAllocateOnceTheEmployeeIsTracked() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Long employeeId = 1_000L;
+        Integer priority = 2;
+        
+        // Warm up so the JIT has compiled the path and the histogram exists
+        for (int i = 0; i < 50_000; i++) {
+            record(employeeId, priority);
+        }
+        int calls = 100_000;
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < calls; i++) {
+            record(employeeId, priority);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        
+        // The smallest object is 16 bytes, so under one byte per call means no call allocates;
+        // the few KB left over are the measurement and JIT bookkeeping
+        assertThat(allocated).isLessThan(calls);
+    }
+    
+    private void record(Long employeeId, Integer priority) {
+        analytics.recordAssigned(priority, start, end);
+        analytics.recordFinished(employeeId, priority, start, end, true);
+    }
+}
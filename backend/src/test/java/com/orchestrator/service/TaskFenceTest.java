@@ -0,0 +1,148 @@
+package com.orchestrator.service;
+
+import com.orchestrator.EmbeddedIntegrationTest;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.TaskStatus;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import com.orchestrator.lock.DistributedLockService;
+import com.orchestrator.lock.TaskLock;
+import com.orchestrator.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Every write to a task runs under its lock and is refused once a later
+ * holder has written the task.
+ */
+class TaskFenceTest extends EmbeddedIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskAssignmentService assignmentService;
+
+    @Autowired
+    private DistributedLockService lockService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void employeeWritesAreRefusedAfterALaterHolderWrote() {
+        User employee = register(UserRole.EMPLOYEE);
+        String taskId = runningTask(employee);
+        double rejectedBefore = rejected();
+
+        overtake(taskId);
+
+        assertRefused(() -> taskService.updateProgress(taskId, employee, 50));
+        assertRefused(() -> taskService.completeTask(taskId, employee, "done"));
+        assertRefused(() -> taskService.failTask(taskId, employee, "boom"));
+        Task task = taskRepository.findByTaskId(taskId).orElseThrow();
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.RUNNING);
+        assertThat(task.getProgress()).isZero();
+        assertThat(rejected() - rejectedBefore).isEqualTo(3);
+    }
+
+    @Test
+    void assignmentIsRefusedAfterALaterHolderWrote() {
+        User employee = register(UserRole.EMPLOYEE);
+        String taskId = taskService.createTask(register(UserRole.ADMIN), "fence-assign", null, 1).getTaskId();
+
+        overtake(taskId);
+
+        assertRefused(() -> assignmentService.manualAssignTask(taskId, employee.getId()));
+        assertThat(taskRepository.findByTaskId(taskId).orElseThrow().getStatus()).isEqualTo(TaskStatus.PENDING);
+    }
+
+    @Test
+    void writesAdvanceTheFence() {
+        User employee = register(UserRole.EMPLOYEE);
+        String taskId = runningTask(employee);
+        long assignedFence = taskRepository.findByTaskId(taskId).orElseThrow().getFenceToken();
+
+        taskService.completeTask(taskId, employee, "done");
+
+        assertThat(taskRepository.findByTaskId(taskId).orElseThrow().getFenceToken()).isGreaterThan(assignedFence);
+    }
+
+    @Test
+    void getNextSkipsATaskWhoseLockIsHeld() throws Exception {
+        User employee = register(UserRole.EMPLOYEE);
+        String taskId = taskService.createTask(register(UserRole.ADMIN), "fence-held", null, 1).getTaskId();
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            TaskLock lock = lockService.acquireLock(taskId);
+            held.countDown();
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lockService.releaseLock(lock);
+            }
+        });
+        holder.start();
+        try {
+            assertThat(held.await(10, TimeUnit.SECONDS)).isTrue();
+
+            long start = System.nanoTime();
+            Task next = assignmentService.getNextTaskForEmployee(employee);
+
+            assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(DistributedLockService.WAIT_SECONDS);
+            if (next != null) {
+                assertThat(next.getTaskId()).isNotEqualTo(taskId);
+            }
+            assertThat(taskRepository.findByTaskId(taskId).orElseThrow().getStatus()).isEqualTo(TaskStatus.PENDING);
+        } finally {
+            done.countDown();
+            holder.join();
+        }
+    }
+
+    private String runningTask(User employee) {
+        String taskId = taskService.createTask(register(UserRole.ADMIN), "fence", null, 1).getTaskId();
+        assignmentService.manualAssignTask(taskId, employee.getId());
+        return taskId;
+    }
+
+    /** What a holder that took the lock after ours lapsed leaves on the row */
+    private void overtake(String taskId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+            status -> taskRepository.advanceFence(taskId, Long.MAX_VALUE));
+    }
+
+    private void assertRefused(Runnable write) {
+        assertThatThrownBy(write::run).hasMessageContaining("lost to another holder");
+    }
+
+    private double rejected() {
+        return meterRegistry.get("orchestrator.lock.fence.rejected").counter().count();
+    }
+
+    private User register(UserRole role) {
+        String name = "fence-" + UUID.randomUUID();
+        return authService.register(name, "pw", name, name + "@example.com", role);
+    }
+}
@@ -0,0 +1,101 @@
+package com.orchestrator.service;
+
+import com.orchestrator.EmbeddedIntegrationTest;
+import com.orchestrator.dto.TaskListItem;
+import com.orchestrator.dto.TaskPage;
+import com.orchestrator.dto.TaskQuery;
+import com.orchestrator.entity.TaskStatus;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Keyset paging over task projections: every task exactly once, newest
+ * first, with the joined names filled from the same query.
+ */
+class TaskPageTest extends EmbeddedIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskAssignmentService assignmentService;
+
+    @Test
+    void cursorWalksEveryTaskOnceNewestFirst() {
+        User admin = register(UserRole.ADMIN);
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            created.add(taskService.createTask(admin, "page-" + i, "text", 1).getTaskId());
+        }
+
+        List<String> walked = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = taskService.getTasksByAdmin(admin, cursor, 3);
+            page.getItems().forEach(item -> walked.add(item.getTaskId()));
+            pageSizes.add(page.getItems().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        Collections.reverse(created);
+        assertThat(walked).containsExactlyElementsOf(created);
+        assertThat(pageSizes).containsExactly(3, 3, 1);
+    }
+
+    @Test
+    void lastFullPageHasNoCursor() {
+        User admin = register(UserRole.ADMIN);
+        for (int i = 0; i < 3; i++) {
+            taskService.createTask(admin, "exact-" + i, null, 1);
+        }
+
+        assertThat(taskService.getTasksByAdmin(admin, null, 3).getNextCursor()).isNull();
+    }
+
+    @Test
+    void filtersAndFillsNamesFromTheJoin() {
+        User admin = register(UserRole.ADMIN);
+        User employee = register(UserRole.EMPLOYEE);
+        taskService.createTask(admin, "left-pending", "not mine", 2);
+        String running = taskService.createTask(admin, "running", "mine", 4).getTaskId();
+        assignmentService.manualAssignTask(running, employee.getId());
+
+        TaskQuery query = new TaskQuery();
+        query.setCreatorId(admin.getId());
+        query.setStatus(TaskStatus.RUNNING);
+        List<TaskListItem> items = taskService.getTaskPage(query, null).getItems();
+
+        assertThat(items).singleElement().satisfies(item -> {
+            assertThat(item.getTaskId()).isEqualTo(running);
+            assertThat(item.getCreatedByName()).isEqualTo(admin.getFullName());
+            assertThat(item.getAssignedToName()).isEqualTo(employee.getFullName());
+            assertThat(item.getDescription()).isNull(); // Text columns only for the full field set
+        });
+        assertThat(taskService.getTaskItem(running).getDescription()).isEqualTo("mine");
+        assertThat(taskService.getActiveTaskItem(employee).getTaskId()).isEqualTo(running);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> taskService.getTaskPage(new TaskQuery(), "not-a-cursor"))
+            .hasMessage("Invalid cursor");
+    }
+
+    private User register(UserRole role) {
+        String name = "page-" + UUID.randomUUID();
+        return authService.register(name, "pw", name, name + "@example.com", role);
+    }
+}
@@ -0,0 +1,133 @@
+package com.orchestrator.service;
+
+import com.orchestrator.EmbeddedIntegrationTest;
+import com.orchestrator.dto.TaskTimeline;
+import com.orchestrator.dto.TaskTransitionItem;
+import com.orchestrator.entity.Task;
+import com.orchestrator.entity.User;
+import com.orchestrator.entity.UserRole;
+import com.orchestrator.lock.DistributedLockService;
+import com.orchestrator.lock.TaskLock;
+import com.orchestrator.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.orchestrator.entity.TaskTransitionType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Transitions are recorded from the task row alone and read back as a timeline.
+ */
+class TaskTimelineTest extends EmbeddedIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskAssignmentService assignmentService;
+
+    @Autowired
+    private TaskRetryService retryService;
+
+    @Autowired
+    private TaskTimelineService timelineService;
+
+    @Autowired
+    private DistributedLockService lockService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void recordsEveryTransitionOfARetriedTask() {
+        String taskId = runFailedThenRetriedTask();
+
+        TaskTimeline timeline = timelineService.getTimeline(taskId);
+
+        assertThat(timeline.getTransitions()).extracting(TaskTransitionItem::getType).containsExactly(
+            CREATED, QUEUED, ASSIGNED, FIRST_PROGRESS, FAILED, RETRIED, QUEUED, ASSIGNED, COMPLETED);
+        assertThat(timeline.getAttempts()).isEqualTo(2);
+        assertThat(timeline.isFinished()).isTrue();
+        assertThat(timeline.getPhasesMs().values()).allMatch(ms -> ms >= 0);
+
+        Task task = taskRepository.findByTaskId(taskId).orElseThrow();
+        TaskTransitionItem last = timeline.getTransitions().get(timeline.getTransitions().size() - 1);
+        assertThat(task.getLastTransition()).isEqualTo(COMPLETED);
+        assertThat(task.getLastTransitionAt()).isEqualTo(last.getAt());
+        assertThat(task.getRetryCount()).isEqualTo(1); // One failure, one retry
+    }
+
+    @Test
+    void recordingNeverReadsTheTransitionTable() {
+        Map<String, Long> before = transitionRepositoryCalls();
+
+        runFailedThenRetriedTask();
+
+        Map<String, Long> after = transitionRepositoryCalls();
+        after.forEach((method, count) -> {
+            if (!method.equals("save")) {
+                assertThat(count).as(method).isEqualTo(before.getOrDefault(method, 0L));
+            }
+        });
+        assertThat(after.get("save") - before.getOrDefault("save", 0L)).isEqualTo(9);
+    }
+
+    @Test
+    void assignmentClosesTheQueueWaitPhase() {
+        Timer queueWait = meterRegistry.get("orchestrator.task.phase")
+            .tag("phase", TaskTimelineService.QUEUE_WAIT).timer();
+        long before = queueWait.count();
+        User admin = register(UserRole.ADMIN);
+        User employee = register(UserRole.EMPLOYEE);
+
+        Task task = taskService.createTask(admin, "timeline-wait", null, 1);
+        assignmentService.manualAssignTask(task.getTaskId(), employee.getId());
+
+        assertThat(queueWait.count()).isEqualTo(before + 1);
+    }
+
+    private String runFailedThenRetriedTask() {
+        User admin = register(UserRole.ADMIN);
+        User employee = register(UserRole.EMPLOYEE);
+        String taskId = taskService.createTask(admin, "timeline", null, 1).getTaskId();
+
+        assignmentService.manualAssignTask(taskId, employee.getId());
+        taskService.updateProgress(taskId, employee, 40);
+        taskService.failTask(taskId, employee, "boom");
+
+        TaskLock lock = lockService.acquireLock(taskId);
+        try {
+            retryService.retryTask(lock);
+        } finally {
+            lockService.releaseLock(lock);
+        }
+
+        assignmentService.manualAssignTask(taskId, employee.getId());
+        taskService.completeTask(taskId, employee, "done");
+        return taskId;
+    }
+
+    private Map<String, Long> transitionRepositoryCalls() {
+        return meterRegistry.find("spring.data.repository.invocations")
+            .tag("repository", "TaskTransitionRepository")
+            .timers().stream()
+            .collect(Collectors.groupingBy(timer -> timer.getId().getTag("method"),
+                Collectors.summingLong(Timer::count)));
+    }
+
+    private User register(UserRole role) {
+        String name = "timeline-" + UUID.randomUUID();
+        return authService.register(name, "pw", name, name + "@example.com", role);
+    }
+}
@@ -0,0 +1,59 @@
+package com.orchestrator.stats;
+
+import com.orchestrator.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalTaskCountersTest {
+    
+    private final LocalTaskCounters counters = new LocalTaskCounters();
+    
+    @Test
+    void reconcileCorrectsDriftInQuietCells() {
+        counters.add(TaskStatus.PENDING, 1, 3);
+        long[][] expected = counters.snapshot();
+        long[][] actual = counts(TaskStatus.PENDING, 1, 5);
+        
+        assertThat(counters.reconcile(expected, actual)).isEqualTo(2);
+        assertThat(count(TaskStatus.PENDING, 1)).isEqualTo(5);
+    }
+    
+    @Test
+    void incrementsDuringTheDatabaseReadAreNotLost() {
+        counters.add(TaskStatus.RUNNING, 2, 4);
+        long[][] expected = counters.snapshot();
+        long[][] actual = counts(TaskStatus.RUNNING, 2, 4);
+        // Transitions committed after the GROUP BY read its rows
+        counters.add(TaskStatus.RUNNING, 2, 3);
+        
+        assertThat(counters.reconcile(expected, actual)).isZero();
+        assertThat(count(TaskStatus.RUNNING, 2)).isEqualTo(7);
+    }
+    
+    @Test
+    void cellThatMovedDuringTheReadWaitsForTheNextPass() {
+        counters.add(TaskStatus.COMPLETED, 3, 10);
+        long[][] expected = counters.snapshot();
+        // The database also lost 2 to drift, and one completion lands mid-read
+        long[][] actual = counts(TaskStatus.COMPLETED, 3, 8);
+        counters.add(TaskStatus.COMPLETED, 3, 1);
+        
+        assertThat(counters.reconcile(expected, actual)).isZero();
+        assertThat(count(TaskStatus.COMPLETED, 3)).isEqualTo(11);
+        
+        long[][] nextExpected = counters.snapshot();
+        assertThat(counters.reconcile(nextExpected, counts(TaskStatus.COMPLETED, 3, 9))).isEqualTo(2);
+        assertThat(count(TaskStatus.COMPLETED, 3)).isEqualTo(9);
+    }
+    
+    private long count(TaskStatus status, int priority) {
+        return counters.snapshot()[status.ordinal()][TaskCounters.priorityIndex(priority)];
+    }
+    
+    private static long[][] counts(TaskStatus status, int priority, long value) {
+        long[][] counts = TaskCounters.emptyCounts();
+        counts[status.ordinal()][TaskCounters.priorityIndex(priority)] = value;
+        return counts;
+    }
+}
@@ -0,0 +1,118 @@
+package com.orchestrator.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * A session stuck on a slow client: droppable frames make room oldest first,
+ * reliable frames that still do not fit disconnect it.
+ */
+class BackpressureSessionDecoratorTest {
+
+    private static final int BUFFER_LIMIT = 10;
+
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch client = new CountDownLatch(1);
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final DeliveryPolicyInterceptor policies = new DeliveryPolicyInterceptor();
+
+    private BackpressureSessionDecorator session;
+    private Thread flusher;
+
+    @BeforeEach
+    void stallTheClient() throws Exception {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        doAnswer(invocation -> {
+            sending.countDown();
+            client.await();
+            delivered.add(((WebSocketMessage<?>) invocation.getArgument(0)).getPayload().toString());
+            return null;
+        }).when(delegate).sendMessage(any());
+        session = new BackpressureSessionDecorator(delegate, 60_000, BUFFER_LIMIT);
+
+        // The first send holds the flush while the client reads nothing
+        flusher = new Thread(() -> {
+            try {
+                session.sendMessage(new TextMessage("first"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        flusher.start();
+        assertThat(sending.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @AfterEach
+    void releaseTheClient() throws InterruptedException {
+        client.countDown();
+        flusher.join();
+    }
+
+    @Test
+    void droppableFramesMakeRoomOldestFirst() throws Exception {
+        send("aaaaa", DeliveryPolicy.DROP_OLDEST);
+        send("bbbbb", DeliveryPolicy.DROP_OLDEST);
+        send("ccccc", DeliveryPolicy.DROP_OLDEST);
+
+        assertThat(session.isLimitExceeded()).isFalse();
+        assertThat(session.getDroppedFrames()).isEqualTo(1);
+        assertThat(session.getQueueDepth()).isEqualTo(2);
+        assertThat(session.getBufferSize()).isEqualTo(BUFFER_LIMIT);
+
+        client.countDown();
+        flusher.join();
+
+        assertThat(delivered).containsExactly("first", "bbbbb", "ccccc");
+        assertThat(session.getSentFrames()).isEqualTo(3);
+    }
+
+    @Test
+    void reliableFramesThatDoNotFitCloseTheSession() throws Exception {
+        send("aaaaa", DeliveryPolicy.DROP_OLDEST);
+
+        assertThatThrownBy(() -> send("0123456789AB", DeliveryPolicy.RELIABLE))
+            .isInstanceOf(SessionLimitExceededException.class);
+
+        assertThat(session.isLimitExceeded()).isTrue();
+        assertThat(session.getBufferSize()).isZero();
+        assertThat(session.getDroppedFrames()).isEqualTo(2);
+
+        // Nothing more is buffered once the session is condemned
+        send("late", DeliveryPolicy.RELIABLE);
+        client.countDown();
+        flusher.join();
+        assertThat(delivered).containsExactly("first");
+    }
+
+    @Test
+    void untaggedFramesAreReliable() throws Exception {
+        assertThatThrownBy(() -> session.sendMessage(new TextMessage("0123456789AB")))
+            .isInstanceOf(SessionLimitExceededException.class);
+    }
+
+    /** Send on this thread as the outbound channel would, with the frame's policy in scope */
+    private void send(String payload, DeliveryPolicy policy) throws Exception {
+        policies.beforeHandle(MessageBuilder.withPayload(payload).setHeader(DeliveryPolicy.HEADER, policy).build(), null, null);
+        try {
+            session.sendMessage(new TextMessage(payload));
+        } finally {
+            policies.afterMessageHandled(null, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.orchestrator.websocket;
+
+import com.orchestrator.dto.WebSocketMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Soak of the real broker with clients that stop reading. Fast sessions must
+ * keep their delivery latency while stalled sessions are cut off by the send
+ * buffer and send time limits instead of holding broker threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "websocket.session.send-time-limit-ms=1000")
+@ActiveProfiles({"embedded", "test"})
+class SlowConsumerSoakTest {
+
+    private static final String DESTINATION = "/topic/soak";
+    private static final int FAST_SESSIONS = 4;
+    private static final int STALLED_SESSIONS = 8;
+    private static final int FRAMES = 600;
+    private static final long PUBLISH_INTERVAL_MICROS = 5_000;
+    private static final String PADDING = "x".repeat(1024);
+    private static final Pattern SEQUENCE = Pattern.compile("seq-(\\d+)-");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private WebSocketPayloadCodec payloadCodec;
+
+    @Autowired
+    private OutboundSessionRegistry sessionRegistry;
+
+    private final WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+    private final List<StompSession> fastSessions = new ArrayList<>();
+    private final List<Socket> stalledSessions = new ArrayList<>();
+
+    /** Publish time of each frame in the current phase, and the delivery latencies seen so far */
+    private final AtomicLongArray publishedAt = new AtomicLongArray(FRAMES);
+    private final Queue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+
+    @AfterEach
+    void disconnect() throws IOException {
+        fastSessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+        for (Socket socket : stalledSessions) {
+            socket.close();
+        }
+    }
+
+    @Test
+    void stalledSessionsAreCutOffWithoutSlowingFastOnes() throws Exception {
+        for (int i = 0; i < FAST_SESSIONS; i++) {
+            fastSessions.add(connectFast());
+        }
+        publishToFastSessions("warmup");
+        long baselineP99Ms = publishToFastSessions("baseline");
+
+        long disconnectedBefore = sessionRegistry.getSlowSessionsDisconnected();
+        for (int i = 0; i < STALLED_SESSIONS; i++) {
+            stalledSessions.add(connectStalled());
+        }
+        awaitSessions(FAST_SESSIONS + STALLED_SESSIONS);
+        long stalledP99Ms = publishToFastSessions("stalled");
+
+        assertThat(stalledP99Ms)
+            .as("p99 delivery latency %d ms with %d stalled sessions, %d ms without", stalledP99Ms, STALLED_SESSIONS, baselineP99Ms)
+            .isLessThanOrEqualTo(3 * baselineP99Ms + 200);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (sessionRegistry.getSlowSessionsDisconnected() - disconnectedBefore < STALLED_SESSIONS
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(sessionRegistry.getSlowSessionsDisconnected() - disconnectedBefore).isEqualTo(STALLED_SESSIONS);
+        assertThat(sessionRegistry.getSessionCount()).isEqualTo(FAST_SESSIONS);
+    }
+
+    /**
+     * Publish reliable frames at a steady rate, wait until every fast session
+     * has all of them and return the p99 publish-to-delivery latency.
+     */
+    private long publishToFastSessions(String phase) throws InterruptedException {
+        latenciesNanos.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) {
+            LockSupport.parkNanos(start + TimeUnit.MICROSECONDS.toNanos(i * PUBLISH_INTERVAL_MICROS) - System.nanoTime());
+            WebSocketMessage message = new WebSocketMessage("SOAK", "seq-" + i + "-" + PADDING, null, phase);
+            publishedAt.set(i, System.nanoTime());
+            messagingTemplate.send(DESTINATION, payloadCodec.toMessage(message, DeliveryPolicy.RELIABLE));
+        }
+        long expected = (long) FRAMES * FAST_SESSIONS;
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (latenciesNanos.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(latenciesNanos).as("frames delivered to fast sessions in the " + phase + " phase").hasSize((int) expected);
+        List<Long> sorted = latenciesNanos.stream().sorted().toList();
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get(sorted.size() * 99 / 100));
+    }
+
+    private StompSession connectFast() throws Exception {
+        stompClient.setMessageConverter(new SimpleMessageConverter());
+        StompSession session = stompClient
+            .connectAsync("ws://localhost:" + port + "/ws", new StompSessionHandlerAdapter() { })
+            .get(10, TimeUnit.SECONDS);
+        session.subscribe(DESTINATION, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                Matcher sequence = SEQUENCE.matcher(new String((byte[]) payload, StandardCharsets.UTF_8));
+                if (sequence.find()) {
+                    latenciesNanos.add(System.nanoTime() - publishedAt.get(Integer.parseInt(sequence.group(1))));
+                }
+            }
+        });
+        return session;
+    }
+
+    /** Handshake, CONNECT and SUBSCRIBE over a plain socket, then never read again */
+    private Socket connectStalled() throws IOException {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream out = socket.getOutputStream();
+        String key = Base64.getEncoder().encodeToString(UUID.randomUUID().toString().substring(0, 16).getBytes(StandardCharsets.US_ASCII));
+        out.write(("GET /ws HTTP/1.1\r\nHost: localhost:" + port + "\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+            + "Sec-WebSocket-Key: " + key + "\r\nSec-WebSocket-Version: 13\r\nSec-WebSocket-Protocol: v12.stomp\r\n\r\n")
+            .getBytes(StandardCharsets.US_ASCII));
+        assertThat(readHeaders(socket.getInputStream())).startsWith("HTTP/1.1 101");
+        writeText(out, "CONNECT\naccept-version:1.2\nhost:localhost\nheart-beat:0,0\n\n\0");
+        writeText(out, "SUBSCRIBE\nid:0\ndestination:" + DESTINATION + "\n\n\0");
+        return socket;
+    }
+
+    private void awaitSessions(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (sessionRegistry.getSessionCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(sessionRegistry.getSessionCount()).isEqualTo(count);
+        Thread.sleep(200); // Let the inbound channel register the subscriptions
+    }
+
+    private static String readHeaders(InputStream in) throws IOException {
+        ByteArrayOutputStream headers = new ByteArrayOutputStream();
+        while (!headers.toString(StandardCharsets.US_ASCII).endsWith("\r\n\r\n")) {
+            int b = in.read();
+            if (b < 0) {
+                break;
+            }
+            headers.write(b);
+        }
+        return headers.toString(StandardCharsets.US_ASCII);
+    }
+
+    /** One masked client text frame; an all-zero mask leaves the payload as is */
+    private static void writeText(OutputStream out, String text) throws IOException {
+        byte[] payload = text.getBytes(StandardCharsets.UTF_8);
+        out.write(0x81);
+        out.write(0x80 | payload.length);
+        out.write(new byte[4]);
+        out.write(payload);
+        out.flush();
+    }
+
+    @TestConfiguration
+    static class SmallSocketBuffers {
+        /** Keep the kernel from absorbing megabytes for a client that does not read */
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> smallSendBuffer() {
+            return factory -> factory.addConnectorCustomizers(connector -> connector.setProperty("socket.txBufSize", "8192"));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.orchestrator.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orchestrator.dto.TaskAssignmentMessage;
+import com.orchestrator.dto.WebSocketMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketPayloadCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebSocketPayloadCodec codec = new WebSocketPayloadCodec(objectMapper);
+
+    private final WebSocketMessage message = new WebSocketMessage("task.assigned",
+        new TaskAssignmentMessage("T-1", "Ship it", null, 3, 7L, "Ada", "Assigned"), 7L, "2026-01-01T00:00");
+
+    @Test
+    void jsonKeepsTheFullFieldNames() throws Exception {
+        JsonNode json = objectMapper.readTree(codec.encode(message, PayloadFormat.JSON));
+
+        assertThat(json.get("type").asText()).isEqualTo("task.assigned");
+        assertThat(json.get("payload").get("taskName").asText()).isEqualTo("Ship it");
+        assertThat(json.get("payload").has("description")).isTrue();
+    }
+
+    @Test
+    void compactShortensNamesAndOmitsNulls() throws Exception {
+        byte[] compact = codec.encode(message, PayloadFormat.COMPACT);
+        JsonNode json = objectMapper.readTree(compact);
+
+        assertThat(json.get("t").asText()).isEqualTo("task.assigned");
+        assertThat(json.get("p").get("id").asText()).isEqualTo("T-1");
+        assertThat(json.get("p").get("en").asText()).isEqualTo("Ada");
+        assertThat(json.get("p").has("d")).isFalse();
+        assertThat(compact.length).isLessThan(codec.encode(message, PayloadFormat.JSON).length);
+    }
+
+    @Test
+    void compactVariantIsOnlyBuiltWhileASessionWantsIt() {
+        assertThat(frame().getHeaders()).doesNotContainKey(WebSocketPayloadCodec.COMPACT_PAYLOAD_HEADER);
+
+        codec.registerSession("s1", PayloadFormat.COMPACT);
+        codec.registerSession("s1", PayloadFormat.COMPACT); // A repeated CONNECT counts once
+        Message<byte[]> frame = frame();
+        assertThat(frame.getHeaders().get(WebSocketPayloadCodec.COMPACT_PAYLOAD_HEADER))
+            .isEqualTo(codec.encode(message, PayloadFormat.COMPACT));
+        assertThat(frame.getPayload()).isEqualTo(codec.encode(message, PayloadFormat.JSON));
+        assertThat(frame.getHeaders().get(DeliveryPolicy.HEADER)).isEqualTo(DeliveryPolicy.RELIABLE);
+
+        codec.removeSession("s1");
+        assertThat(frame().getHeaders()).doesNotContainKey(WebSocketPayloadCodec.COMPACT_PAYLOAD_HEADER);
+        assertThat(codec.formatOf("s1")).isEqualTo(PayloadFormat.JSON);
+    }
+
+    private Message<byte[]> frame() {
+        return codec.toMessage(message, DeliveryPolicy.RELIABLE);
+    }
+}
@@ -2,10 +2,15 @@ import React, { useState, useEffect, useRef } from 'react';
 import { Play, CheckCircle, Clock, XCircle, RefreshCw, LogOut, Users, Plus, AlertTriangle } from 'lucide-react';
 
 const API_BASE_URL = 'http://localhost:8080/api';
+const EMPLOYEE_PAGE_SIZE = 50;
 
 const AdminDashboard = ({ user, onLogout }) => {
   const [tasks, setTasks] = useState([]);
   const [employees, setEmployees] = useState([]);
+  const [employeePage, setEmployeePage] = useState(0);
+  const [employeesHasNext, setEmployeesHasNext] = useState(false);
+  // Read by the polling interval, which keeps the first render's closures
+  const employeePageRef = useRef(0);
   const [stats, setStats] = useState({ pending: 0, running: 0, completed: 0, failed: 0 });
   const [showCreateModal, setShowCreateModal] = useState(false);
   const [newTask, setNewTask] = useState({ name: '', description: '', priority: 3 });
@@ -30,32 +35,39 @@ const AdminDashboard = ({ user, onLogout }) => {
 
   const fetchTasks = async () => {
     try {
-      const response = await fetch(`${API_BASE_URL}/admin/tasks`, {
+      const response = await fetch(`${API_BASE_URL}/admin/tasks?fields=full&limit=200`, {
         headers: { 'User-Id': user.id }
       });
       if (response.ok) {
         const data = await response.json();
-        setTasks(data);
+        setTasks(data.items);
       }
     } catch (error) {
       console.error('Error fetching tasks:', error);
     }
   };
 
-  const fetchEmployees = async () => {
+  const fetchEmployees = async (page = employeePageRef.current) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/admin/employees`, {
+      const response = await fetch(`${API_BASE_URL}/admin/employees?page=${page}&size=${EMPLOYEE_PAGE_SIZE}`, {
         headers: { 'User-Id': user.id }
       });
-      if (response.ok) {
+      if (response.ok && page === employeePageRef.current) {
         const data = await response.json();
-        setEmployees(data);
+        setEmployees(data.items);
+        setEmployeesHasNext(data.hasNext);
       }
     } catch (error) {
       console.error('Error fetching employees:', error);
     }
   };
 
+  const showEmployeePage = (page) => {
+    employeePageRef.current = page;
+    setEmployeePage(page);
+    fetchEmployees(page);
+  };
+
   const fetchStatistics = async () => {
     try {
       const response = await fetch(`${API_BASE_URL}/admin/tasks/statistics`, {
@@ -207,10 +219,29 @@ const AdminDashboard = ({ user, onLogout }) => {
         <div className="grid grid-cols-2 gap-6 mb-6">
           {/* Employees */}
           <div className="bg-gray-800/50 backdrop-blur rounded-lg p-6 border border-gray-700">
-            <h2 className="text-xl font-bold mb-4 flex items-center gap-2">
-              <Users className="w-5 h-5 text-blue-400" />
-              Employees ({employees.length})
-            </h2>
+            <div className="flex items-center justify-between mb-4">
+              <h2 className="text-xl font-bold flex items-center gap-2">
+                <Users className="w-5 h-5 text-blue-400" />
+                Employees
+              </h2>
+              <div className="flex items-center gap-2 text-sm text-gray-400">
+                <button
+                  onClick={() => showEmployeePage(employeePage - 1)}
+                  disabled={employeePage === 0}
+                  className="px-2 py-1 rounded bg-gray-700 hover:bg-gray-600 disabled:opacity-40 disabled:cursor-not-allowed"
+                >
+                  Prev
+                </button>
+                <span>Page {employeePage + 1}</span>
+                <button
+                  onClick={() => showEmployeePage(employeePage + 1)}
+                  disabled={!employeesHasNext}
+                  className="px-2 py-1 rounded bg-gray-700 hover:bg-gray-600 disabled:opacity-40 disabled:cursor-not-allowed"
+                >
+                  Next
+                </button>
+              </div>
+            </div>
             <div className="space-y-3 max-h-96 overflow-y-auto">
               {employees.length === 0 ? (
                 <div className="text-center text-gray-500 py-4">No employees registered</div>
@@ -285,9 +316,9 @@ const AdminDashboard = ({ user, onLogout }) => {
                         <p className="text-sm text-gray-400">{task.description}</p>
                       </div>
                     </div>
-                    {task.assignedTo && (
+                    {task.assignedToId && (
                       <span className="text-xs text-blue-400 ml-2">
-                        Assigned to: {task.assignedTo.fullName || task.assignedTo.username}
+                        Assigned to: {task.assignedToName}
                       </span>
                     )}
                   </div>
@@ -1,5 +1,6 @@
 import React, { useState, useEffect, useRef } from 'react';
 import { CheckCircle, XCircle, Clock, AlertCircle, LogOut, Play, TrendingUp, Award, Wifi, WifiOff, MessageSquare } from 'lucide-react';
+import { connectStomp } from './stomp';
 
 const API_BASE_URL = 'http://localhost:8080/api';
 const WS_URL = 'ws://localhost:8080/ws';
@@ -31,7 +32,9 @@ const EmployeeDashboard = ({ user, onLogout }) => {
     return () => {
       clearInterval(interval);
       if (wsRef.current) {
-        wsRef.current.close();
+        const session = wsRef.current;
+        wsRef.current = null;
+        session.disconnect();
       }
     };
   }, []);
@@ -43,48 +46,39 @@ const EmployeeDashboard = ({ user, onLogout }) => {
   }, [currentTask]);
 
   const connectWebSocket = () => {
-    try {
-      const ws = new WebSocket(WS_URL);
-      
-      ws.onopen = () => {
+    // STOMP session identified like the REST calls, so the server counts this
+    // employee as present and may auto-assign them work
+    const session = connectStomp({
+      url: WS_URL,
+      connectHeaders: { 'User-Id': String(user.id) },
+      onConnect: () => {
         console.log('Employee WebSocket connected');
         setWsConnected(true);
         
-        // Subscribe to user-specific queue
-        const subscribeMessage = JSON.stringify({
-          action: 'subscribe',
-          userId: user.id,
-          topics: [`/user/${user.id}/queue/tasks`]
-        });
-        ws.send(subscribeMessage);
-      };
-
-      ws.onmessage = (event) => {
-        try {
-          const message = JSON.parse(event.data);
-          handleWebSocketMessage(message);
-        } catch (error) {
-          console.error('Error parsing WebSocket message:', error);
-        }
-      };
-
-      ws.onerror = (error) => {
-        console.error('WebSocket error:', error);
-        setWsConnected(false);
-      };
-
-      ws.onclose = () => {
+        // Assignments are announced on the per-employee topic; the user queue
+        // carries completion/failure notices
+        session.subscribe(`/topic/task.assigned.${user.id}`, parsed(task =>
+          handleWebSocketMessage({ type: 'TASK_ASSIGNED', payload: { taskName: task.name } })));
+        session.subscribe(`/user/${user.id}/queue/tasks`, parsed(handleWebSocketMessage));
+      },
+      onClose: () => {
         console.log('WebSocket disconnected');
         setWsConnected(false);
         
-        // Reconnect after 3 seconds
-        setTimeout(connectWebSocket, 3000);
-      };
+        // Reconnect after 3 seconds, unless the dashboard is gone
+        if (wsRef.current === session) {
+          setTimeout(connectWebSocket, 3000);
+        }
+      }
+    });
+    wsRef.current = session;
+  };
 
-      wsRef.current = ws;
+  const parsed = (handler) => (body) => {
+    try {
+      handler(JSON.parse(body));
     } catch (error) {
-      console.error('Failed to connect WebSocket:', error);
-      setWsConnected(false);
+      console.error('Error parsing WebSocket message:', error);
     }
   };
 
@@ -1,5 +1,6 @@
 import React, { useState, useEffect, useRef } from 'react';
 import { Play, AlertCircle, CheckCircle, Clock, XCircle, RefreshCw, Database, Activity } from 'lucide-react';
+import { connectStomp } from './stomp';
 
 const API_BASE_URL = 'http://localhost:8080/api';
 const WS_URL = 'ws://localhost:8080/ws';
@@ -14,14 +15,16 @@ const TaskOrchestrator = () => {
   const wsRef = useRef(null);
   const reconnectTimeoutRef = useRef(null);
 
-  // WebSocket connection with native WebSocket API
+  // STOMP session over the native WebSocket API
   useEffect(() => {
     connectWebSocket();
     fetchInitialData();
 
     return () => {
       if (wsRef.current) {
-        wsRef.current.close();
+        const session = wsRef.current;
+        wsRef.current = null;
+        session.disconnect();
       }
       if (reconnectTimeoutRef.current) {
         clearTimeout(reconnectTimeoutRef.current);
@@ -31,16 +34,14 @@ const TaskOrchestrator = () => {
 
   const connectWebSocket = () => {
     try {
-      const ws = new WebSocket(WS_URL + '/websocket');
-      
-      ws.onopen = () => {
-        console.log('WebSocket connected');
-        setConnected(true);
-        
-        // Subscribe to topics
-        ws.send(JSON.stringify({
-          type: 'SUBSCRIBE',
-          topics: [
+      const session = connectStomp({
+        url: WS_URL,
+        onConnect: () => {
+          console.log('WebSocket connected');
+          setConnected(true);
+          
+          // Subscribe to topics
+          [
             '/topic/task.created',
             '/topic/task.started',
             '/topic/task.progress',
@@ -50,36 +51,29 @@ const TaskOrchestrator = () => {
             '/topic/worker.updated',
             '/topic/worker.failed',
             '/topic/logs'
-          ]
-        }));
-      };
-
-      ws.onmessage = (event) => {
-        try {
-          const data = JSON.parse(event.data);
-          handleWebSocketMessage(data);
-        } catch (error) {
-          console.error('Error parsing WebSocket message:', error);
+          ].forEach(topic => session.subscribe(topic, (body) => {
+            try {
+              handleWebSocketMessage(JSON.parse(body));
+            } catch (error) {
+              console.error('Error parsing WebSocket message:', error);
+            }
+          }));
+        },
+        onClose: () => {
+          console.log('WebSocket disconnected');
+          setConnected(false);
+          
+          // Attempt to reconnect after 3 seconds
+          if (wsRef.current === session) {
+            reconnectTimeoutRef.current = setTimeout(() => {
+              console.log('Attempting to reconnect...');
+              connectWebSocket();
+            }, 3000);
+          }
         }
-      };
-
-      ws.onerror = (error) => {
-        console.error('WebSocket error:', error);
-        setConnected(false);
-      };
+      });
 
-      ws.onclose = () => {
-        console.log('WebSocket disconnected');
-        setConnected(false);
-        
-        // Attempt to reconnect after 3 seconds
-        reconnectTimeoutRef.current = setTimeout(() => {
-          console.log('Attempting to reconnect...');
-          connectWebSocket();
-        }, 3000);
-      };
-
-      wsRef.current = ws;
+      wsRef.current = session;
     } catch (error) {
       console.error('Failed to connect WebSocket:', error);
       setConnected(false);
@@ -113,6 +107,12 @@ const TaskOrchestrator = () => {
           addLog(data.payload);
         }
         break;
+      case 'LOG_BATCH':
+        // One frame per batch the log writer persisted, oldest first
+        if (Array.isArray(data.payload)) {
+          addLogs(data.payload);
+        }
+        break;
       default:
         console.log('Unknown message type:', data.type);
     }
@@ -220,6 +220,10 @@ const TaskOrchestrator = () => {
     setLogs(prev => [...prev.slice(-99), log]);
   };
 
+  const addLogs = (batch) => {
+    setLogs(prev => [...prev, ...batch].slice(-100));
+  };
+
   const createTask = async () => {
     try {
       const response = await fetch(`${API_BASE_URL}/tasks`, {
@@ -0,0 +1,110 @@
+// Minimal STOMP 1.2 over the browser WebSocket: CONNECT with extra headers,
+// SUBSCRIBE, MESSAGE dispatch and heartbeats. The server only counts an
+// employee as present while their session has a User-Id CONNECT header and
+// keeps sending frames, so the heartbeat matters as much as the header.
+
+const HEARTBEAT_MS = 10000;
+
+const parseFrame = (text) => {
+  const frame = text.replace(/^(\r?\n)+/, '');   // heartbeats arrive as bare EOLs
+  if (!frame) {
+    return null;
+  }
+  const headerEnd = frame.indexOf('\n\n');
+  const head = headerEnd >= 0 ? frame.slice(0, headerEnd) : frame;
+  const [command, ...lines] = head.split('\n').map(line => line.replace(/\r$/, ''));
+  const headers = {};
+  lines.forEach(line => {
+    const colon = line.indexOf(':');
+    const name = line.slice(0, colon);
+    if (colon > 0 && !(name in headers)) {   // the first occurrence wins
+      headers[name] = line.slice(colon + 1);
+    }
+  });
+  return { command, headers, body: headerEnd >= 0 ? frame.slice(headerEnd + 2) : '' };
+};
+
+/**
+ * Open a STOMP session. onConnect runs once CONNECTED arrives and is the
+ * place to subscribe; onClose runs when the socket closes for any reason.
+ */
+export const connectStomp = ({ url, connectHeaders = {}, onConnect, onClose }) => {
+  const ws = new WebSocket(url, ['v12.stomp']);
+  const subscriptions = new Map();
+  let nextSubscriptionId = 0;
+  let heartbeat = null;
+  let received = '';
+
+  const sendFrame = (command, headers = {}, body = '') => {
+    const lines = Object.entries(headers).map(([name, value]) => `${name}:${value}`);
+    ws.send(`${[command, ...lines].join('\n')}\n\n${body}\0`);
+  };
+
+  const handleFrame = ({ command, headers, body }) => {
+    switch (command) {
+      case 'CONNECTED': {
+        // heart-beat: sx,sy - the server wants a frame from us at least every sy ms
+        const [, serverWants] = (headers['heart-beat'] || '0,0').split(',').map(Number);
+        if (serverWants > 0) {
+          heartbeat = setInterval(() => ws.send('\n'), Math.max(HEARTBEAT_MS, serverWants));
+        }
+        onConnect?.();
+        break;
+      }
+      case 'MESSAGE': {
+        const callback = subscriptions.get(headers.subscription);
+        callback?.(body, headers);
+        break;
+      }
+      case 'ERROR':
+        console.error('STOMP error:', headers.message, body);
+        ws.close();
+        break;
+      default:
+        break;
+    }
+  };
+
+  ws.onopen = () => {
+    sendFrame('CONNECT', {
+      'accept-version': '1.2',
+      host: new URL(url).host,
+      'heart-beat': `${HEARTBEAT_MS},${HEARTBEAT_MS}`,
+      ...connectHeaders
+    });
+  };
+
+  ws.onmessage = (event) => {
+    received += event.data;
+    let end;
+    while ((end = received.indexOf('\0')) >= 0) {
+      const frame = parseFrame(received.slice(0, end));
+      received = received.slice(end + 1);
+      if (frame) {
+        handleFrame(frame);
+      }
+    }
+    if (!received.replace(/[\r\n]/g, '')) {
+      received = '';   // only heartbeats left
+    }
+  };
+
+  ws.onclose = () => {
+    clearInterval(heartbeat);
+    onClose?.();
+  };
+
+  return {
+    subscribe: (destination, callback) => {
+      const id = `sub-${nextSubscriptionId++}`;
+      subscriptions.set(id, callback);
+      sendFrame('SUBSCRIBE', { id, destination });
+    },
+    disconnect: () => {
+      if (ws.readyState === WebSocket.OPEN) {
+        sendFrame('DISCONNECT');
+      }
+      ws.close();
+    }
+  };
+};